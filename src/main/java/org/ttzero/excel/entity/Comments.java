@@ -17,17 +17,14 @@
 
 package org.ttzero.excel.entity;
 
-import org.dom4j.Document;
-import org.dom4j.DocumentException;
 import org.dom4j.Element;
-import org.dom4j.io.SAXReader;
 import org.ttzero.excel.entity.style.ColorIndex;
 import org.ttzero.excel.manager.TopNS;
 import org.ttzero.excel.entity.style.Font;
 import org.ttzero.excel.manager.Const;
+import org.ttzero.excel.reader.ExcelReadException;
 import org.ttzero.excel.util.ExtBufferedWriter;
 import org.ttzero.excel.util.FileUtil;
-import org.ttzero.excel.util.SAXReaderUtil;
 import org.ttzero.excel.util.StringUtil;
 
 import java.awt.Color;
@@ -38,7 +35,6 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -251,51 +247,17 @@ public class Comments implements Storable, Closeable {
      * @param vmlEntry 位置信息
      * @return key: 行列值 {@code col & 0x7FFF | ((long) row) << 16}, value: 批注
      * @throws IOException if I/O error occur.
+     * @see CommentsReader
      */
     public static Map<Long, Comment> parseComments(InputStream commentEntry, InputStream vmlEntry) throws IOException {
-        // FIXME 目前使用dom4j解析，如果批注较多时耗时和内存将增大增
         if (commentEntry == null) return Collections.emptyMap();
-        SAXReader reader = SAXReaderUtil.createDefault();
-        List<Element> comments = null;
-        try {
-            Document document = reader.read(commentEntry);
-            Element commentList = document.getRootElement().element("commentList");
-            if (commentList != null) comments = commentList.elements();
-        } catch (DocumentException e) {
+        Map<Long, Comment> commentMap;
+        try (CommentsReader reader = new CommentsReader(commentEntry, vmlEntry)) {
+            commentMap = reader.toMap();
+        } catch (ExcelReadException e) {
             throw new IOException(e);
         }
-
-        if (comments == null || comments.isEmpty()) return Collections.emptyMap();
-
-        Map<Long, Comment> commentMap = new HashMap<>(comments.size());
-        Element text;
-        Comment c;
-        for (Element e : comments) {
-            if (!"comment".equals(e.getName()) || (text = e.element("text")) == null || (c = parseComment(text)) == null) continue;
-            commentMap.put(coordinateToLong(e.attributeValue("ref")), c);
-        }
-
-        if (vmlEntry != null) {
-            List<Element> vmls = null;
-            try {
-                Document vmlDoc = reader.read(vmlEntry);
-                vmls = vmlDoc.getRootElement().elements("shape");
-            } catch (DocumentException e) {
-                // Ignore
-            }
-            if (vmls != null && !vmls.isEmpty()) {
-                for (Element vml : vmls) {
-                    Element clientData = vml.element("ClientData");
-                    if (clientData != null) {
-                        String row = clientData.elementText("Row"), col = clientData.elementText("Column");
-                        long k = (Long.parseLong(col) + 1L) & 0x7FFF | (Long.parseLong(row) + 1L) << 16;
-                        c = commentMap.get(k);
-                        if (c != null) c.style = vml.attributeValue("style");
-                    }
-                }
-            }
-        }
-        return commentMap;
+        return !commentMap.isEmpty() ? commentMap : Collections.emptyMap();
     }
 
     static Comment parseComment(Element text) {
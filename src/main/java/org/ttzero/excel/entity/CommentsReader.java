@@ -0,0 +1,267 @@
+/*
+ * Copyright (c) 2017-2026, guanquan.wang@hotmail.com All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ttzero.excel.entity;
+
+import org.dom4j.DocumentHelper;
+import org.dom4j.Element;
+import org.ttzero.excel.reader.Dimension;
+import org.ttzero.excel.reader.ExcelReadException;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.AbstractMap;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+import static javax.xml.stream.XMLStreamConstants.CDATA;
+import static javax.xml.stream.XMLStreamConstants.CHARACTERS;
+import static javax.xml.stream.XMLStreamConstants.END_DOCUMENT;
+import static javax.xml.stream.XMLStreamConstants.END_ELEMENT;
+import static javax.xml.stream.XMLStreamConstants.SPACE;
+import static javax.xml.stream.XMLStreamConstants.START_ELEMENT;
+import static org.ttzero.excel.reader.ExcelReader.coordinateToLong;
+
+/**
+ * 批注流式解析器，逐个读取批注而不是将整个批注文件加载到内存，
+ * 适用于包含大量批注的工作表。
+ *
+ * <p>迭代器返回的Key为行列值 {@code col & 0x7FFF | ((long) row) << 16}，
+ * 可以通过{@link #range(Dimension)}限定只返回指定范围内的批注，范围外的批注不会被解析。
+ * 迭代完成后自动关闭，提前结束迭代时需要调用{@link #close()}关闭</p>
+ *
+ * <p>vml文件中的批注位置信息与批注同步读取，两者顺序一致时只需要常量内存，
+ * 不一致时未匹配的位置信息会被暂存</p>
+ *
+ * @author guanquan.wang at 2026-10-17 23:40
+ */
+public class CommentsReader implements Iterator<Map.Entry<Long, Comment>>, Closeable {
+    private static final XMLInputFactory FACTORY;
+    static {
+        FACTORY = XMLInputFactory.newInstance();
+        // Prevent XXE
+        FACTORY.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        FACTORY.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        FACTORY.setProperty(XMLInputFactory.IS_COALESCING, true);
+    }
+    private final InputStream commentEntry, vmlEntry;
+    private XMLStreamReader comments, vml;
+    /**
+     * The unmatched vml styles
+     */
+    private Map<Long, String> pending;
+    private Dimension range;
+    private Map.Entry<Long, Comment> next;
+
+    /**
+     * 创建批注解析器
+     *
+     * @param commentEntry 批注信息
+     * @param vmlEntry     位置信息，可以为{@code null}
+     * @throws IOException 解析异常
+     */
+    public CommentsReader(InputStream commentEntry, InputStream vmlEntry) throws IOException {
+        this.commentEntry = commentEntry;
+        this.vmlEntry = vmlEntry;
+        try {
+            comments = FACTORY.createXMLStreamReader(commentEntry);
+        } catch (XMLStreamException e) {
+            close();
+            throw new IOException(e);
+        }
+        if (vmlEntry != null) {
+            try {
+                vml = FACTORY.createXMLStreamReader(vmlEntry);
+            } catch (XMLStreamException e) {
+                // Ignore
+            }
+        }
+    }
+
+    /**
+     * 限定批注范围，只返回范围内的批注
+     *
+     * @param range 批注范围
+     * @return 当前解析器
+     */
+    public CommentsReader range(Dimension range) {
+        this.range = range;
+        return this;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next != null) return true;
+        if (comments == null) return false;
+        try {
+            next = nextComment();
+        } catch (XMLStreamException e) {
+            close();
+            throw new ExcelReadException(e);
+        }
+        if (next == null) close();
+        return next != null;
+    }
+
+    @Override
+    public Map.Entry<Long, Comment> next() {
+        if (!hasNext()) throw new NoSuchElementException();
+        Map.Entry<Long, Comment> e = next;
+        next = null;
+        return e;
+    }
+
+    /**
+     * 读取剩余批注
+     *
+     * @return key: 行列值 {@code col & 0x7FFF | ((long) row) << 16}, value: 批注
+     */
+    public Map<Long, Comment> toMap() {
+        Map<Long, Comment> commentMap = new HashMap<>();
+        while (hasNext()) {
+            Map.Entry<Long, Comment> e = next();
+            commentMap.put(e.getKey(), e.getValue());
+        }
+        return commentMap;
+    }
+
+    @Override
+    public void close() {
+        if (comments != null) {
+            try { comments.close(); } catch (XMLStreamException e) { /* Ignore */ }
+            comments = null;
+        }
+        closeVml();
+        try { commentEntry.close(); } catch (IOException e) { /* Ignore */ }
+        pending = null;
+    }
+
+    private Map.Entry<Long, Comment> nextComment() throws XMLStreamException {
+        while (comments.hasNext()) {
+            if (comments.next() != START_ELEMENT || !"comment".equals(comments.getLocalName())) continue;
+            String ref = comments.getAttributeValue(null, "ref");
+            long k = ref != null ? coordinateToLong(ref) : 0L;
+            if (ref == null || !inRange(k)) {
+                skipElement(comments);
+                continue;
+            }
+            Element text = readElement(comments).element("text");
+            Comment c = text != null ? Comments.parseComment(text) : null;
+            if (c == null) continue;
+            c.style = vmlStyle(k);
+            return new AbstractMap.SimpleImmutableEntry<>(k, c);
+        }
+        return null;
+    }
+
+    private boolean inRange(long k) {
+        return range == null || range.checkRange((int) (k >>> 16), (int) (k & 0x7FFF));
+    }
+
+    /**
+     * Returns the shape style of the specified cell, the shapes are read in step with
+     * the comments and the ones out of order are kept in the pending map.
+     */
+    private String vmlStyle(long k) {
+        String style = pending != null ? pending.remove(k) : null;
+        if (style != null || vml == null) return style;
+        try {
+            while (vml.hasNext()) {
+                if (vml.next() != START_ELEMENT || !"shape".equals(vml.getLocalName())) continue;
+                style = vml.getAttributeValue(null, "style");
+                String row = null, col = null;
+                for (int depth = 1, event; depth > 0; ) {
+                    if ((event = vml.next()) == END_ELEMENT) depth--;
+                    else if (event == START_ELEMENT) {
+                        String name = vml.getLocalName();
+                        if ("Row".equals(name)) row = vml.getElementText().trim();
+                        else if ("Column".equals(name)) col = vml.getElementText().trim();
+                        else depth++;
+                    }
+                }
+                if (row == null || col == null || row.isEmpty() || col.isEmpty()) continue;
+                long key = (Long.parseLong(col) + 1L) & 0x7FFF | (Long.parseLong(row) + 1L) << 16;
+                if (key == k) return style;
+                if (style != null && inRange(key)) {
+                    if (pending == null) pending = new HashMap<>();
+                    pending.put(key, style);
+                }
+            }
+        } catch (XMLStreamException | NumberFormatException e) {
+            // Ignore, the vml file is not well-formed
+        }
+        closeVml();
+        return null;
+    }
+
+    private void closeVml() {
+        if (vml != null) {
+            try { vml.close(); } catch (XMLStreamException e) { /* Ignore */ }
+            vml = null;
+        }
+        if (vmlEntry != null) {
+            try { vmlEntry.close(); } catch (IOException e) { /* Ignore */ }
+        }
+    }
+
+    // Build a dom4j element of the current element and move the cursor to it's end tag
+    private static Element readElement(XMLStreamReader reader) throws XMLStreamException {
+        Element root = newElement(reader), e = root;
+        for (int depth = 1; depth > 0; ) {
+            switch (reader.next()) {
+                case START_ELEMENT:
+                    Element child = newElement(reader);
+                    e.add(child);
+                    e = child;
+                    depth++;
+                    break;
+                case END_ELEMENT:
+                    if (--depth > 0) e = e.getParent();
+                    break;
+                case CHARACTERS:
+                case CDATA:
+                case SPACE:
+                    e.addText(reader.getText());
+                    break;
+                case END_DOCUMENT:
+                    throw new XMLStreamException("Unexpected end of document");
+                default: // Ignore comments and processing instructions
+            }
+        }
+        return root;
+    }
+
+    private static Element newElement(XMLStreamReader reader) {
+        Element e = DocumentHelper.createElement(reader.getLocalName());
+        for (int i = 0, n = reader.getAttributeCount(); i < n; i++)
+            e.addAttribute(reader.getAttributeLocalName(i), reader.getAttributeValue(i));
+        return e;
+    }
+
+    private static void skipElement(XMLStreamReader reader) throws XMLStreamException {
+        for (int depth = 1, event; depth > 0; ) {
+            if ((event = reader.next()) == START_ELEMENT) depth++;
+            else if (event == END_ELEMENT) depth--;
+            else if (event == END_DOCUMENT) throw new XMLStreamException("Unexpected end of document");
+        }
+    }
+}
@@ -746,7 +746,7 @@ public class XMLWorksheetWriter implements IWorksheetWriter {
                 if (autoSize) s = Double.toString(cell.doubleVal);
                 break;
             case DECIMAL:
-                bw.write(s = cell.decimal.toString());
+                bw.write(s = cell.getDecimal().toString());
                 break;
         }
         bw.write("</v></c>");
@@ -545,6 +545,10 @@ public class Border implements Cloneable {
     }
 
     static Border parseBorderTag(Element tag) {
+        return parseBorderTag(tag, null, ColorIndex.themeColors);
+    }
+
+    static Border parseBorderTag(Element tag, Color[] indexedColors, Color[] themeColors) {
         List<Element> sub = tag.elements();
         // Diagonal attr
         String diagonalDown = getAttr(tag, "diagonalDown");
@@ -559,7 +563,7 @@ public class Border implements Cloneable {
             if (i < 0) continue;
             BorderStyle style = BorderStyle.getByName(getAttr(e, "style"));
             if (style == null) style = BorderStyle.NONE;
-            Color color = Styles.parseColor(e.element("color"));
+            Color color = Styles.parseColor(e.element("color"), indexedColors, themeColors);
             if (i < 4) border.setBorder(i, style, color);
             else if ((padding & 1) == 1) border.setBorder(4, style, color);
             else if ((padding & 2) == 2) border.setBorder(5, style, color);
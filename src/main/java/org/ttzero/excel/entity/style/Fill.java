@@ -229,6 +229,10 @@ public class Fill implements Cloneable {
     }
 
     static Fill parseFillTag(Element tag) {
+        return parseFillTag(tag, null, ColorIndex.themeColors);
+    }
+
+    static Fill parseFillTag(Element tag, Color[] indexedColors, Color[] themeColors) {
         Fill fill = new Fill();
         // 单色背景
         Element e = tag.element("patternFill");
@@ -245,11 +249,11 @@ public class Fill implements Cloneable {
             } else fill.patternType = PatternType.none;
             Element fgColor = e.element("fgColor");
             if (fgColor != null) {
-                fill.fgColor = Styles.parseColor(fgColor);
+                fill.fgColor = Styles.parseColor(fgColor, indexedColors, themeColors);
             }
             Element bgColor = e.element("bgColor");
             if (bgColor != null) {
-                fill.bgColor = Styles.parseColor(bgColor);
+                fill.bgColor = Styles.parseColor(bgColor, indexedColors, themeColors);
             }
         }
         // FIXME 双色背景目前仅简单支持（取双色中的起始色）
@@ -257,7 +261,7 @@ public class Fill implements Cloneable {
             List<Element> sub = e.elements("stop");
             if (sub != null && !sub.isEmpty()) {
                 Element sub0 = sub.get(0).element("color");
-                fill.fgColor = Styles.parseColor(sub0);
+                fill.fgColor = Styles.parseColor(sub0, indexedColors, themeColors);
                 fill.patternType = PatternType.solid;
             }
         }
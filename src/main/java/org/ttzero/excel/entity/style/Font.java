@@ -782,12 +782,24 @@ public class Font implements Cloneable {
      * @return 字体
      */
     public static Font parseFontTag(Element tag) {
+        return parseFontTag(tag, null, ColorIndex.themeColors);
+    }
+
+    /**
+     * 解析xml内容创建字体
+     *
+     * @param tag dom树font节点
+     * @param indexedColors 特殊indexed颜色（大部分情况下为null）
+     * @param themeColors 主题颜色
+     * @return 字体
+     */
+    static Font parseFontTag(Element tag, Color[] indexedColors, Color[] themeColors) {
         List<Element> sub = tag.elements();
         Font font = new Font();
         for (Element e : sub) {
             switch (e.getName()) {
                 case "sz"     : font.size = round10(Double.parseDouble(getAttr(e, "val"))); break;
-                case "color"  : font.color = Styles.parseColor(e);                          break;
+                case "color"  : font.color = Styles.parseColor(e, indexedColors, themeColors); break;
                 case "name"   : font.name = getAttr(e, "val");                              break;
                 case "charset": font.charset = Integer.parseInt(getAttr(e, "val"));         break;
                 case "scheme" : font.setScheme(getAttr(e, "val"));                          break;
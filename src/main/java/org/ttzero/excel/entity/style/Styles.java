@@ -26,8 +26,6 @@ import org.dom4j.Document;
 import org.dom4j.DocumentException;
 import org.dom4j.DocumentFactory;
 import org.dom4j.Element;
-import org.dom4j.io.SAXReader;
-import org.ttzero.excel.util.SAXReaderUtil;
 import org.ttzero.excel.util.StringUtil;
 
 import java.awt.Color;
@@ -38,12 +36,13 @@ import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.ttzero.excel.util.StringUtil.isEmpty;
@@ -95,9 +94,10 @@ public class Styles implements Storable {
 
     /**
      * Cache the data/time format style index.
-     * It's use for fast test the cell value is a data or time value
+     * It's use for fast test the cell value is a data or time value,
+     * the cache is shared by all sheets so it must be thread-safe
      */
-    private Set<Integer> dateFmtCache;
+    private final Set<Integer> dateFmtCache = ConcurrentHashMap.newKeySet();
 
     private Styles() {
         map = new HashMap<>();
@@ -293,106 +293,106 @@ public class Styles implements Storable {
     /**
      * Load the style file from disk
      *
+     * <p>The styles.xml is scanned in one pass without building a DOM tree, the cell xfs are
+     * packed into {@code int} values and the fonts, fills and borders are kept as raw xml
+     * fragments, they are decoded only when a style is inspected.</p>
+     *
      * @param is the style {@code InputStream}
      * @return the {@link Styles} Object
      */
     public static Styles load(InputStream is) {
-        // load styles.xml
-        SAXReader reader = SAXReaderUtil.createDefault();
-        Document document;
         try {
-            document = reader.read(is);
-        } catch (DocumentException e) {
+            return load(StylesScanner.readAll(is));
+        } catch (IOException | DocumentException | RuntimeException e) {
             LOGGER.warn("Read the style failed and ignore the style to continue.", e);
             Styles self = forReader();
             // Add a default font
             self.addFont(new Font("Arial", 11, Color.black));
             return self;
         }
+    }
 
-        Styles self = new Styles();
-        Element root = document.getRootElement();
-
-        // Parse Number format
-        self.numFmts = NumFmt.domToNumFmt(root);
-
-        // Indexed Colors（部分Excel的indexed颜色与标准有所不同，这部分颜色会定义在<colors>标签下）
-        Element colors = root.element("colors");
-        if (colors != null) colors = colors.element("indexedColors");
-        if (colors != null && colors.nodeCount() > 0) {
-            List<Element> sub = colors.elements();
-            Color[] indexedColors = new Color[sub.size()];
-            self.indexedColors = indexedColors;
-            int i = 0;
-            for (Element e : sub) indexedColors[i++] = parseColor(e);
-
-            // Parse Fonts
-            self.fonts = Font.domToFont(root, indexedColors);
-
-            // Parse Fills
-            self.fills = Fill.domToFill(root, indexedColors);
-
-            // Parse Borders
-            self.borders = Border.domToBorder(root, indexedColors);
-        } else {
-            // Parse Fonts
-            self.fonts = Font.domToFont(root);
-
-            // Parse Fills
-            self.fills = Fill.domToFill(root);
-
-            // Parse Borders
-            self.borders = Border.domToBorder(root);
-        }
+    // Section names of styleSheet
+    private static final String[] SECTIONS = { "numFmts", "fonts", "fills", "borders", "cellXfs", "colors" };
 
-        // Cell xf
-        Element cellXfs = root.element("cellXfs");
-        List<Element> sub = cellXfs.elements();
-        int i = 0;
-        for (Element e : sub) {
-            int style = 0;
-            // NumFmt
-            String numFmtId = getAttr(e, "numFmtId"); // applyNumberFormat = getAttr(e, "applyNumberFormat");
-            if (StringUtil.isNotEmpty(numFmtId) && !"0".equals(numFmtId)) {
-                style |= Integer.parseInt(numFmtId) << INDEX_NUMBER_FORMAT;
-            }
-            // Font
-            String fontId = getAttr(e, "fontId"); // applyFont = getAttr(e, "applyFont");
-            if (StringUtil.isNotEmpty(fontId) && !"0".equals(fontId)) {
-                style |= Integer.parseInt(fontId) << INDEX_FONT;
-            }
-            // Fill
-            String fillId = getAttr(e, "fillId"); // applyFill = getAttr(e, "applyFill");
-            if (StringUtil.isNotEmpty(fillId) && !"0".equals(fillId)) {
-                style |= Integer.parseInt(fillId) << INDEX_FILL;
-            }
-            // Border
-            String borderId = getAttr(e, "borderId"); // applyBorder = getAttr(e, "applyBorder");
-            if (StringUtil.isNotEmpty(borderId) && !"0".equals(borderId)) {
-                style |= Integer.parseInt(borderId) << INDEX_BORDER;
+    private static Styles load(byte[] bytes) throws DocumentException {
+        Styles self = new Styles();
+        StylesScanner scanner = new StylesScanner(bytes);
+        List<NumFmt> numFmts = new ArrayList<>();
+        List<Color> indexedColors = new ArrayList<>();
+        // Fonts, fills and borders
+        @SuppressWarnings("unchecked")
+        StylesScanner.LazyList<Object>[] lists = (StylesScanner.LazyList<Object>[]) new StylesScanner.LazyList<?>[3];
+        // <colors> follows the fonts in styles.xml so the decoders read it later, the theme colors are global so take a copy
+        Color[][] indexed = new Color[1][];
+        Color[] themeColors = ColorIndex.themeColors.clone();
+        lists[0] = new StylesScanner.LazyList<>(e -> Font.parseFontTag(e, indexed[0], themeColors));
+        lists[1] = new StylesScanner.LazyList<>(e -> Fill.parseFillTag(e, indexed[0], themeColors));
+        lists[2] = new StylesScanner.LazyList<>(e -> Border.parseBorderTag(e, indexed[0], themeColors));
+        int depth = 0, section = -1, fragment = -1, style = 0, i = 0;
+        boolean xf = false;
+        String sub = null;
+        while (scanner.next()) {
+            if (scanner.endTag) {
+                if (--depth == 2) {
+                    if (section >= 1 && section <= 3 && fragment >= 0) lists[section - 1].addRange(fragment, scanner.tagEnd);
+                    else if (section == 4 && xf) i = self.addXf(style, i);
+                    fragment = -1;
+                    xf = false;
+                } else if (depth == 1) section = -1;
+                continue;
             }
-            // Alignment
-            Element alignment = e.element("alignment");
-            if (alignment != null) {
-                String horizontal = getAttr(alignment, "horizontal");
-                int index;
-                if (StringUtil.isNotEmpty(horizontal) && (index = StringUtil.indexOf(Horizontals._names, horizontal)) >= 0) {
-                    style |= index << INDEX_HORIZONTAL;
+            if (depth == 0 && !"styleSheet".equals(scanner.name))
+                throw new DocumentException("Unknown root element <" + scanner.name + ">");
+            if (depth == 1) section = StringUtil.indexOf(SECTIONS, scanner.name);
+            else if (depth == 2) {
+                switch (section) {
+                    case 0:
+                        if ("numFmt".equals(scanner.name))
+                            numFmts.add(new NumFmt(Integer.parseInt(scanner.attr("numFmtId")), scanner.attr("formatCode")));
+                        break;
+                    case 1: case 2: case 3:
+                        if (scanner.emptyTag) lists[section - 1].addRange(scanner.tagStart, scanner.tagEnd);
+                        else fragment = scanner.tagStart;
+                        break;
+                    case 4:
+                        if ("xf".equals(scanner.name)) {
+                            style = xfStyle(scanner);
+                            if (scanner.emptyTag) i = self.addXf(style, i);
+                            else xf = true;
+                        }
+                        break;
+                    case 5: sub = scanner.name; break;
                 }
-                String vertical = getAttr(alignment, "vertical");
-                if (StringUtil.isNotEmpty(vertical) && (index = StringUtil.indexOf(Verticals._names, vertical)) >= 0) {
-                    style |= index << INDEX_VERTICAL;
-                } else style |= Verticals.BOTTOM;
-                String wrapText = getAttr(alignment, "wrapText");
-                style |= ("1".equals(wrapText) || "true".equalsIgnoreCase(wrapText) ? 1 : 0) << INDEX_WRAP_TEXT;
-            }
-            self.map.put(style, i);
-            if (i >= self.styleIndex.length) {
-                self.styleIndex = Arrays.copyOf(self.styleIndex, self.styleIndex.length << 1);
+            } else if (depth == 3) {
+                // Alignment
+                if (xf && "alignment".equals(scanner.name)) {
+                    String horizontal = scanner.attr("horizontal");
+                    int index;
+                    if (StringUtil.isNotEmpty(horizontal) && (index = StringUtil.indexOf(Horizontals._names, horizontal)) >= 0) {
+                        style |= index << INDEX_HORIZONTAL;
+                    }
+                    String vertical = scanner.attr("vertical");
+                    if (StringUtil.isNotEmpty(vertical) && (index = StringUtil.indexOf(Verticals._names, vertical)) >= 0) {
+                        style |= index << INDEX_VERTICAL;
+                    } else style |= Verticals.BOTTOM;
+                    String wrapText = scanner.attr("wrapText");
+                    style |= ("1".equals(wrapText) || "true".equalsIgnoreCase(wrapText) ? 1 : 0) << INDEX_WRAP_TEXT;
+                }
+                // Indexed Colors（部分Excel的indexed颜色与标准有所不同，这部分颜色会定义在<colors>标签下）
+                else if (section == 5 && "indexedColors".equals(sub)) indexedColors.add(parseColor(scanner.toElement()));
             }
-            self.styleIndex[i] = style;
-            i++;
+            if (!scanner.emptyTag) depth++;
         }
+        if (depth > 0) throw new DocumentException("Unexpected end of styles");
+
+        // Sort by id
+        numFmts.sort(Comparator.comparingInt(NumFmt::getId));
+        self.numFmts = numFmts;
+        if (!indexedColors.isEmpty()) self.indexedColors = indexed[0] = indexedColors.toArray(new Color[0]);
+        self.fonts = cast(lists[0].seal(bytes));
+        self.fills = cast(lists[1].seal(bytes));
+        self.borders = cast(lists[2].seal(bytes));
         self.counter.set(i);
         // Test number format
         for (Integer styleIndex : self.map.values()) {
@@ -402,6 +402,47 @@ public class Styles implements Storable {
         return self;
     }
 
+    // Pack the numFmt, font, fill and border of xf
+    private static int xfStyle(StylesScanner scanner) {
+        int style = 0;
+        // NumFmt
+        String numFmtId = scanner.attr("numFmtId");
+        if (StringUtil.isNotEmpty(numFmtId) && !"0".equals(numFmtId)) {
+            style |= Integer.parseInt(numFmtId) << INDEX_NUMBER_FORMAT;
+        }
+        // Font
+        String fontId = scanner.attr("fontId");
+        if (StringUtil.isNotEmpty(fontId) && !"0".equals(fontId)) {
+            style |= Integer.parseInt(fontId) << INDEX_FONT;
+        }
+        // Fill
+        String fillId = scanner.attr("fillId");
+        if (StringUtil.isNotEmpty(fillId) && !"0".equals(fillId)) {
+            style |= Integer.parseInt(fillId) << INDEX_FILL;
+        }
+        // Border
+        String borderId = scanner.attr("borderId");
+        if (StringUtil.isNotEmpty(borderId) && !"0".equals(borderId)) {
+            style |= Integer.parseInt(borderId) << INDEX_BORDER;
+        }
+        return style;
+    }
+
+    // Append a cell xf and returns the next index
+    private int addXf(int style, int i) {
+        map.put(style, i);
+        if (i >= styleIndex.length) {
+            styleIndex = Arrays.copyOf(styleIndex, styleIndex.length << 1);
+        }
+        styleIndex[i] = style;
+        return i + 1;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> List<T> cast(List<?> list) {
+        return (List<T>) list;
+    }
+
     /**
      * 添加“格式化”，对格式化串去重处理
      *
@@ -932,6 +973,18 @@ public class Styles implements Storable {
      * @return awt.Color or null
      */
     public static Color parseColor(Element element) {
+        return parseColor(element, null, ColorIndex.themeColors);
+    }
+
+    /**
+     * Parse color tag with the specified indexed and theme colors
+     *
+     * @param element       color tag
+     * @param indexedColors the custom indexed colors, may be null
+     * @param themeColors   the theme colors
+     * @return awt.Color or null
+     */
+    static Color parseColor(Element element, Color[] indexedColors, Color[] themeColors) {
         if (element == null) return null;
         String rgb = getAttr(element, "rgb"), indexed = getAttr(element, "indexed")
             , auto = getAttr(element, "auto"), theme = getAttr(element, "theme");
@@ -944,7 +997,8 @@ public class Styles implements Storable {
         // References a color in indexedColors.
         else if (StringUtil.isNotEmpty(indexed)) {
             // if indexed greater than 64 means auto.
-            c = new BuildInColor(Integer.parseInt(indexed));
+            int i = Integer.parseInt(indexed);
+            c = indexedColors != null && i >= 0 && i < indexedColors.length ? indexedColors[i] : new BuildInColor(i);
         }
         // A boolean value indicating the color is automatic and system color dependent.
         else if ("1".equals(auto) || "true".equalsIgnoreCase(auto)) {
@@ -960,7 +1014,7 @@ public class Styles implements Storable {
                 LOGGER.warn("Unknown theme color index {}", t);
                 t = 0;
             }
-            Color themeColor = ColorIndex.themeColors[t];
+            Color themeColor = themeColors[t];
             String tint = getAttr(element, "tint");
             c = HlsColor.calculateColor(themeColor, tint);
         }
@@ -975,7 +1029,7 @@ public class Styles implements Storable {
      */
     public boolean isDate(int styleIndex) {
         // Test from cache
-        if (dateFmtCache != null && dateFmtCache.contains(styleIndex)) return true;
+        if (dateFmtCache.contains(styleIndex)) return true;
 
         if (styleIndex > counter.get()) return false;
         int style = this.styleIndex[styleIndex];
@@ -996,10 +1050,7 @@ public class Styles implements Storable {
 
         // Put into data/time format cache
         // Ignore the style code, Uniform use of 'yyyy-mm-dd hh:mm:ss' format output
-        if (isDate) {
-            if (dateFmtCache == null) dateFmtCache = new HashSet<>();
-            dateFmtCache.add(styleIndex);
-        }
+        if (isDate) dateFmtCache.add(styleIndex);
         return isDate;
     }
 
@@ -1138,7 +1189,6 @@ public class Styles implements Storable {
      * @param xf the XFRecord id
      */
     public void addDateFmtCache(int xf) {
-        if (dateFmtCache == null) dateFmtCache = new HashSet<>();
         dateFmtCache.add(xf);
     }
 
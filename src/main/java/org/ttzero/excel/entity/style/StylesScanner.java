@@ -0,0 +1,342 @@
+/*
+ * Copyright (c) 2017-2026, guanquan.wang@hotmail.com All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ttzero.excel.entity.style;
+
+import org.dom4j.DocumentException;
+import org.dom4j.DocumentHelper;
+import org.dom4j.Element;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * A minimal pull scanner over the raw bytes of styles.xml, it returns the tags one
+ * by one with the local name and the attributes, the text content is ignored.
+ * The markup is ASCII so the bytes are scanned directly and only the attribute
+ * values are decoded as UTF-8.
+ *
+ * @author guanquan.wang at 2026-10-17 22:10
+ */
+final class StylesScanner {
+    private final byte[] b;
+    private final int limit;
+    private int p;
+    /**
+     * The current tag
+     */
+    String name;
+    boolean endTag, emptyTag;
+    int tagStart, tagEnd;
+    /**
+     * The attributes of current tag, the name and value are stored alternately
+     */
+    final List<String> attrs = new ArrayList<>();
+
+    StylesScanner(byte[] b) {
+        this(b, 0, b.length);
+    }
+
+    StylesScanner(byte[] b, int from, int to) {
+        this.b = b;
+        this.p = from;
+        this.limit = to;
+    }
+
+    static byte[] readAll(InputStream is) throws IOException {
+        ByteArrayOutputStream bos = new ByteArrayOutputStream(Math.max(is.available(), 1 << 12));
+        byte[] buf = new byte[1 << 13];
+        for (int n; (n = is.read(buf)) > 0; ) bos.write(buf, 0, n);
+        return bos.toByteArray();
+    }
+
+    /**
+     * Move to the next tag
+     *
+     * @return false if end of data
+     * @throws DocumentException if the markup is malformed
+     */
+    boolean next() throws DocumentException {
+        for (; ; ) {
+            int i = indexOf('<', p);
+            if (i < 0 || i + 1 >= limit) return false;
+            byte c = b[i + 1];
+            // Skip declaration, comment and CDATA
+            if (c == '?') { p = skip(i, "?>"); continue; }
+            if (c == '!') {
+                p = startsWith(i, "<!--") ? skip(i, "-->") : startsWith(i, "<![CDATA[") ? skip(i, "]]>") : skip(i, ">");
+                continue;
+            }
+            tagStart = i;
+            endTag = c == '/';
+            int j = endTag ? i + 2 : i + 1, s = j;
+            for (; j < limit && !isBlank(b[j]) && b[j] != '/' && b[j] != '>'; j++) ;
+            name = localName(s, j);
+            attrs.clear();
+            for (; ; ) {
+                for (; j < limit && isBlank(b[j]); j++) ;
+                if (j >= limit) throw new DocumentException("Unexpected end of tag <" + name);
+                if (b[j] == '>') { emptyTag = false; j++; break; }
+                if (b[j] == '/' && j + 1 < limit && b[j + 1] == '>') { emptyTag = true; j += 2; break; }
+                // Attribute
+                s = j;
+                for (; j < limit && b[j] != '=' && !isBlank(b[j]); j++) ;
+                String k = localName(s, j);
+                for (; j < limit && (isBlank(b[j]) || b[j] == '='); j++) ;
+                if (j >= limit || b[j] != '"' && b[j] != '\'') throw new DocumentException("Malformed attribute " + k + " of <" + name);
+                byte q = b[j];
+                s = ++j;
+                for (; j < limit && b[j] != q; j++) ;
+                if (j >= limit) throw new DocumentException("Unexpected end of attribute " + k + " of <" + name);
+                attrs.add(k);
+                attrs.add(unescape(new String(b, s, j - s, UTF_8)));
+                j++;
+            }
+            p = tagEnd = j;
+            return true;
+        }
+    }
+
+    /**
+     * Returns the attribute value of current tag
+     *
+     * @param k the attribute name
+     * @return the attribute value or null if not exists
+     */
+    String attr(String k) {
+        for (int i = 0; i < attrs.size(); i += 2) if (k.equals(attrs.get(i))) return attrs.get(i + 1);
+        return null;
+    }
+
+    /**
+     * Build a dom4j element from the current tag
+     *
+     * @return the element without children
+     */
+    Element toElement() {
+        Element e = DocumentHelper.createElement(name);
+        for (int i = 0; i < attrs.size(); i += 2) e.addAttribute(attrs.get(i), attrs.get(i + 1));
+        return e;
+    }
+
+    /**
+     * Build a dom4j element tree of the fragment
+     *
+     * @param b    the source bytes
+     * @param from the start of fragment (the first tag)
+     * @param to   the end of fragment
+     * @return the root element of fragment
+     * @throws DocumentException if the markup is malformed
+     */
+    static Element toElement(byte[] b, int from, int to) throws DocumentException {
+        StylesScanner scanner = new StylesScanner(b, from, to);
+        Element root = null, parent = null;
+        while (scanner.next()) {
+            if (scanner.endTag) {
+                parent = parent != null ? parent.getParent() : null;
+                continue;
+            }
+            Element e = scanner.toElement();
+            if (parent != null) parent.add(e);
+            else if (root == null) root = e;
+            if (!scanner.emptyTag) parent = e;
+        }
+        if (root == null) throw new DocumentException("Empty fragment");
+        return root;
+    }
+
+    private int indexOf(char c, int from) {
+        for (int i = from; i < limit; i++) if (b[i] == c) return i;
+        return -1;
+    }
+
+    private boolean startsWith(int from, String s) {
+        if (from + s.length() > limit) return false;
+        for (int i = 0; i < s.length(); i++) if (b[from + i] != s.charAt(i)) return false;
+        return true;
+    }
+
+    // Returns the position after the terminator
+    private int skip(int from, String terminator) throws DocumentException {
+        for (int i = from; i < limit; i++) if (startsWith(i, terminator)) return i + terminator.length();
+        throw new DocumentException("Missing " + terminator);
+    }
+
+    // Strip the namespace prefix
+    private String localName(int from, int to) {
+        for (int i = from; i < to; i++) if (b[i] == ':') from = i + 1;
+        return new String(b, from, to - from, UTF_8);
+    }
+
+    private static boolean isBlank(byte c) {
+        return c == ' ' || c == '\n' || c == '\r' || c == '\t';
+    }
+
+    static String unescape(String s) {
+        int i = s.indexOf('&');
+        if (i < 0) return s;
+        StringBuilder buf = new StringBuilder(s.length());
+        buf.append(s, 0, i);
+        for (int n = s.length(); i < n; ) {
+            char c = s.charAt(i);
+            int e;
+            if (c != '&' || (e = s.indexOf(';', i)) < 0) {
+                buf.append(c);
+                i++;
+                continue;
+            }
+            String entity = s.substring(i + 1, e);
+            switch (entity) {
+                case "amp" : buf.append('&');  break;
+                case "lt"  : buf.append('<');  break;
+                case "gt"  : buf.append('>');  break;
+                case "quot": buf.append('"');  break;
+                case "apos": buf.append('\''); break;
+                default:
+                    try {
+                        if (entity.startsWith("#x") || entity.startsWith("#X"))
+                            buf.appendCodePoint(Integer.parseInt(entity.substring(2), 16));
+                        else if (entity.startsWith("#")) buf.appendCodePoint(Integer.parseInt(entity.substring(1)));
+                        else buf.append('&').append(entity).append(';');
+                    } catch (IllegalArgumentException ex) {
+                        buf.append('&').append(entity).append(';');
+                    }
+            }
+            i = e + 1;
+        }
+        return buf.toString();
+    }
+
+    /**
+     * A list of raw xml fragments, each item is decoded when it is first accessed.
+     * The list is materialized on the first modification.
+     */
+    static class LazyList<T> extends AbstractList<T> {
+        private byte[] bytes;
+        private int[] ranges;
+        private Object[] items;
+        private int size;
+        private Function<Element, T> decoder;
+        private List<T> delegate;
+
+        LazyList(Function<Element, T> decoder) {
+            this.decoder = decoder;
+            ranges = new int[16];
+        }
+
+        /**
+         * Append the range of a fragment
+         *
+         * @param from the start position in source
+         * @param to   the end position in source
+         */
+        void addRange(int from, int to) {
+            if ((size << 1) + 2 > ranges.length) ranges = Arrays.copyOf(ranges, ranges.length << 1);
+            ranges[size << 1] = from;
+            ranges[(size << 1) + 1] = to;
+            size++;
+        }
+
+        /**
+         * Keep only the bytes of fragments
+         *
+         * @param source the source bytes
+         * @return this list
+         */
+        LazyList<T> seal(byte[] source) {
+            if (size > 0) {
+                int from = ranges[0], to = ranges[(size << 1) - 1];
+                bytes = Arrays.copyOfRange(source, from, to);
+                for (int i = 0, n = size << 1; i < n; i++) ranges[i] -= from;
+            }
+            ranges = Arrays.copyOf(ranges, size << 1);
+            items = new Object[size];
+            return this;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public synchronized T get(int index) {
+            if (delegate != null) return delegate.get(index);
+            if (index < 0 || index >= size) throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+            Object o = items[index];
+            if (o == null) {
+                try {
+                    o = decoder.apply(toElement(bytes, ranges[index << 1], ranges[(index << 1) + 1]));
+                } catch (DocumentException e) {
+                    throw new IllegalArgumentException("Malformed style at index " + index, e);
+                }
+                items[index] = o;
+            }
+            return (T) o;
+        }
+
+        @Override
+        public synchronized int size() {
+            return delegate != null ? delegate.size() : size;
+        }
+
+        @Override
+        public synchronized void add(int index, T element) {
+            materialize().add(index, element);
+            modCount++;
+        }
+
+        @Override
+        public synchronized T set(int index, T element) {
+            return materialize().set(index, element);
+        }
+
+        @Override
+        public synchronized T remove(int index) {
+            modCount++;
+            return materialize().remove(index);
+        }
+
+        /**
+         * Returns the number of decoded items
+         *
+         * @return the decoded count
+         */
+        synchronized int decoded() {
+            if (delegate != null) return delegate.size();
+            int n = 0;
+            for (Object o : items) if (o != null) n++;
+            return n;
+        }
+
+        private List<T> materialize() {
+            if (delegate == null) {
+                List<T> list = new ArrayList<>(size + 1);
+                for (int i = 0; i < size; i++) list.add(get(i));
+                delegate = list;
+                bytes = null;
+                ranges = null;
+                items = null;
+                decoder = null;
+            }
+            return delegate;
+        }
+    }
+}
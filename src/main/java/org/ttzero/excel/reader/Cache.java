@@ -31,6 +31,20 @@ public interface Cache<K, V> extends Iterable<Cache.Entry<K, V>> {
      */
     V get(K k);
 
+    /**
+     * Returns the value to which the specified key is mapped without changing the order
+     * of eviction (such as promoting the key to most recently used).
+     * The default implementation calls {@link #get(Object)}, an implementation that records
+     * the access should override it.
+     *
+     * @param k the key whose associated value is to be returned
+     * @return the value to which the specified key is mapped, or
+     *      {@code null} if this cache contains no mapping for the key
+     */
+    default V peek(K k) {
+        return get(k);
+    }
+
     /**
      * Associates the specified value with the specified key in this cache.
      * If the cache previously contained a mapping for
@@ -0,0 +1,196 @@
+/*
+ * Copyright (c) 2017-2026, guanquan.wang@hotmail.com All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ttzero.excel.reader;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+
+/**
+ * The formula cells of one worksheet collected from {@code calcChain.xml}.
+ *
+ * <p>The chain is scanned as a byte stream and only the entries of the
+ * specified sheet are kept. The cells are packed by row: {@code offsets}
+ * is indexed by the row number directly and points into {@code columns},
+ * so the formula cells of a row are located in constant time.</p>
+ *
+ * @author guanquan.wang at 2026-10-17 23:55
+ */
+final class CalcChain {
+    /**
+     * The first row number (one base)
+     */
+    final int firstRow;
+    /**
+     * The columns of row {@code r} are {@code columns[offsets[r - firstRow], offsets[r - firstRow + 1])}
+     */
+    final int[] offsets;
+    /**
+     * The column numbers (one base), sorted in each row
+     */
+    final short[] columns;
+
+    private CalcChain(int firstRow, int[] offsets, short[] columns) {
+        this.firstRow = firstRow;
+        this.offsets = offsets;
+        this.columns = columns;
+    }
+
+    /**
+     * Returns the number of formula cells
+     *
+     * @return the number of formula cells
+     */
+    int size() {
+        return columns.length;
+    }
+
+    /**
+     * Test if the cell has formula
+     *
+     * @param row the row number (one base)
+     * @param col the column number (one base)
+     * @return true if the cell in calc chain
+     */
+    boolean contains(int row, int col) {
+        int i = row - firstRow;
+        if (i < 0 || i >= offsets.length - 1) return false;
+        for (int j = offsets[i], e = offsets[i + 1]; j < e; j++) {
+            if (columns[j] == col) return true;
+            if (columns[j] > col) break;
+        }
+        return false;
+    }
+
+    /**
+     * Mark the formula cells of the row
+     *
+     * @param row   the row number (one base)
+     * @param cells the cells in row
+     */
+    void mark(int row, Cell[] cells) {
+        int i = row - firstRow;
+        if (i < 0 || i >= offsets.length - 1) return;
+        for (int j = offsets[i], e = offsets[i + 1]; j < e && columns[j] <= cells.length; j++)
+            cells[columns[j] - 1].f = true;
+    }
+
+    /**
+     * Scan the {@code calcChain.xml} and collect the formula cells of the specified sheet
+     *
+     * @param is      the calcChain stream
+     * @param sheetId the sheet id (one base)
+     * @return the formula cells or null if the sheet has no formulas
+     * @throws IOException if I/O error occur or the chain is malformed
+     */
+    static CalcChain parse(InputStream is, int sheetId) throws IOException {
+        byte[] buf = new byte[1 << 14];
+        long[] cells = new long[64];
+        int size = 0, sheet = 1, len = 0;
+        for (int n; (n = is.read(buf, len, buf.length - len)) > 0 || len > 0; ) {
+            int limit = len + Math.max(n, 0), i = 0;
+            for (; ; ) {
+                // Locate the `c` tag
+                for (; i < limit && buf[i] != '<'; i++) ;
+                int j = i + 1;
+                for (; j < limit && buf[j] != '>'; j++) ;
+                // Incomplete tag
+                if (j >= limit) break;
+                if (j > i + 2 && buf[i + 1] == 'c' && (isBlank(buf[i + 2]) || buf[i + 2] == '/')) {
+                    long r = 0L;
+                    for (int k = i + 2; ; k++) {
+                        for (; k < j && (isBlank(buf[k]) || buf[k] == '/'); k++) ;
+                        if (k >= j) break;
+                        int from = k;
+                        for (; k < j && buf[k] != '=' && !isBlank(buf[k]); k++) ;
+                        int to = k;
+                        for (; k < j && buf[k] != '"' && buf[k] != '\''; k++) ;
+                        if (k >= j) throw new IOException("Malformed attribute in calcChain");
+                        byte q = buf[k];
+                        int s = ++k;
+                        for (; k < j && buf[k] != q; k++) ;
+                        if (k >= j) throw new IOException("Malformed attribute in calcChain");
+                        if (to - from != 1) continue;
+                        // i: index of sheets
+                        // r: range
+                        if (buf[from] == 'i') sheet = toInt(buf, s, k);
+                        else if (buf[from] == 'r') r = toCoordinate(buf, s, k);
+                    }
+                    if (r != 0L && sheet == sheetId) {
+                        if (size == cells.length) cells = Arrays.copyOf(cells, size << 1);
+                        cells[size++] = r;
+                    }
+                }
+                i = j + 1;
+            }
+            // EOF with an unfinished tag
+            if (n <= 0) break;
+            len = limit - i;
+            if (len > 0) {
+                if (len == buf.length) buf = Arrays.copyOf(buf, buf.length << 1);
+                System.arraycopy(buf, i, buf, 0, len);
+            }
+        }
+        return size > 0 ? of(cells, size) : null;
+    }
+
+    /**
+     * Pack the cells by row
+     *
+     * @param cells the packed coordinates {@code col & 0x7FFF | ((long) row) << 16}
+     * @param size  the number of cells
+     * @return the packed chain
+     */
+    static CalcChain of(long[] cells, int size) {
+        Arrays.sort(cells, 0, size);
+        // Remove duplicates
+        int n = 1;
+        for (int i = 1; i < size; i++) if (cells[i] != cells[n - 1]) cells[n++] = cells[i];
+        size = n;
+        int firstRow = (int) (cells[0] >>> 16), lastRow = (int) (cells[size - 1] >>> 16);
+        int[] offsets = new int[lastRow - firstRow + 2];
+        short[] columns = new short[size];
+        for (int i = 0; i < size; i++) {
+            offsets[(int) (cells[i] >>> 16) - firstRow + 1]++;
+            columns[i] = (short) (cells[i] & 0x7FFF);
+        }
+        for (int i = 1; i < offsets.length; i++) offsets[i] += offsets[i - 1];
+        return new CalcChain(firstRow, offsets, columns);
+    }
+
+    private static boolean isBlank(byte c) {
+        return c == ' ' || c == '\n' || c == '\r' || c == '\t';
+    }
+
+    private static int toInt(byte[] buf, int from, int to) {
+        int n = 0;
+        for (; from < to; from++) n = n * 10 + buf[from] - '0';
+        return n;
+    }
+
+    private static long toCoordinate(byte[] buf, int from, int to) {
+        long col = 0L, row = 0L;
+        for (; from < to; from++) {
+            byte c = buf[from];
+            if (c >= 'A' && c <= 'Z') col = col * 26 + c - 'A' + 1;
+            else if (c >= 'a' && c <= 'z') col = col * 26 + c - 'a' + 1;
+            else if (c >= '0' && c <= '9') row = row * 10 + c - '0';
+            else if (c != '$') return 0L;
+        }
+        return row > 0L && col > 0L ? (col & 0x7FFF) | row << 16 : 0L;
+    }
+}
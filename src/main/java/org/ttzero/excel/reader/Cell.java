@@ -91,8 +91,19 @@ public class Cell {
     public char charVal;
     /**
      * Decimal value
+     * <p>
+     * The reader decodes the decimal cells lazily, this field is {@code null} until
+     * {@link #getDecimal()} is called, use {@link #getDecimal()} or {@link #getDecimalAsDouble()}
+     * instead of reading this field directly
      */
     public BigDecimal decimal;
+    /**
+     * The unscaled value and scale of the lazy decimal, the {@link #doubleVal} keeps
+     * its double value (include the negative zero) if {@code lazyDecimal} is true
+     */
+    long unscaled;
+    int scale;
+    boolean lazyDecimal;
     /**
      * Style index
      */
@@ -192,9 +203,73 @@ public class Cell {
     public Cell setDecimal(BigDecimal mv) {
         this.t = DECIMAL;
         this.decimal = mv;
+        this.lazyDecimal = false;
         return this;
     }
 
+    /**
+     * Setting a lazy decimal value, the {@link BigDecimal} will not be created
+     * until {@link #getDecimal()} is called, so {@link #decimal} is {@code null}
+     * before that
+     *
+     * @param unscaled the unscaled value
+     * @param scale the scale of the decimal
+     * @param dv the nearest double value
+     * @return current cell
+     */
+    public Cell setDecimal(long unscaled, int scale, double dv) {
+        this.t = DECIMAL;
+        this.decimal = null;
+        this.unscaled = unscaled;
+        this.scale = scale;
+        this.lazyDecimal = true;
+        this.doubleVal = dv;
+        return this;
+    }
+
+    /**
+     * Returns the decimal value, create it from the unscaled value and scale
+     * if it's a lazy decimal
+     *
+     * @return the decimal value, {@code null} if the cell type is not {@link #DECIMAL}
+     */
+    public BigDecimal getDecimal() {
+        if (decimal == null && t == DECIMAL) decimal = BigDecimal.valueOf(unscaled, scale);
+        return decimal;
+    }
+
+    /**
+     * Returns the double value of decimal without create a {@link BigDecimal}
+     * if it's a lazy decimal
+     *
+     * @return the double value of decimal
+     */
+    public double getDecimalAsDouble() {
+        return lazyDecimal || decimal == null ? doubleVal : decimal.doubleValue();
+    }
+
+    /**
+     * Returns the integer part of decimal (same as {@link BigDecimal#longValue()})
+     * without create a {@link BigDecimal} if it's a lazy decimal
+     *
+     * @return the long value of decimal
+     */
+    public long getDecimalAsLong() {
+        if (!lazyDecimal && decimal != null) return decimal.longValue();
+        long n = unscaled;
+        for (int s = scale; s > 0 && n != 0L; s--) n /= 10;
+        return n;
+    }
+
+    /**
+     * Returns the signum of decimal without create a {@link BigDecimal} if it's a lazy decimal
+     *
+     * @return -1, 0, or 1 as the value of decimal is negative, zero, or positive
+     */
+    int decimalSignum() {
+        return lazyDecimal || decimal == null ? Long.signum(unscaled) : decimal.signum();
+    }
+
     public Cell setDateTime(double i) {
         this.t = DATETIME;
         this.doubleVal = i;
@@ -262,6 +337,9 @@ public class Cell {
         this.longVal = 0L;
         this.charVal = UNALLOCATED;
         this.decimal = null;
+        this.unscaled = 0L;
+        this.scale = 0;
+        this.lazyDecimal = false;
         this.xf = 0;
         this.formula = null;
         this.f = false;
@@ -284,6 +362,9 @@ public class Cell {
         this.longVal = cell.longVal;
         this.charVal = cell.charVal;
         this.decimal = cell.decimal;
+        this.unscaled = cell.unscaled;
+        this.scale = cell.scale;
+        this.lazyDecimal = cell.lazyDecimal;
         this.xf = cell.xf;
         this.formula = cell.formula;
         this.f = cell.f;
@@ -0,0 +1,405 @@
+/*
+ * Copyright (c) 2017-2026, guanquan.wang@hotmail.com All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ttzero.excel.reader;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import static org.ttzero.excel.reader.Cell.BLANK;
+import static org.ttzero.excel.reader.Cell.BOOL;
+import static org.ttzero.excel.reader.Cell.DECIMAL;
+import static org.ttzero.excel.reader.Cell.DOUBLE;
+import static org.ttzero.excel.reader.Cell.EMPTY_TAG;
+import static org.ttzero.excel.reader.Cell.INLINESTR;
+import static org.ttzero.excel.reader.Cell.LONG;
+import static org.ttzero.excel.reader.Cell.NUMERIC;
+import static org.ttzero.excel.reader.Cell.SST;
+import static org.ttzero.excel.reader.Cell.UNALLOCATED;
+
+/**
+ * 列式批量数据，每列数据保存在一个基础类型数组中（{@code int[]}，{@code long[]}，{@code double[]}），
+ * 文本列保存共享字符串下标和内联字符串，另外每列包含一个空值位图。
+ *
+ * <p>列类型由第一个非空值决定，当后续出现更宽的类型时自动提升，提升顺序为
+ * {@code BOOLEAN < INT < LONG < DOUBLE < STRING}，同一次批量读取中列类型只升不降。
+ * 日期类型按Excel序列值保存在数字列中，可以通过{@link Row}的日期工具方法转换</p>
+ *
+ * <p>注意：批量对象是复用的，每次迭代都会清空上一批数据，如果需要保留数据请自行复制</p>
+ *
+ * @author guanquan.wang at 2026-10-17 10:21
+ */
+public class ColumnBatch {
+    /**
+     * 批量大小
+     */
+    protected final int capacity;
+    /**
+     * 当前批次的行数
+     */
+    protected int size;
+    /**
+     * 列数据
+     */
+    protected ColumnVector[] columns;
+    /**
+     * 行号
+     */
+    protected int[] rowNums;
+    /**
+     * 共享字符串
+     */
+    protected SharedStrings sst;
+
+    public ColumnBatch(int capacity) {
+        if (capacity <= 0) throw new IllegalArgumentException("Batch size must be positive, but got " + capacity);
+        this.capacity = capacity;
+        this.rowNums = new int[capacity];
+        this.columns = new ColumnVector[0];
+    }
+
+    /**
+     * 当前批次的行数
+     *
+     * @return 行数
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 批量大小
+     *
+     * @return 每批最大行数
+     */
+    public int capacity() {
+        return capacity;
+    }
+
+    /**
+     * 列数，包含全部为空的列
+     *
+     * @return 列数
+     */
+    public int getColumnCount() {
+        return columns.length;
+    }
+
+    /**
+     * 获取指定列数据
+     *
+     * @param columnIndex 列索引（从0开始）
+     * @return 列数据
+     */
+    public ColumnVector getColumn(int columnIndex) {
+        return columns[columnIndex];
+    }
+
+    /**
+     * 获取批次中第{@code i}行的行号（从1开始）
+     *
+     * @param i 批次内行下标
+     * @return 行号
+     */
+    public int getRowNum(int i) {
+        checkIndex(i);
+        return rowNums[i];
+    }
+
+    /**
+     * 清空当前批次，列类型与数组将被保留复用
+     *
+     * @return 当前批次
+     */
+    public ColumnBatch clear() {
+        for (ColumnVector v : columns) v.clear();
+        size = 0;
+        return this;
+    }
+
+    /**
+     * 添加一行数据，直接读取复用的{@link Cell}不会产生行对象
+     *
+     * @param row 行数据
+     */
+    protected void add(Row row) {
+        if (size >= capacity) throw new IndexOutOfBoundsException("Batch is full, capacity: " + capacity);
+        if (sst == null) sst = row.sst;
+        int i = size++, lc = Math.max(row.lc, 0);
+        rowNums[i] = row.getRowNum();
+        if (lc > columns.length) {
+            int n = columns.length;
+            columns = Arrays.copyOf(columns, lc);
+            // The new column is null in previous rows
+            for (; n < lc; n++) columns[n] = new ColumnVector(this, i);
+        }
+        for (int j = 0; j < columns.length; j++) {
+            columns[j].put(i, row, j < lc ? row.cells[j] : null);
+        }
+    }
+
+    protected void checkIndex(int i) {
+        if (i < 0 || i >= size)
+            throw new IndexOutOfBoundsException("Index: " + i + ", Size: " + size);
+    }
+
+    /**
+     * 单列数据
+     */
+    public static class ColumnVector {
+        /**
+         * 列类型，按宽度升序排列
+         */
+        public static final int NONE = 0, BOOLEAN = 1, INT = 2, LONG = 3, DOUBLE = 4, STRING = 5;
+        protected final ColumnBatch batch;
+        protected int type;
+        /**
+         * {@code BOOLEAN}和{@code INT}类型数据
+         */
+        protected int[] ints;
+        protected long[] longs;
+        protected double[] doubles;
+        /**
+         * 内联字符串或转换后的字符串
+         */
+        protected String[] strings;
+        /**
+         * 共享字符串下标，{@code -1}表示内联字符串
+         */
+        protected int[] sstIndexes;
+        /**
+         * 空值位图，置位表示空值
+         */
+        protected long[] nulls;
+
+        protected ColumnVector(ColumnBatch batch, int nullRows) {
+            this.batch = batch;
+            this.nulls = new long[(batch.capacity + 63) >>> 6];
+            for (int i = 0; i < nullRows; i++) setNull(i);
+        }
+
+        /**
+         * 列类型，参考{@link #BOOLEAN}，{@link #INT}，{@link #LONG}，{@link #DOUBLE}和{@link #STRING}，
+         * 全部为空值时返回{@link #NONE}
+         *
+         * @return 列类型
+         */
+        public int getType() {
+            return type;
+        }
+
+        /**
+         * 判断第{@code i}行是否为空值
+         *
+         * @param i 批次内行下标
+         * @return 空值返回{@code true}
+         */
+        public boolean isNull(int i) {
+            batch.checkIndex(i);
+            return (nulls[i >>> 6] & (1L << i)) != 0L;
+        }
+
+        /**
+         * 空值位图，第{@code i}行对应{@code nulls[i >>> 6]}的第{@code i & 63}位，置位表示空值
+         *
+         * @return 空值位图
+         */
+        public long[] getNulls() {
+            return nulls;
+        }
+
+        /**
+         * {@link #BOOLEAN}和{@link #INT}类型列的数据，布尔值以{@code 1}和{@code 0}表示，空值位置的值无意义
+         *
+         * @return 数据数组，有效长度为{@link ColumnBatch#size()}
+         */
+        public int[] getInts() {
+            return ints;
+        }
+
+        /**
+         * {@link #LONG}类型列的数据，空值位置的值无意义
+         *
+         * @return 数据数组，有效长度为{@link ColumnBatch#size()}
+         */
+        public long[] getLongs() {
+            return longs;
+        }
+
+        /**
+         * {@link #DOUBLE}类型列的数据，空值位置的值无意义
+         *
+         * @return 数据数组，有效长度为{@link ColumnBatch#size()}
+         */
+        public double[] getDoubles() {
+            return doubles;
+        }
+
+        /**
+         * {@link #STRING}类型列的共享字符串下标，内联字符串为{@code -1}，空值位置的值无意义
+         *
+         * @return 共享字符串下标数组，有效长度为{@link ColumnBatch#size()}
+         */
+        public int[] getSstIndexes() {
+            return sstIndexes;
+        }
+
+        /**
+         * 获取第{@code i}行的字符串值，共享字符串将从{@link SharedStrings}中读取，
+         * 非{@link #STRING}类型列将数值转为字符串
+         *
+         * @param i 批次内行下标
+         * @return 字符串值，空值返回{@code null}
+         */
+        public String getString(int i) {
+            if (isNull(i)) return null;
+            switch (type) {
+                case STRING : return sstIndexes[i] >= 0 ? batch.sst.get(sstIndexes[i]) : strings[i];
+                case BOOLEAN: return String.valueOf(ints[i] != 0);
+                case INT    : return String.valueOf(ints[i]);
+                case LONG   : return String.valueOf(longs[i]);
+                case DOUBLE : return String.valueOf(doubles[i]);
+                default     : return null;
+            }
+        }
+
+        /**
+         * 获取第{@code i}行的数值，{@link #STRING}类型列将抛{@code NumberFormatException}异常
+         *
+         * @param i 批次内行下标
+         * @return 数值，空值返回{@code 0}
+         */
+        public double getDouble(int i) {
+            if (isNull(i)) return 0.0D;
+            switch (type) {
+                case BOOLEAN:
+                case INT    : return ints[i];
+                case LONG   : return longs[i];
+                case DOUBLE : return doubles[i];
+                case STRING : return Double.parseDouble(getString(i));
+                default     : return 0.0D;
+            }
+        }
+
+        protected void clear() {
+            Arrays.fill(nulls, 0L);
+        }
+
+        protected void setNull(int i) {
+            nulls[i >>> 6] |= 1L << i;
+        }
+
+        protected void put(int i, Row row, Cell c) {
+            int k;
+            switch (c != null ? c.t : UNALLOCATED) {
+                case NUMERIC    : k = INT;     break;
+                case LONG       : k = LONG;    break;
+                case DECIMAL    :
+                case DOUBLE     : k = DOUBLE;  break;
+                case BOOL       : k = BOOLEAN; break;
+                case BLANK      :
+                case EMPTY_TAG  :
+                case UNALLOCATED: setNull(i);  return;
+                default         : k = STRING;
+            }
+            widen(k);
+            // Convert to string if the column has been promoted to string
+            if (type == STRING && (k != STRING || c.t != SST && c.t != INLINESTR)) {
+                sstIndexes[i] = -1;
+                strings[i] = row.getString(c);
+                return;
+            }
+            switch (c.t) {
+                case NUMERIC    : putLong(i, c.intVal);                     break;
+                case LONG       : putLong(i, c.longVal);                    break;
+                case DECIMAL    : doubles[i] = c.getDecimalAsDouble();      break;
+                case DOUBLE     : doubles[i] = c.doubleVal;                 break;
+                case BOOL       : putLong(i, c.boolVal ? 1 : 0);            break;
+                // Keep the index only, the string will be read on demand
+                case SST        : sstIndexes[i] = c.intVal; strings[i] = null; break;
+                default         : sstIndexes[i] = -1; strings[i] = c.stringVal;
+            }
+        }
+
+        // Store the integer value into current column type
+        protected void putLong(int i, long v) {
+            switch (type) {
+                case BOOLEAN:
+                case INT    : ints[i] = (int) v;                            break;
+                case LONG   : longs[i] = v;                                 break;
+                default     : doubles[i] = v;
+            }
+        }
+
+        // Promote the column type, the values of previous rows will be converted
+        protected void widen(int t) {
+            if (t <= type) return;
+            int n = batch.size - 1, cap = batch.capacity;
+            switch (t) {
+                case BOOLEAN:
+                case INT    : if (ints == null) ints = new int[cap];      break;
+                case LONG   :
+                    if (longs == null) longs = new long[cap];
+                    if (type > NONE) for (int i = 0; i < n; i++) longs[i] = ints[i];
+                    break;
+                case DOUBLE :
+                    if (doubles == null) doubles = new double[cap];
+                    if (type == LONG) for (int i = 0; i < n; i++) doubles[i] = longs[i];
+                    else if (type > NONE) for (int i = 0; i < n; i++) doubles[i] = ints[i];
+                    break;
+                case STRING :
+                    if (strings == null) {
+                        strings = new String[cap];
+                        sstIndexes = new int[cap];
+                    }
+                    for (int i = 0; i < n; i++) {
+                        sstIndexes[i] = -1;
+                        strings[i] = getString(i);
+                    }
+                    break;
+                default:
+            }
+            type = t;
+        }
+    }
+
+    /**
+     * 批量迭代器，每次迭代返回同一个复用的{@link ColumnBatch}对象
+     */
+    public static class BatchIterator implements Iterator<ColumnBatch> {
+        protected final Iterator<Row> iter;
+        protected final ColumnBatch batch;
+
+        public BatchIterator(Iterator<Row> iter, int batchSize) {
+            this.iter = iter;
+            this.batch = new ColumnBatch(batchSize);
+        }
+
+        @Override
+        public boolean hasNext() {
+            return iter.hasNext();
+        }
+
+        @Override
+        public ColumnBatch next() {
+            if (!iter.hasNext()) throw new NoSuchElementException();
+            batch.clear();
+            for (int i = 0; i < batch.capacity && iter.hasNext(); i++) batch.add(iter.next());
+            return batch;
+        }
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2017-2026, guanquan.wang@hotmail.com All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ttzero.excel.reader;
+
+import org.ttzero.excel.processor.Converter;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 列绑定器，将单元格的值转为对象属性类型并写入对象，替代{@link HeaderRow}中逐个单元格的反射调用。
+ *
+ * <p>绑定器在第一次绑定时根据属性类型选定转换方法并通过{@link MethodHandle}写入属性，
+ * 基础类型属性使用{@link Row#getInt(Cell, int)}等方法取值全程无装箱。
+ * 绑定器按类缓存在{@link ClassValue}中，多个工作表和多个{@link ExcelReader}之间共享</p>
+ *
+ * @author guanquan.wang at 2026-10-17 14:12
+ */
+@FunctionalInterface
+public interface ColumnBinder {
+
+    /**
+     * 将第{@code columnIndex}列的值写入对象{@code t}
+     *
+     * @param row 行数据
+     * @param columnIndex 列索引
+     * @param t 目标对象
+     * @throws InvocationTargetException setter方法抛出异常时包装为此异常
+     */
+    void bind(Row row, int columnIndex, Object t) throws InvocationTargetException;
+
+    /**
+     * 获取属性或setter方法的绑定器，相同的属性和类型只创建一次
+     *
+     * @param ao 属性{@link Field}或setter方法{@link Method}
+     * @param clazz 转换类型
+     * @return 绑定器，不支持的类型返回{@code null}
+     * @throws IllegalAccessException 无法访问属性或方法时抛此异常
+     */
+    static ColumnBinder of(AccessibleObject ao, Class<?> clazz) throws IllegalAccessException {
+        Map<Class<?>, ColumnBinder> binders = ColumnBinders.BINDERS.get(((Member) ao).getDeclaringClass())
+            .computeIfAbsent((Member) ao, k -> new ConcurrentHashMap<>());
+        ColumnBinder binder = binders.get(clazz);
+        if (binder == null) {
+            binder = ColumnBinders.create(ColumnBinders.setter(ao), ao instanceof Method, clazz);
+            // Mark unsupported type
+            binders.putIfAbsent(clazz, binder != null ? binder : ColumnBinders.NONE);
+        }
+        return binder != ColumnBinders.NONE ? binder : null;
+    }
+
+    /**
+     * 创建使用自定义转换器的绑定器，转换器与列相关所以不缓存
+     *
+     * @param ao 属性{@link Field}或setter方法{@link Method}
+     * @param clazz 转换类型
+     * @param converter 自定义转换器
+     * @return 绑定器
+     * @throws IllegalAccessException 无法访问属性或方法时抛此异常
+     */
+    static ColumnBinder of(AccessibleObject ao, Class<?> clazz, Converter<?> converter) throws IllegalAccessException {
+        MethodHandle mh = ColumnBinders.setter(ao).asType(MethodType.methodType(void.class, Object.class, Object.class));
+        boolean m = ao instanceof Method;
+        return (row, c, t) -> {
+            Object v = converter.reversion(row, row.getCell(c), clazz);
+            try { mh.invokeExact(t, v); } catch (Throwable e) { ColumnBinders.rethrow(e, m); }
+        };
+    }
+}
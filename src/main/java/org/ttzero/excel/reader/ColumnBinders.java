@@ -0,0 +1,196 @@
+/*
+ * Copyright (c) 2017-2026, guanquan.wang@hotmail.com All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ttzero.excel.reader;
+
+import org.ttzero.excel.annotation.RowNum;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The internals of {@link ColumnBinder}, the binder cache and the binder factory
+ *
+ * @author guanquan.wang at 2026-10-17 16:40
+ */
+final class ColumnBinders {
+    private ColumnBinders() { }
+
+    /**
+     * The mark of unsupported type
+     */
+    static final ColumnBinder NONE = (row, c, t) -> { };
+
+    /**
+     * The binders cached by the declaring class. The cached members and method handles
+     * hold the class strongly, so an entry is never reclaimed and the class (and its
+     * class loader) can not be unloaded once it has been bound, the cache lives as long
+     * as this class
+     */
+    static final ClassValue<Map<Member, Map<Class<?>, ColumnBinder>>> BINDERS = new ClassValue<Map<Member, Map<Class<?>, ColumnBinder>>>() {
+        @Override
+        protected Map<Member, Map<Class<?>, ColumnBinder>> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    /**
+     * Returns the setter handle of type {@code (Object, fieldType)void}
+     *
+     * @param ao the {@link Field} or setter {@link Method}
+     * @return the method handle
+     * @throws IllegalAccessException if the field or method is inaccessible
+     */
+    static MethodHandle setter(AccessibleObject ao) throws IllegalAccessException {
+        ao.setAccessible(true);
+        MethodHandle mh = ao instanceof Method ? MethodHandles.lookup().unreflect((Method) ao)
+            : MethodHandles.lookup().unreflectSetter((Field) ao);
+        // Drop the return value of chain setter
+        return mh.asType(mh.type().changeParameterType(0, Object.class).changeReturnType(void.class));
+    }
+
+    /**
+     * Choose the getter by the conversion type, it keeps the same as {@link HeaderRow#fieldPut}
+     *
+     * @param setter the setter handle
+     * @param m whether it is a setter method, the exception thrown inside the method is
+     *          wrapped as {@link InvocationTargetException}
+     * @param clazz the conversion type
+     * @return the binder, {@code null} if the type is not supported
+     */
+    static ColumnBinder create(MethodHandle setter, boolean m, Class<?> clazz) {
+        // Primitive types
+        if (clazz == int.class) {
+            MethodHandle mh = setter.asType(MethodType.methodType(void.class, Object.class, int.class));
+            return (row, c, t) -> {
+                int v = row.getInt(c, 0);
+                try { mh.invokeExact(t, v); } catch (Throwable e) { rethrow(e, m); }
+            };
+        }
+        if (clazz == long.class) {
+            MethodHandle mh = setter.asType(MethodType.methodType(void.class, Object.class, long.class));
+            return (row, c, t) -> {
+                long v = row.getLong(c, 0L);
+                try { mh.invokeExact(t, v); } catch (Throwable e) { rethrow(e, m); }
+            };
+        }
+        if (clazz == double.class) {
+            MethodHandle mh = setter.asType(MethodType.methodType(void.class, Object.class, double.class));
+            return (row, c, t) -> {
+                double v = row.getDouble(c, 0.0D);
+                try { mh.invokeExact(t, v); } catch (Throwable e) { rethrow(e, m); }
+            };
+        }
+        if (clazz == boolean.class) {
+            MethodHandle mh = setter.asType(MethodType.methodType(void.class, Object.class, boolean.class));
+            return (row, c, t) -> {
+                boolean v = row.getBoolean(c, false);
+                try { mh.invokeExact(t, v); } catch (Throwable e) { rethrow(e, m); }
+            };
+        }
+        if (clazz == float.class) {
+            MethodHandle mh = setter.asType(MethodType.methodType(void.class, Object.class, float.class));
+            return (row, c, t) -> {
+                Float o = row.getFloat(c);
+                float v = o != null ? o : 0.0F;
+                try { mh.invokeExact(t, v); } catch (Throwable e) { rethrow(e, m); }
+            };
+        }
+        if (clazz == char.class) {
+            MethodHandle mh = setter.asType(MethodType.methodType(void.class, Object.class, char.class));
+            return (row, c, t) -> {
+                Character o = row.getChar(c);
+                char v = o != null ? o : '\0';
+                try { mh.invokeExact(t, v); } catch (Throwable e) { rethrow(e, m); }
+            };
+        }
+        if (clazz == byte.class) {
+            MethodHandle mh = setter.asType(MethodType.methodType(void.class, Object.class, byte.class));
+            return (row, c, t) -> {
+                Byte o = row.getByte(c);
+                byte v = o != null ? o : 0;
+                try { mh.invokeExact(t, v); } catch (Throwable e) { rethrow(e, m); }
+            };
+        }
+        if (clazz == short.class) {
+            MethodHandle mh = setter.asType(MethodType.methodType(void.class, Object.class, short.class));
+            return (row, c, t) -> {
+                Short o = row.getShort(c);
+                short v = o != null ? o : 0;
+                try { mh.invokeExact(t, v); } catch (Throwable e) { rethrow(e, m); }
+            };
+        }
+
+        // Reference types
+        Getter getter;
+        if (clazz == String.class) getter = Row::getString;
+        else if (clazz == Integer.class) getter = Row::getInt;
+        else if (clazz == Long.class) getter = Row::getLong;
+        else if (clazz == java.util.Date.class || clazz == java.sql.Date.class) getter = Row::getDate;
+        else if (clazz == java.sql.Timestamp.class) getter = Row::getTimestamp;
+        else if (clazz == Double.class) getter = Row::getDouble;
+        else if (clazz == Float.class) getter = Row::getFloat;
+        else if (clazz == Boolean.class) getter = Row::getBoolean;
+        else if (clazz == BigDecimal.class) getter = Row::getDecimal;
+        else if (clazz == java.sql.Time.class) getter = Row::getTime;
+        else if (clazz == LocalDateTime.class) getter = Row::getLocalDateTime;
+        else if (clazz == LocalDate.class) getter = Row::getLocalDate;
+        else if (clazz == LocalTime.class) getter = Row::getLocalTime;
+        else if (clazz == Character.class) getter = Row::getChar;
+        else if (clazz == Byte.class) getter = Row::getByte;
+        else if (clazz == Short.class) getter = Row::getShort;
+        else if (clazz == RowNum.class) getter = (row, c) -> row.getRowNum();
+        else return null;
+
+        // Unboxing null value into primitive field throws NPE like Field#set
+        MethodHandle mh = setter.asType(MethodType.methodType(void.class, Object.class, Object.class));
+        return (row, c, t) -> {
+            Object v = getter.get(row, c);
+            try { mh.invokeExact(t, v); } catch (Throwable e) { rethrow(e, m); }
+        };
+    }
+
+    /**
+     * Wrap the exception thrown inside the setter method as {@link InvocationTargetException},
+     * the type conversion exception is thrown directly
+     */
+    static void rethrow(Throwable e, boolean method) throws InvocationTargetException {
+        if (method && !(e instanceof ClassCastException)) throw new InvocationTargetException(e);
+        if (e instanceof RuntimeException) throw (RuntimeException) e;
+        if (e instanceof Error) throw (Error) e;
+        throw new InvocationTargetException(e);
+    }
+
+    /**
+     * The getter of reference types
+     */
+    @FunctionalInterface
+    interface Getter {
+        Object get(Row row, int columnIndex);
+    }
+}
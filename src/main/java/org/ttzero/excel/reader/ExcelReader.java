@@ -47,10 +47,12 @@ import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.io.PushbackInputStream;
 import java.io.UncheckedIOException;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
+import java.nio.ByteBuffer;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.text.ParseException;
@@ -132,7 +134,7 @@ public class ExcelReader implements Closeable {
     /**
      * 共享字符区
      */
-    private SharedStrings sharedStringTable;
+    protected SharedStrings sharedStringTable;
 
     /**
      * 图片管理器
@@ -143,9 +145,29 @@ public class ExcelReader implements Closeable {
      */
     protected Styles styles;
     /**
-     * Excel原始文件
+     * Excel原始文件，可能是{@link ZipFile}也可能是内存中的{@link ZipBuffer}
+     * <p>
+     * 注意：此字段的类型由{@link ZipFile}变更为{@link ZipArchive}（不兼容的API变更），
+     * 子类需要{@code ZipFile}时可以通过{@link ZipArchive#getZipFile()}获取，从内存读取时返回{@code null}
      */
-    protected ZipFile zipFile;
+    protected ZipArchive zipFile;
+    /**
+     * 内存预算（字节），0表示不限制
+     */
+    protected long memoryBudget;
+    /**
+     * 按字节扫描工作表，参考{@link #byteMode()}
+     */
+    protected boolean byteMode;
+    /**
+     * 延迟加载模式，共享字符串表和样式在首次使用时才加载
+     */
+    protected boolean lazy;
+    /**
+     * 延迟加载的部件是否已加载，1: 共享字符串表 2: 样式，只在加载成功后设置，
+     * 其它线程读到标记时可以看到已加载的部件
+     */
+    private volatile int loaded;
 
     /**
      * 以只读"值"的方式读取Excel文件，如果文件为{@code xls}格式则需要将{@code eec-e3-support}添加进classpath，未识别到文件类型则抛{@link ExcelReadException}
@@ -193,6 +215,64 @@ public class ExcelReader implements Closeable {
         return reader;
     }
 
+    /**
+     * 以内存映射的方式读取Excel文件，文件映射到内存后只解析一次压缩包目录，各部件直接从映射内存中解压，
+     * 未压缩的部件直接读取映射内存不产生任何复制，相比{@link ZipFile}减少了缓冲层和数据复制，适用于批量读取本地文件的场景。
+     * 超过2G的文件依然使用{@link ZipFile}读取，{@code xls}格式与{@link #read(Path)}相同
+     *
+     * <p>注意：映射内存在GC回收后才会释放，在windows系统中关闭Reader后文件可能暂时无法删除</p>
+     *
+     * @param path excel文件路径
+     * @return 一个Excel解析器 {@link ExcelReader}
+     * @throws FileNotFoundException 文件不存在
+     * @throws IOException           读取异常
+     */
+    public static ExcelReader readMapped(Path path) throws IOException {
+        if (!exists(path)) {
+            throw new FileNotFoundException(path.toString());
+        }
+        ExcelType type = getType(path);
+        if (type != ExcelType.XLSX) return read(path);
+        ExcelReader reader = new ExcelReader();
+        try {
+            reader.init(Files.size(path) <= Integer.MAX_VALUE ? ZipBuffer.map(path) : ZipArchive.of(new ZipFile(path.toFile())));
+        } catch (IOException | RuntimeException e) {
+            reader.close();
+            throw e;
+        }
+        reader.type = type;
+        return reader;
+    }
+
+    /**
+     * 以延迟加载的方式读取Excel文件，打开时只解析workbook和Content_Types等元数据，共享字符串表、主题和样式
+     * 在首次读取工作表或调用{@link #getSharedStrings()}、{@link #getStyles()}时才加载，图片在首次获取时才解析。
+     * 适用于只获取工作表名、{@link AppInfo}或者只读取一个不含字符串的小工作表的场景，打开耗时与共享字符串表大小无关，
+     * {@code xls}格式与{@link #read(Path)}相同
+     *
+     * @param path excel文件路径
+     * @return 一个Excel解析器 {@link ExcelReader}
+     * @throws FileNotFoundException 文件不存在
+     * @throws IOException           读取异常
+     */
+    public static ExcelReader readLazy(Path path) throws IOException {
+        if (!exists(path)) {
+            throw new FileNotFoundException(path.toString());
+        }
+        ExcelType type = getType(path);
+        if (type != ExcelType.XLSX) return read(path);
+        ExcelReader reader = new ExcelReader();
+        reader.lazy = true;
+        try {
+            reader.init(path);
+        } catch (IOException | RuntimeException e) {
+            reader.close();
+            throw e;
+        }
+        reader.type = type;
+        return reader;
+    }
+
     /**
      * 以只读"值"的方式读取Excel字节流
      *
@@ -229,6 +309,65 @@ public class ExcelReader implements Closeable {
         return reader;
     }
 
+    /**
+     * 以只读"值"的方式读取内存中的Excel数据，{@code xlsx}格式直接从{@code buffer}中解析压缩包，
+     * 不产生临时文件也不依赖{@link ZipFile}，适用于消息队列、对象存储下载等数据已经在内存中的场景，
+     * {@code xls}格式依然需要先写入临时文件
+     *
+     * <p>注意：读取期间不能修改{@code buffer}的内容，{@code buffer}的{@code position}和{@code limit}不会被修改</p>
+     *
+     * @param buffer excel数据，读取{@code position}到{@code limit}之间的数据
+     * @return 一个Excel解析器 {@link ExcelReader}
+     * @throws IOException 读取异常
+     */
+    public static ExcelReader read(ByteBuffer buffer) throws IOException {
+        byte[] bytes = new byte[Math.min(8, buffer.remaining())];
+        buffer.duplicate().get(bytes);
+        ExcelType type = typeOfStream(bytes, bytes.length);
+        switch (type) {
+            case XLSX:
+                ExcelReader reader = new ExcelReader(buffer);
+                reader.type = type;
+                return reader;
+            case XLS:
+                return read(new ZipBuffer.BufferInputStream(buffer.duplicate()));
+            default:
+                throw new ExcelReadException("Unknown file type.");
+        }
+    }
+
+    /**
+     * 以只读"值"的方式读取内存中的Excel数据，参考{@link #read(ByteBuffer)}
+     *
+     * @param bytes excel数据
+     * @return 一个Excel解析器 {@link ExcelReader}
+     * @throws IOException 读取异常
+     */
+    public static ExcelReader read(byte[] bytes) throws IOException {
+        return read(ByteBuffer.wrap(bytes));
+    }
+
+    /**
+     * 以流式读取的方式读取Excel字节流（参考{@link StreamingExcelReader}），直接按压缩包内的顺序解析各部件，
+     * 不需要先将整个字节流写入临时文件，只有出现在依赖部件之前的工作表才会被解压到临时文件，
+     * 适用于边上传边解析的场景，流式读取只能向前读取且仅支持{@code xlsx}格式
+     *
+     * @param stream excel字节流，关闭Reader时一并关闭
+     * @return 一个流式Excel解析器 {@link ExcelReader}
+     * @throws IOException 读取异常
+     */
+    public static ExcelReader stream(InputStream stream) throws IOException {
+        PushbackInputStream is = new PushbackInputStream(stream, 8);
+        byte[] bytes = new byte[8];
+        int n = 0;
+        for (int i; n < bytes.length && (i = is.read(bytes, n, bytes.length - n)) > 0; n += i) ;
+        if (typeOfStream(bytes, n) != ExcelType.XLSX) throw new ExcelReadException("Streaming mode only supports xlsx file.");
+        is.unread(bytes, 0, n);
+        ExcelReader reader = new StreamingExcelReader(is);
+        reader.type = ExcelType.XLSX;
+        return reader;
+    }
+
     /**
      * 获取当前Excel的文件类型，返回{@code xlsx}或{@code xls}，当文件不是excel时返回{@code unknown}
      *
@@ -267,6 +406,126 @@ public class ExcelReader implements Closeable {
             , Spliterator.ORDERED | Spliterator.NONNULL), false);
     }
 
+    /**
+     * 返回一个并行的工作表流，多个工作表将在不同线程中同时解析，
+     * 共享字符串表会先切换为线程安全模式（参考{@link SharedStrings#concurrent()}），
+     * 此方法默认{@code load}工作表所以外部无需再次调用{@code load}方法
+     *
+     * <p>注意：单个工作表的行迭代依然是非线程安全的，同一个工作表只能在一个线程中读取</p>
+     *
+     * @return 一个并行的工作表流
+     */
+    public Stream<Sheet> parallelSheets() {
+        SharedStrings sharedStringTable = getSharedStrings();
+        if (sharedStringTable != null) sharedStringTable.concurrent();
+        // 所有工作表同时读取时平分读取缓冲区和合并单元格的预算
+        if (memoryBudget > 0L) {
+            for (Sheet sheet : sheets) {
+                if (!(sheet instanceof XMLSheet)) continue;
+                ((XMLSheet) sheet).setBufferLimit((memoryBudget >> 2) / sheets.length);
+                ((XMLSheet) sheet).setGridLimit((memoryBudget >> 3) / sheets.length);
+            }
+        }
+        return Arrays.stream(sheets).parallel().map(sheet -> {
+            try {
+                // test and load sheet data
+                return sheet.load();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    /**
+     * 按字节扫描工作表，工作表的标签和数值都是ASCII字符，开启后每个字节直接扩展为一个字符而不经过字符集解码，
+     * 只有内联字符串和公式等文本才按UTF-8解码，可以减少大量数值类型工作表的解码耗时
+     *
+     * <p>注意：读取缓冲区依然是{@code char[]}，一个非ASCII字符会占用2-4个字符，中文等文本较多的工作表会消耗更多内存，
+     * 此时不建议开启。必须在读取数据之前调用，已经开始读取的工作表不受影响</p>
+     *
+     * @return 当前Reader
+     */
+    public ExcelReader byteMode() {
+        this.byteMode = true;
+        for (Sheet sheet : sheets) {
+            if (sheet instanceof XMLSheet) ((XMLSheet) sheet).setByteMode(true);
+        }
+        return this;
+    }
+
+    /**
+     * 将共享字符串表切换为内存映射模式（参考{@link SharedStrings#mapped()}），所有字符串一次性写入临时文件并映射到内存，
+     * 之后按下标获取字符串只需常数时间，适用于透视表或跨大字符串表查找等随机访问的场景，临时文件在关闭Reader时删除
+     *
+     * @return 当前Reader
+     * @throws IOException 读取或写临时文件异常
+     */
+    public ExcelReader mappedSharedStrings() throws IOException {
+        SharedStrings sharedStringTable = getSharedStrings();
+        if (sharedStringTable != null) sharedStringTable.mapped();
+        return this;
+    }
+
+    /**
+     * 将共享字符串表切换为紧凑模式（参考{@link SharedStrings#packed(long)}），所有字符串以UTF-8编码紧凑存放在一个字节数组中，
+     * 获取时才解码为字符串，内存占用约为原始文本大小，适用于字符串表可以放入内存且需要随机访问的场景，
+     * 超过内存预算时保持原有的分页缓存模式。如果已经通过{@link #memoryBudget}设置了内存预算，
+     * 紧凑表的预算不会超过共享字符串表的那1/2
+     *
+     * @param budget 内存预算（字节）
+     * @return 当前Reader
+     * @throws IOException 读取共享字符串表异常
+     */
+    public ExcelReader packedSharedStrings(long budget) throws IOException {
+        SharedStrings sharedStringTable = getSharedStrings();
+        if (sharedStringTable != null) sharedStringTable.packed(memoryBudget > 0L ? Math.min(budget, memoryBudget >> 1) : budget);
+        return this;
+    }
+
+    /**
+     * 设置当前Reader的内存预算，预算将按比例分配给各个内存结构：
+     *
+     * <ul>
+     * <li>共享字符串表占1/2，超过预算时按预算缩小分页缓存和热词缓存并将字符串溢出到磁盘索引文件</li>
+     * <li>工作表读取缓冲区占1/4，超长行需要的缓冲区超过预算时抛{@link ExcelReadException}而不是无限扩容，
+     * 使用{@link #parallelSheets}并行读取时由所有工作表平分，并行解析行数据时等待解析的行块也计入这部分预算</li>
+     * <li>合并单元格索引占1/8，预估的位图或哈希索引超过预算时退化为按合并区域计算内存的区间索引</li>
+     * <li>剩余1/8留给解析出的行对象等临时数据</li>
+     * </ul>
+     *
+     * <p>注意：必须在读取数据之前调用，共享字符串表已经开始读取时预算只对工作表缓冲区生效。
+     * 图片等内容本身写入临时文件不在预算之内，各部分预算均为近似值，当前内存使用量可以通过{@link #memoryUsage}获取</p>
+     *
+     * @param bytes 内存预算（字节）
+     * @return 当前Reader
+     * @throws IOException 读取共享字符串表异常
+     */
+    public ExcelReader memoryBudget(long bytes) throws IOException {
+        if (bytes <= 0L) throw new IllegalArgumentException("The memory budget must be greater than zero.");
+        this.memoryBudget = bytes;
+        if (sharedStringTable != null) {
+            ZipEntry entry = getEntry("xl/sharedStrings.xml");
+            sharedStringTable.budget(bytes >> 1, entry != null ? entry.getSize() : -1L);
+        }
+        for (Sheet sheet : sheets) {
+            if (!(sheet instanceof XMLSheet)) continue;
+            ((XMLSheet) sheet).setBufferLimit(bytes >> 2);
+            ((XMLSheet) sheet).setGridLimit(bytes >> 3);
+        }
+        return this;
+    }
+
+    /**
+     * 获取当前Reader的内存使用量（近似值），包含共享字符串表和工作表读取缓冲区
+     *
+     * @return 已使用的内存（字节）
+     */
+    public long memoryUsage() {
+        long n = sharedStringTable != null ? sharedStringTable.memoryUsage() : 0L;
+        for (Sheet sheet : sheets) if (sheet instanceof XMLSheet) n += ((XMLSheet) sheet).memoryUsage();
+        return n;
+    }
+
     /**
      * 获取指定位置的工作表，此方法默认{@code load}工作表所以外部无需再次调用{@code load}方法
      *
@@ -439,6 +698,16 @@ public class ExcelReader implements Closeable {
         init(path);
     }
 
+    /**
+     * 以只读"值"的方式读取内存中的Excel数据，直接解析{@code buffer}不产生临时文件
+     *
+     * @param buffer excel数据，读取{@code position}到{@code limit}之间的数据
+     * @throws IOException 读取异常
+     */
+    public ExcelReader(ByteBuffer buffer) throws IOException {
+        init(new ZipBuffer(buffer));
+    }
+
     /**
      * 初始化，初始化过程将进行内容检查，和创建全局属性（样式，字符共享区）以及工作表但不会实际读取工作表
      *
@@ -447,7 +716,18 @@ public class ExcelReader implements Closeable {
      * @throws IOException 读取异常
      */
     protected ExcelReader init(Path path) throws IOException {
-        this.zipFile = new ZipFile(path.toFile());
+        return init(ZipArchive.of(new ZipFile(path.toFile())));
+    }
+
+    /**
+     * 初始化，初始化过程将进行内容检查，和创建全局属性（样式，字符共享区）以及工作表但不会实际读取工作表
+     *
+     * @param zipFile    excel压缩包
+     * @return 一个Excel解析器 {@link ExcelReader}
+     * @throws IOException 读取异常
+     */
+    protected ExcelReader init(ZipArchive zipFile) throws IOException {
+        this.zipFile = zipFile;
         LOGGER.debug("Check file integrity.");
 
         // Check content-type
@@ -463,32 +743,13 @@ public class ExcelReader implements Closeable {
         SAXReader reader = SAXReaderUtil.createDefault();
         Document document;
 
-        // Load SharedString
-        ZipEntry entry = getEntry("xl/sharedStrings.xml");
-        if (entry != null) {
-            sharedStringTable = new SharedStrings(zipFile.getInputStream(entry), 0, 0).load();
-        }
-
-        // Load Styles
-        entry = getEntry("xl/styles.xml");
-        if (entry != null) {
-            try {
-                // Load Theme style first
-                ZipEntry themeEntry = getEntry("xl/theme/theme1.xml");
-                if (themeEntry != null) Theme.load(zipFile.getInputStream(themeEntry));
-
-                // Then load custom styles
-                styles = Styles.load(zipFile.getInputStream(entry));
-            } catch (Exception ex) {
-                LOGGER.warn("Parse style failed.", ex);
-            }
-        }
-        // Construct a empty Styles
-        if (styles == null) {
-            styles = Styles.forReader();
+        // Load SharedString and Styles, they are loaded on first use in lazy mode
+        if (!lazy) {
+            loadSharedStrings();
+            loadStyles();
         }
 
-        entry = getEntry("xl/_rels/workbook.xml.rels");
+        ZipEntry entry = getEntry("xl/_rels/workbook.xml.rels");
         if (entry == null)
             throw new ExcelReadException("The file format is incorrect or corrupted. [xl/_rels/workbook.xml.rels]");
 
@@ -548,10 +809,16 @@ public class ExcelReader implements Closeable {
             }
             sheet.setZipFile(zipFile);
             sheet.setZipEntry(entry);
-            // put shared string
-            sheet.setSharedStrings(sharedStringTable);
-            // Setting styles
-            sheet.setStyles(styles);
+            if (lazy) sheet.setBinder(s -> {
+                s.setSharedStrings(getSharedStrings());
+                s.setStyles(getStyles());
+            });
+            else {
+                // put shared string
+                sheet.setSharedStrings(sharedStringTable);
+                // Setting styles
+                sheet.setStyles(styles);
+            }
             // Drawings
             sheet.setDrawings(drawings);
             sheet.setIndex(index++);
@@ -569,6 +836,55 @@ public class ExcelReader implements Closeable {
         return this;
     }
 
+    /**
+     * 加载共享字符串表，设置了内存预算时同时应用预算
+     *
+     * @throws IOException 读取异常
+     */
+    protected synchronized void loadSharedStrings() throws IOException {
+        if ((loaded & 1) != 0) return;
+        ZipEntry entry = getEntry("xl/sharedStrings.xml");
+        if (entry != null) {
+            SharedStrings sst = new SharedStrings(zipFile.getInputStream(entry), 0, 0).load();
+            if (memoryBudget > 0L) {
+                try {
+                    sst.budget(memoryBudget >> 1, entry.getSize());
+                } catch (IOException e) {
+                    sst.close();
+                    throw e;
+                }
+            }
+            sharedStringTable = sst;
+        }
+        // Mark after loaded, the failed loading will be retried
+        loaded |= 1;
+    }
+
+    /**
+     * 加载主题和样式，解析失败时使用默认样式
+     */
+    protected synchronized void loadStyles() {
+        if ((loaded & 2) != 0) return;
+        ZipEntry entry = getEntry("xl/styles.xml");
+        if (entry != null) {
+            try {
+                // Load Theme style first
+                ZipEntry themeEntry = getEntry("xl/theme/theme1.xml");
+                if (themeEntry != null) Theme.load(zipFile.getInputStream(themeEntry));
+
+                // Then load custom styles
+                styles = Styles.load(zipFile.getInputStream(entry));
+            } catch (Exception ex) {
+                LOGGER.warn("Parse style failed.", ex);
+            }
+        }
+        // Construct a empty Styles
+        if (styles == null) {
+            styles = Styles.forReader();
+        }
+        loaded |= 2;
+    }
+
     /**
      * 通过OPTION创建相应工作表
      *
@@ -584,6 +900,13 @@ public class ExcelReader implements Closeable {
      * @return Shared String Table
      */
     public SharedStrings getSharedStrings() {
+        if (lazy && (loaded & 1) == 0) {
+            try {
+                loadSharedStrings();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
         return sharedStringTable;
     }
 
@@ -760,6 +1083,7 @@ public class ExcelReader implements Closeable {
      * @return 全局样式对象
      */
     public Styles getStyles() {
+        if (lazy && (loaded & 2) == 0) loadStyles();
         return styles;
     }
 
@@ -794,6 +1118,18 @@ public class ExcelReader implements Closeable {
      * @return 如果实体存在则返回 {@link ZipEntry} 否则返回{@code null}
      */
     public static ZipEntry getEntry(ZipFile zipFile, String name) {
+        return getEntry(ZipArchive.of(zipFile), name);
+    }
+
+    /**
+     * 从压缩包中获取一个压缩文件，为了兼容windows和linux系统的路径会进行{@code '/'}和{@code '\\'}
+     * 两种分隔符匹配，如果路径无法匹配则遍历压缩包所有文件并忽略大小写匹配
+     *
+     * @param zipFile 压缩包
+     * @param name    压缩文件路径，必须是一个完整的路径
+     * @return 如果实体存在则返回 {@link ZipEntry} 否则返回{@code null}
+     */
+    public static ZipEntry getEntry(ZipArchive zipFile, String name) {
         char c0 = name.charAt(0);
         if (c0 == '/' || c0 == '\\') name = name.substring(1);
         ZipEntry entry = zipFile.getEntry(name);
@@ -110,6 +110,20 @@ public class FixSizeLRUCache<K, V> implements Cache<K, V> {
         return o != null ? o.data.v : null;
     }
 
+    /**
+     * Returns the value to which the specified key is mapped without moving it
+     * to the head of the list
+     *
+     * @param k the key whose associated value is to be returned
+     * @return the value to which the specified key is mapped, or
+     *      {@code null} if this cache contains no mapping for the key
+     */
+    @Override
+    public V peek(K k) {
+        final Node<E<K, V>> o = table.get(k);
+        return o != null ? o.data.v : null;
+    }
+
     /**
      * Associates the specified value with the specified key in this cache.
      * If the cache previously contained a mapping for
@@ -21,8 +21,10 @@ import org.ttzero.excel.entity.Comment;
 import org.ttzero.excel.entity.Panes;
 import org.ttzero.excel.validation.Validation;
 
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 
 /**
  * 全属性工作表，与普通工作表不同除了值以外{@code FullSheet}将会额外读取行高和列宽以及单元格公式，
@@ -120,6 +122,26 @@ public interface FullSheet extends Sheet {
      */
     Map<Long, Comment> getComments();
 
+    /**
+     * 获取指定范围内的批注，批注较多时只解析范围内的批注
+     *
+     * @param range 批注范围
+     * @return key: 行列值 {@code col & 0x7FFF | ((long) row) << 16}, value: 批注
+     */
+    default Map<Long, Comment> getComments(Dimension range) {
+        return getComments().entrySet().stream().filter(e -> range.checkRange((int) (e.getKey() >>> 16), (int) (e.getKey() & 0x7FFF)))
+            .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+    }
+
+    /**
+     * 逐个迭代批注，批注较多时无需将全部批注加载到内存，迭代完成后自动释放资源
+     *
+     * @return key: 行列值 {@code col & 0x7FFF | ((long) row) << 16}, value: 批注
+     */
+    default Iterator<Map.Entry<Long, Comment>> commentIterator() {
+        return getComments().entrySet().iterator();
+    }
+
     /**
      * 获取数据验证
      *
@@ -97,7 +97,7 @@ public interface Grid {
         private final long[] g;
 
         private final int c;
-        private final Scanner scanner;
+        private final IntervalGrid index;
 
         FastGrid(Dimension dim) {
             fr = dim.firstRow;
@@ -111,7 +111,7 @@ public interface Grid {
             int n = 6 - c, len = nr >> n;
             g = new long[len > 0 ? nr > (len << n) ? len + 1 : len : 1];
 
-            scanner = new FastLinkedScanner();
+            index = new IntervalGrid(16);
         }
 
         static int powerOneBit(int i) {
@@ -136,7 +136,7 @@ public interface Grid {
                 g[getRow(i)] |= l << ((p - ((i - fr + 1) & (p - 1))) << c);
 
             // Create index on the first axis
-            scanner.put(new LinkedScanner.E(dimension, new Cell()));
+            index.mark(dimension);
         }
 
         @Override
@@ -151,26 +151,12 @@ public interface Grid {
 
         @Override
         public int merge(int r, Cell cell) {
-            Scanner.Entry e;
-            if (!test(r, cell.i) || (e = scanner.get(r, cell.i)) == null) return 0;
-
-            Dimension dim = e.getDim();
-            int i = 2;
-            if (dim.firstRow != r || dim.firstColumn != cell.i) {
-                // Copy value from the first merged cell
-                cell.from(e.getCell());
-            }
-            // First merged cell
-            else {
-                e.getCell().from(cell);
-                i = 1;
-            }
-            return i;
+            return test(r, cell.i) ? index.merge(r, cell) : 0;
         }
 
         @Override
         public int size() {
-            return scanner.size();
+            return index.size();
         }
 
         boolean range(int r, int c) {
@@ -204,14 +190,6 @@ public interface Grid {
             Arrays.fill(chars, 0, chars.length - n, '0');
             return new String(chars);
         }
-
-        private static class FastLinkedScanner extends LinkedScanner {
-            @Override
-            public Entry get(int r, int c) {
-                if (size() == 1) return head.entry;
-                return super.get(r, c);
-            }
-        }
     }
 
     final class IndexGrid implements Grid {
@@ -353,6 +331,130 @@ public interface Grid {
         }
     }
 
+    /**
+     * An interval index of merged cells, the memory grows with the number of
+     * merges rather than the covered area.
+     *
+     * <p>The merges are sorted by the first row and a max-tree of the last row
+     * is built over them, so the merges spanning a row are collected in
+     * {@code O(log n)} per hit. The collected merges are disjoint in columns and
+     * sorted by the first column, the lookups in the same row are binary searches.</p>
+     */
+    final class IntervalGrid implements Grid {
+        private M[] merges;
+        private int size;
+        private boolean dirty;
+        // The max last row of each subtree, the leaves are the merges sorted by first row
+        private int[] tree;
+        private int cap;
+        // The merges spanning the cached row, sorted by first column
+        private int row = -1;
+        private M[] active = new M[16];
+        private int activeSize;
+
+        private static class M {
+            private final Dimension dim;
+            private Cell cell;
+
+            M(Dimension dim) {
+                this.dim = dim;
+            }
+        }
+
+        IntervalGrid(int n) {
+            merges = new M[Math.max(n, 16)];
+        }
+
+        @Override
+        public void mark(Dimension dim) {
+            if (size == merges.length) merges = Arrays.copyOf(merges, size + (size >> 1));
+            merges[size++] = new M(dim);
+            dirty = true;
+        }
+
+        @Override
+        public boolean test(int r, int c) {
+            return find(r, c) != null;
+        }
+
+        @Override
+        public int merge(int r, Cell cell) {
+            M m = find(r, cell.i);
+            if (m == null) return 0;
+            if (m.cell == null) m.cell = new Cell();
+
+            int i = 2;
+            if (m.dim.firstRow != r || m.dim.firstColumn != cell.i) {
+                // Copy value from the first merged cell
+                cell.from(m.cell);
+            }
+            // First merged cell
+            else {
+                m.cell.from(cell);
+                i = 1;
+            }
+            return i;
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        M find(int r, int c) {
+            if (dirty) build();
+            if (r != row) collect(r);
+            // The last merge which first column less than or equal to c
+            int lo = 0, hi = activeSize - 1;
+            while (lo <= hi) {
+                int mid = (lo + hi) >>> 1;
+                if (active[mid].dim.firstColumn <= c) lo = mid + 1;
+                else hi = mid - 1;
+            }
+            return hi >= 0 && c <= active[hi].dim.lastColumn ? active[hi] : null;
+        }
+
+        private void build() {
+            Arrays.sort(merges, 0, size, (a, b) -> Integer.compare(a.dim.firstRow, b.dim.firstRow));
+            cap = Integer.highestOneBit(Math.max(size - 1, 1)) << 1;
+            tree = new int[cap << 1];
+            for (int i = 0; i < size; i++) tree[cap + i] = merges[i].dim.lastRow;
+            for (int i = cap - 1; i > 0; i--) tree[i] = Math.max(tree[i << 1], tree[i << 1 | 1]);
+            dirty = false;
+            row = -1;
+        }
+
+        private void collect(int r) {
+            row = r;
+            activeSize = 0;
+            // The merges [0, p) start at or before row r
+            int lo = 0, hi = size - 1;
+            while (lo <= hi) {
+                int mid = (lo + hi) >>> 1;
+                if (merges[mid].dim.firstRow <= r) lo = mid + 1;
+                else hi = mid - 1;
+            }
+            if (lo > 0) collect(1, 0, cap, lo, r);
+            if (activeSize > 1) Arrays.sort(active, 0, activeSize, (a, b) -> Integer.compare(a.dim.firstColumn, b.dim.firstColumn));
+        }
+
+        private void collect(int node, int from, int to, int p, int r) {
+            if (from >= p || tree[node] < r) return;
+            if (node >= cap) {
+                if (activeSize == active.length) active = Arrays.copyOf(active, activeSize << 1);
+                active[activeSize++] = merges[node - cap];
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            collect(node << 1, from, mid, p, r);
+            collect(node << 1 | 1, mid, to, p, r);
+        }
+
+        @Override
+        public String toString() {
+            return getClass().getSimpleName() + " has " + size + " dimensions";
+        }
+    }
 
     interface Scanner extends Iterable<Scanner.Entry> {
 
@@ -24,14 +24,31 @@ import java.util.List;
  */
 public class GridFactory {
     private GridFactory() { }
+
+    // The approximate bytes of each merged range in the interval index, it includes the cached first cell
+    static final int MERGE_BYTES = 128;
+    // The approximate bytes of each covered cell in the hash index, a HashMap node, the boxed key and the table slot
+    static final int INDEX_CELL_BYTES = 56;
+
     public static Grid create(List<Dimension> mergeCells) {
+        return create(mergeCells, 0L);
+    }
+
+    /**
+     * Create a grid within the memory limit, the bitmap and hash index grow with the covered area,
+     * so it falls back to {@link Grid.IntervalGrid} which costs only per merged range if the estimated
+     * size exceeds the limit
+     *
+     * @param mergeCells the merged ranges
+     * @param limit the maximum bytes of the grid, zero or negative means unlimited
+     * @return the grid
+     */
+    public static Grid create(List<Dimension> mergeCells, long limit) {
         Dimension dim = mergeCells.get(0);
         int fr = dim.firstRow, lr = dim.lastRow;
         short fc = dim.firstColumn, lc = dim.lastColumn;
-        int n = (lr - fr + 1) * (lc - fc + 1);
         for (int j = 1, len = mergeCells.size(); j < len; j++) {
             dim = mergeCells.get(j);
-            n += (dim.lastRow - dim.firstRow + 1) * (dim.lastColumn - dim.firstColumn + 1);
             if (fr > dim.firstRow)    fr = dim.firstRow;
             if (lr < dim.lastRow)     lr = dim.lastRow;
             if (fc > dim.firstColumn) fc = dim.firstColumn;
@@ -40,12 +57,39 @@ public class GridFactory {
 
         Dimension range = new Dimension(fr, fc, lr, lc);
         int r = lr - fr + 1, c = lc - fc + 1;
-        n = r * c;
+        long n = (long) r * c;
 
-        Grid grid = c <= 64 && r < 1 << 15 ? new Grid.FastGrid(range)
-            : n > 1 << 17 ? new Grid.FractureGrid(range) : new Grid.IndexGrid(range, n);
+        // The bitmap and hash index grow with the bounding area, use the interval index for scattered merges
+        int type = c <= 64 && r < 1 << 15 ? 0 : n > 1 << 17 ? 2 : 1;
+        if (limit > 0L && type < 2 && estimate(mergeCells, type, r, c) > limit) type = 2;
+
+        Grid grid = type == 0 ? new Grid.FastGrid(range)
+            : type == 1 ? new Grid.IndexGrid(range, (int) n) : new Grid.IntervalGrid(mergeCells.size());
 
         for (Dimension d : mergeCells) grid.mark(d);
         return grid;
     }
+
+    /**
+     * Returns the approximate bytes of the grid
+     *
+     * @param mergeCells the merged ranges
+     * @param type 0: FastGrid, 1: IndexGrid, 2: IntervalGrid
+     * @param r the rows of the bounding area
+     * @param c the columns of the bounding area
+     * @return the estimated bytes
+     */
+    static long estimate(List<Dimension> mergeCells, int type, int r, int c) {
+        long n = (long) mergeCells.size() * MERGE_BYTES;
+        switch (type) {
+            // One bit per cell, the columns are aligned to the power of two
+            case 0: n += ((long) r * Integer.highestOneBit((c << 1) - 1)) >> 3; break;
+            case 1:
+                for (Dimension d : mergeCells)
+                    n += (long) (d.lastRow - d.firstRow + 1) * (d.lastColumn - d.firstColumn + 1) * INDEX_CELL_BYTES;
+                break;
+            default:
+        }
+        return n;
+    }
 }
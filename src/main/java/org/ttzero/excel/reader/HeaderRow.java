@@ -87,6 +87,8 @@ public class HeaderRow extends Row {
     protected Map<String, Integer> mapping;
     /* Storage header column */
     protected ListSheet.EntryColumn[] columns;
+    /* The column binders, it's created once for each class */
+    protected ColumnBinder[] binders;
 
     // Specify total rows of header
     protected int headRows;
@@ -332,9 +334,40 @@ public class HeaderRow extends Row {
                 .map(e -> (e instanceof ListSheet.EntryColumn) ? (ListSheet.EntryColumn) e : new ListSheet.EntryColumn(e))
                 .toArray(ListSheet.EntryColumn[]::new);
 
+        this.binders = createBinders(this.columns);
+
         return this;
     }
 
+    /**
+     * Create the column binders, the binder of the same field (or method) and type
+     * will be created only once and shared by all sheets, fallback to reflection
+     * ({@link #fieldPut} or {@link #methodPut}) if the binder can't be created
+     *
+     * @param columns the header columns
+     * @return the binders, the element is {@code null} if use reflection
+     */
+    protected ColumnBinder[] createBinders(ListSheet.EntryColumn[] columns) {
+        // Keep the reflection path if the subclass override fieldPut or methodPut
+        for (Class<?> c = getClass(); c != HeaderRow.class; c = c.getSuperclass()) {
+            for (Method m : c.getDeclaredMethods()) {
+                if ("fieldPut".equals(m.getName()) || "methodPut".equals(m.getName())) return null;
+            }
+        }
+        ColumnBinder[] binders = new ColumnBinder[columns.length];
+        for (int i = 0; i < columns.length; i++) {
+            ListSheet.EntryColumn ec = columns[i];
+            AccessibleObject ao = ec.method != null ? ec.method : ec.field;
+            if (ao == null || ec.clazz == null) continue;
+            try {
+                binders[i] = ec.converter != null ? ColumnBinder.of(ao, ec.clazz, ec.converter) : ColumnBinder.of(ao, ec.clazz);
+            } catch (IllegalAccessException | RuntimeException e) {
+                LOGGER.debug("Create binder for {} failed, fallback to reflection.", ao, e);
+            }
+        }
+        return binders;
+    }
+
     static boolean isTopRow(List<Dimension> mergeCells, int row, int col) {
         for (Dimension dim : mergeCells) {
             if (dim.checkRange(row, col) && row == dim.firstRow) return true;
@@ -489,7 +522,9 @@ public class HeaderRow extends Row {
         int i = 0;
         try {
             for (; i < columns.length; i++) {
-                if (columns[i].method != null)
+                if (binders != null && binders[i] != null)
+                    binders[i].bind(row, columns[i].colIndex, t);
+                else if (columns[i].method != null)
                     methodPut(i, row, t);
                 else
                     fieldPut(i, row, t);
@@ -545,24 +580,20 @@ public class HeaderRow extends Row {
             ec.field.set(t, row.getDecimal(c));
         }
         else if (fieldClazz == int.class) {
-            Integer v;
-            ec.field.set(t, (v = row.getInt(c)) != null ? v : 0);
+            ec.field.setInt(t, row.getInt(c, 0));
         }
         else if (fieldClazz == long.class) {
-            Long v;
-            ec.field.set(t, (v = row.getLong(c)) != null ? v : 0L);
+            ec.field.setLong(t, row.getLong(c, 0L));
         }
         else if (fieldClazz == double.class) {
-            Double v;
-            ec.field.set(t, (v = row.getDouble(c)) != null ? v : 0.0D);
+            ec.field.setDouble(t, row.getDouble(c, 0.0D));
         }
         else if (fieldClazz == float.class) {
             Float v;
             ec.field.set(t, (v = row.getFloat(c)) != null ? v : 0.0F);
         }
         else if (fieldClazz == boolean.class) {
-            Boolean v;
-            ec.field.set(t, (v = row.getBoolean(c)) != null ? v : false);
+            ec.field.setBoolean(t, row.getBoolean(c, false));
         }
         else if (fieldClazz == java.sql.Time.class) {
             ec.field.set(t, row.getTime(c));
@@ -637,24 +668,20 @@ public class HeaderRow extends Row {
             ec.method.invoke(t, row.getDecimal(c));
         }
         else if (fieldClazz == int.class) {
-            Integer v;
-            ec.method.invoke(t, (v = row.getInt(c)) != null ? v : 0);
+            ec.method.invoke(t, row.getInt(c, 0));
         }
         else if (fieldClazz == long.class) {
-            Long v;
-            ec.method.invoke(t, (v = row.getLong(c)) != null ? v : 0);
+            ec.method.invoke(t, row.getLong(c, 0L));
         }
         else if (fieldClazz == double.class) {
-            Double v;
-            ec.method.invoke(t, (v = row.getDouble(c)) != null ? v : 0.0D);
+            ec.method.invoke(t, row.getDouble(c, 0.0D));
         }
         else if (fieldClazz == float.class) {
             Float v;
             ec.method.invoke(t, (v = row.getFloat(c)) != null ? v : 0.0F);
         }
         else if (fieldClazz == boolean.class) {
-            Boolean v;
-            ec.method.invoke(t, (v = row.getBoolean(c)) != null ? v : false);
+            ec.method.invoke(t, row.getBoolean(c, false));
         }
         else if (fieldClazz == java.sql.Time.class) {
             ec.method.invoke(t, row.getTime(c));
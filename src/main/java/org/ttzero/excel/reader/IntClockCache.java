@@ -0,0 +1,294 @@
+/*
+ * Copyright (c) 2017-2026, guanquan.wang@hotmail.com All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ttzero.excel.reader;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * A fix size cache with primitive int keys, implemented by the CLOCK page elimination algorithm.
+ * <p>
+ * The entries are stored in dense arrays and located by an open-addressing index table,
+ * so neither the key is boxed nor any node is allocated by {@link #get(int)} and {@link #put(int, Object)}.
+ * A new entry is admitted with the reference bit cleared, it is evicted first unless
+ * it is accessed again, so a single scan can not flush the frequently used entries.
+ * <p>
+ * The time complexity of the push, get, and remove is O(1). This cache is not thread safe.
+ *
+ * @author guanquan.wang at 2026-10-17 20:10
+ */
+public class IntClockCache<V> implements Cache<Integer, V> {
+    /**
+     * The elements limit
+     */
+    private final int limit;
+    /**
+     * Dense entries
+     */
+    private final int[] keys;
+    private final Object[] values;
+    private final boolean[] refs;
+    /**
+     * Open-addressing index table, it stores the entry slot plus one, zero means empty
+     */
+    private final int[] table;
+    private final int mask;
+    /**
+     * The number of entries and the clock hand
+     */
+    private int size, hand;
+    /**
+     * Statistics
+     */
+    private long hits, misses;
+
+    /**
+     * Create a fix size cache witch size is {@code 512}
+     */
+    public IntClockCache() {
+        this(1 << 9);
+    }
+
+    public IntClockCache(int limit) {
+        if (limit <= 0) throw new IllegalArgumentException("The limit must be greater than zero.");
+        this.limit = limit;
+        keys = new int[limit];
+        values = new Object[limit];
+        refs = new boolean[limit];
+        // Load factor no more than 0.5
+        int n = Integer.highestOneBit(Math.max(limit, 2) * 2 - 1) << 1;
+        table = new int[n];
+        mask = n - 1;
+    }
+
+    /**
+     * Returns the value to which the specified key is mapped,
+     * or {@code null} if this cache contains no mapping for the key.
+     *
+     * @param k the key whose associated value is to be returned
+     * @return the value to which the specified key is mapped, or
+     *      {@code null} if this cache contains no mapping for the key
+     */
+    @SuppressWarnings("unchecked")
+    public V get(int k) {
+        int p = position(k);
+        if (p < 0) {
+            misses++;
+            return null;
+        }
+        int slot = table[p] - 1;
+        refs[slot] = true;
+        hits++;
+        return (V) values[slot];
+    }
+
+    /**
+     * Returns the value to which the specified key is mapped without touching the
+     * reference bit and the statistics
+     *
+     * @param k the key whose associated value is to be returned
+     * @return the value to which the specified key is mapped, or
+     *      {@code null} if this cache contains no mapping for the key
+     */
+    @SuppressWarnings("unchecked")
+    public V peek(int k) {
+        int p = position(k);
+        return p >= 0 ? (V) values[table[p] - 1] : null;
+    }
+
+    /**
+     * Associates the specified value with the specified key in this cache.
+     * An entry not referenced recently is evicted if the cache is full.
+     *
+     * @param k key with which the specified value is to be associated
+     * @param v value to be associated with the specified key
+     */
+    public void put(int k, V v) {
+        int p = position(k);
+        if (p >= 0) {
+            int slot = table[p] - 1;
+            values[slot] = v;
+            refs[slot] = true;
+            return;
+        }
+        int slot = size < limit ? size++ : evict();
+        keys[slot] = k;
+        values[slot] = v;
+        refs[slot] = false;
+        for (p = hash(k); table[p] != 0; p = (p + 1) & mask) ;
+        table[p] = slot + 1;
+    }
+
+    /**
+     * Removes the mapping for a key from this cache if it is present
+     *
+     * @param k key whose mapping is to be removed from the cache
+     * @return the previous value associated with <tt>key</tt>, or
+     *      <tt>null</tt> if there was no mapping for <tt>key</tt>.
+     */
+    @SuppressWarnings("unchecked")
+    public V remove(int k) {
+        int p = position(k);
+        if (p < 0) return null;
+        int slot = table[p] - 1;
+        V v = (V) values[slot];
+        unlink(p);
+        // Move the last entry to the hole
+        int last = --size;
+        if (slot != last) {
+            table[position(keys[last])] = slot + 1;
+            keys[slot] = keys[last];
+            values[slot] = values[last];
+            refs[slot] = refs[last];
+        }
+        values[last] = null;
+        if (hand >= size) hand = 0;
+        return v;
+    }
+
+    @Override
+    public V get(Integer k) {
+        return k != null ? get(k.intValue()) : null;
+    }
+
+    @Override
+    public V peek(Integer k) {
+        return k != null ? peek(k.intValue()) : null;
+    }
+
+    @Override
+    public void put(Integer k, V v) {
+        put(k.intValue(), v);
+    }
+
+    @Override
+    public V remove(Integer k) {
+        return k != null ? remove(k.intValue()) : null;
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(table, 0);
+        Arrays.fill(values, 0, size, null);
+        size = hand = 0;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the number of hits
+     *
+     * @return the hits count
+     */
+    public long getHits() {
+        return hits;
+    }
+
+    /**
+     * Returns the number of misses
+     *
+     * @return the misses count
+     */
+    public long getMisses() {
+        return misses;
+    }
+
+    // Returns the slot of the evicted entry
+    private int evict() {
+        for (; ; hand = hand + 1 < limit ? hand + 1 : 0) {
+            if (refs[hand]) refs[hand] = false;
+            else break;
+        }
+        int slot = hand;
+        hand = hand + 1 < limit ? hand + 1 : 0;
+        unlink(position(keys[slot]));
+        values[slot] = null;
+        return slot;
+    }
+
+    // Returns the position in index table, -1 if not found
+    private int position(int k) {
+        for (int p = hash(k), s; (s = table[p]) != 0; p = (p + 1) & mask) {
+            if (keys[s - 1] == k) return p;
+        }
+        return -1;
+    }
+
+    // Remove the position from index table with backward shift deletion
+    private void unlink(int p) {
+        table[p] = 0;
+        for (int j = (p + 1) & mask, s; (s = table[j]) != 0; j = (j + 1) & mask) {
+            int h = hash(keys[s - 1]);
+            // Move the entry if its home position is not in the cyclic range (p, j]
+            if (p <= j ? p >= h || h > j : p >= h && h > j) {
+                table[p] = s;
+                table[j] = 0;
+                p = j;
+            }
+        }
+    }
+
+    private int hash(int k) {
+        int h = k * 0x9E3779B9;
+        return (h ^ (h >>> 16)) & mask;
+    }
+
+    @Override
+    public Iterator<Cache.Entry<Integer, V>> iterator() {
+        return new Iterator<Cache.Entry<Integer, V>>() {
+            int i;
+
+            @Override
+            public boolean hasNext() {
+                return i < size;
+            }
+
+            @SuppressWarnings("unchecked")
+            @Override
+            public Cache.Entry<Integer, V> next() {
+                if (i >= size) throw new NoSuchElementException();
+                final int k = keys[i];
+                final V v = (V) values[i++];
+                return new Cache.Entry<Integer, V>() {
+                    @Override
+                    public Integer getKey() {
+                        return k;
+                    }
+
+                    @Override
+                    public V getValue() {
+                        return v;
+                    }
+
+                    @Override
+                    public String toString() {
+                        return k + ":" + v;
+                    }
+                };
+            }
+        };
+    }
+
+    @Override
+    public String toString() {
+        return "Size: " + size + ", Hits: " + hits + ", Misses: " + misses;
+    }
+}
@@ -0,0 +1,222 @@
+/*
+ * Copyright (c) 2017-2026, guanquan.wang@hotmail.com All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ttzero.excel.reader;
+
+import org.ttzero.excel.manager.Const;
+import org.ttzero.excel.util.FileUtil;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * A read-only Shared String Table backed by a memory-mapped temp file.
+ * <p>
+ * The strings are appended as UTF-8 with a 4 bytes length prefix, followed by a dense
+ * table of the string offsets, so {@link #get(int)} reads the offset and the string
+ * in constant time without any window reloading, the residency is handled by the OS page cache.
+ * The file is mapped in segments of 1G and a string never straddles two segments.
+ * <p>
+ * The table is filled by {@link #push(String)} and becomes readable after {@link #seal()},
+ * it can be read by multiple threads after sealed.
+ *
+ * @author guanquan.wang at 2026-10-17 17:40
+ */
+public class MappedSharedStringTable implements SharedStrings.Store {
+    /**
+     * Size of segment in power-of-two
+     */
+    static final int SEGMENT_SHIFT = 30;
+    static final long SEGMENT_MASK = (1L << SEGMENT_SHIFT) - 1;
+
+    /**
+     * The temp path
+     */
+    private final Path temp;
+    private FileChannel channel;
+    /**
+     * Write buffer
+     */
+    private ByteBuffer buffer;
+    /**
+     * The offsets of strings, it is written to the end of file when sealed
+     */
+    private long[] offsets;
+    /**
+     * The number of strings and the current writing position
+     */
+    private int size;
+    private long position;
+    /**
+     * The mapped segments, it is not null after sealed
+     */
+    private MappedByteBuffer[] segments;
+    /**
+     * The start position of offset table
+     */
+    private long indexStart;
+    /**
+     * Direct-mapped cache of the decoded strings
+     */
+    private final SharedStrings.DecodedCache cache;
+
+    public MappedSharedStringTable() throws IOException {
+        this(1 << 10);
+    }
+
+    /**
+     * Create a mapped table
+     *
+     * @param cacheSize the number of decoded strings to cache, it will be resized to power of two
+     * @throws IOException if I/O error occur
+     */
+    public MappedSharedStringTable(int cacheSize) throws IOException {
+        cache = new SharedStrings.DecodedCache(cacheSize);
+        temp = Files.createTempFile(Const.EEC_PREFIX, ".sst");
+        channel = FileChannel.open(temp, StandardOpenOption.WRITE, StandardOpenOption.READ);
+        buffer = ByteBuffer.allocate(1 << 16);
+        offsets = new long[1 << 10];
+    }
+
+    /**
+     * Append a string to the table
+     *
+     * @param s the string value, may be null
+     * @return the index of this string
+     * @throws IOException if I/O error occur
+     */
+    public int push(String s) throws IOException {
+        if (segments != null) throw new IllegalStateException("The table has been sealed.");
+        byte[] bytes = s != null ? s.getBytes(UTF_8) : null;
+        int n = bytes != null ? bytes.length : 0;
+        // Move to the next segment if the string straddles two segments
+        long remaining = (1L << SEGMENT_SHIFT) - (position & SEGMENT_MASK);
+        if (remaining < n + 4) skip(remaining);
+        if (size == offsets.length) offsets = Arrays.copyOf(offsets, size << 1);
+        offsets[size] = position;
+        putInt(bytes != null ? n : -1);
+        if (bytes != null) put(bytes);
+        return size++;
+    }
+
+    /**
+     * Write the offset table and map the file, the table can only be read after sealed
+     *
+     * @return this table
+     * @throws IOException if I/O error occur
+     */
+    public MappedSharedStringTable seal() throws IOException {
+        if (segments != null) return this;
+        // Align to 8 bytes so the offset never straddles two segments
+        if ((position & 7) != 0) skip(8 - (position & 7));
+        indexStart = position;
+        for (int i = 0; i < size; i++) putLong(offsets[i]);
+        flush();
+        offsets = null;
+        buffer = null;
+
+        long length = channel.size();
+        int n = (int) ((length + SEGMENT_MASK) >>> SEGMENT_SHIFT);
+        segments = new MappedByteBuffer[n];
+        for (int i = 0; i < n; i++) {
+            long from = ((long) i) << SEGMENT_SHIFT;
+            segments[i] = channel.map(FileChannel.MapMode.READ_ONLY, from, Math.min(1L << SEGMENT_SHIFT, length - from));
+        }
+        // The mapping remains valid after the channel is closed
+        channel.close();
+        channel = null;
+        return this;
+    }
+
+    @Override
+    public String get(int index) {
+        if (index < 0 || index >= size)
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        String value = cache.get(index);
+        if (value != null) return value;
+        long p = indexStart + (((long) index) << 3);
+        long offset = segments[(int) (p >>> SEGMENT_SHIFT)].getLong((int) (p & SEGMENT_MASK));
+        MappedByteBuffer segment = segments[(int) (offset >>> SEGMENT_SHIFT)];
+        int pos = (int) (offset & SEGMENT_MASK), n = segment.getInt(pos);
+        if (n < 0) return null;
+        if (n == 0) return "";
+        byte[] bytes = new byte[n];
+        pos += 4;
+        // Absolute get is thread safe
+        for (int i = 0; i < n; i++) bytes[i] = segment.get(pos + i);
+        value = new String(bytes, UTF_8);
+        cache.put(index, value);
+        return value;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    private void putInt(int v) throws IOException {
+        if (buffer.remaining() < 4) flush();
+        buffer.putInt(v);
+        position += 4;
+    }
+
+    private void putLong(long v) throws IOException {
+        if (buffer.remaining() < 8) flush();
+        buffer.putLong(v);
+        position += 8;
+    }
+
+    private void put(byte[] bytes) throws IOException {
+        for (int i = 0; i < bytes.length; ) {
+            if (!buffer.hasRemaining()) flush();
+            int n = Math.min(buffer.remaining(), bytes.length - i);
+            buffer.put(bytes, i, n);
+            i += n;
+            position += n;
+        }
+    }
+
+    private void skip(long n) throws IOException {
+        flush();
+        position += n;
+        channel.position(position);
+    }
+
+    private void flush() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) channel.write(buffer);
+        buffer.clear();
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (channel != null) {
+            channel.close();
+            channel = null;
+        }
+        segments = null;
+        cache.clear();
+        FileUtil.rm(temp);
+    }
+}
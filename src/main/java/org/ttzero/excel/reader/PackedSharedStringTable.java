@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2017-2026, guanquan.wang@hotmail.com All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ttzero.excel.reader;
+
+import java.util.Arrays;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * A read-only Shared String Table packed in heap.
+ * <p>
+ * All strings are packed into one large {@code byte[]} as UTF-8 with an {@code int[]}
+ * offset table, a string is decoded only when it is requested, so the table costs
+ * about the size of raw text instead of 2-3 times of {@link String} objects.
+ * The recently decoded strings are kept in a small direct-mapped cache.
+ * <p>
+ * The table is filled by {@link #push(String)} and it can be read by multiple threads
+ * after filled.
+ *
+ * @author guanquan.wang at 2026-10-17 18:25
+ */
+public class PackedSharedStringTable implements SharedStrings.Store {
+    /**
+     * The packed UTF-8 bytes
+     */
+    private byte[] data;
+    /**
+     * The offsets of strings, the length of string i is {@code offsets[i + 1] - offsets[i]},
+     * negative offset marks the null value
+     */
+    private int[] offsets;
+    /**
+     * The number of strings and the used bytes of data
+     */
+    private int size, position;
+    /**
+     * The maximum bytes of data and offsets
+     */
+    private final long budget;
+    /**
+     * Direct-mapped cache of the decoded strings
+     */
+    private final SharedStrings.DecodedCache cache;
+
+    /**
+     * Create a packed table
+     *
+     * @param budget the maximum bytes of packed text and offsets
+     * @param cacheSize the number of decoded strings to cache, it will be resized to power of two
+     */
+    public PackedSharedStringTable(long budget, int cacheSize) {
+        this.budget = Math.min(budget, Integer.MAX_VALUE - 8);
+        this.data = new byte[(int) Math.min(1 << 16, this.budget)];
+        this.offsets = new int[1 << 10];
+        this.cache = new SharedStrings.DecodedCache(cacheSize);
+    }
+
+    /**
+     * Append a string to the table
+     *
+     * @param s the string value, may be null
+     * @return {@code false} if it exceeds the budget
+     */
+    public boolean push(String s) {
+        byte[] bytes = s != null ? s.getBytes(UTF_8) : null;
+        int n = bytes != null ? bytes.length : 0;
+        if ((long) position + n + ((long) size + 2 << 2) > budget) return false;
+        if (size + 1 >= offsets.length) offsets = Arrays.copyOf(offsets, offsets.length << 1);
+        if (position + n > data.length) data = Arrays.copyOf(data, (int) Math.min(Math.max((long) data.length << 1, position + n), budget));
+        if (bytes != null) {
+            System.arraycopy(bytes, 0, data, position, n);
+            offsets[size] = position;
+            position += n;
+        } else offsets[size] = ~position;
+        offsets[++size] = position;
+        return true;
+    }
+
+    /**
+     * Trim the capacity to the actual size, the table can be read after trimmed
+     *
+     * @return this table
+     */
+    public PackedSharedStringTable trim() {
+        if (data.length > position) data = Arrays.copyOf(data, position);
+        if (offsets.length > size + 1) offsets = Arrays.copyOf(offsets, size + 1);
+        return this;
+    }
+
+    @Override
+    public String get(int index) {
+        if (index < 0 || index >= size)
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        String value = cache.get(index);
+        if (value != null) return value;
+        int a = offsets[index];
+        if (a < 0) return null;
+        int b = offsets[index + 1];
+        // The next string is null
+        if (b < 0) b = ~b;
+        value = new String(data, a, b - a, UTF_8);
+        cache.put(index, value);
+        return value;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the used bytes of the packed text and offsets
+     *
+     * @return the used bytes
+     */
+    public long usedBytes() {
+        return position + ((long) size + 1 << 2);
+    }
+
+    @Override
+    public void close() {
+        data = null;
+        offsets = null;
+        cache.clear();
+    }
+}
@@ -327,9 +327,9 @@ public class Row {
             case BOOL       : v = c.boolVal;                                 break;
             case NUMERIC    : v = c.intVal != 0;                             break;
             case LONG       : v = c.longVal != 0L;                           break;
-            case SST        : if (c.stringVal == null) c.setString(sst.get(c.intVal)); // @Mark:=>There is no missing `break`, this is normal logic here
+            case SST        : if (c.stringVal == null) c.stringVal = sst.get(c.intVal); // @Mark:=>There is no missing `break`, this is normal logic here
             case INLINESTR  : v = "true".equalsIgnoreCase(c.stringVal);      break;
-            case DECIMAL    : v = c.decimal.compareTo(BigDecimal.ZERO) != 0; break;
+            case DECIMAL    : v = c.decimalSignum() != 0;                    break;
             case DOUBLE     : v = c.doubleVal != .0D;                        break;
             case BLANK      :
             case EMPTY_TAG  :
@@ -339,6 +339,63 @@ public class Row {
         return v;
     }
 
+    /**
+     * 获取单元格的值并转为{@code boolean}类型，与{@link #getBoolean(int)}不同的是单元格为空时返回默认值，
+     * 此方法不会产生装箱对象
+     *
+     * @param columnIndex 单元格索引
+     * @param dflt 单元格为空或未实例化时返回的默认值
+     * @return {@code numeric}类型非{@code 0}为{@code true}其余为{@code false}，
+     * {@code string}类型文本值为{@code "true"}则为{@code true}
+     */
+    public boolean getBoolean(int columnIndex, boolean dflt) {
+        Cell c = getCell(columnIndex);
+        return getBoolean(c, dflt);
+    }
+
+    /**
+     * 获取单元格的值并转为{@code boolean}类型，与{@link #getBoolean(String)}不同的是单元格为空时返回默认值，
+     * 此方法不会产生装箱对象
+     *
+     * @param columnName 列名
+     * @param dflt 单元格为空或未实例化时返回的默认值
+     * @return {@code numeric}类型非{@code 0}为{@code true}其余为{@code false}，
+     * {@code string}类型文本值为{@code "true"}则为{@code true}
+     */
+    public boolean getBoolean(String columnName, boolean dflt) {
+        Cell c = getCell(columnName);
+        return getBoolean(c, dflt);
+    }
+
+    /**
+     * 获取单元格的值并转为{@code boolean}类型，与{@link #getBoolean(Cell)}不同的是单元格为空时返回默认值，
+     * 此方法不会产生装箱对象
+     *
+     * @param c 单元格{@link Cell}
+     * @param dflt 单元格为空或未实例化时返回的默认值
+     * @return {@code numeric}类型非{@code 0}为{@code true}其余为{@code false}，
+     * {@code string}类型文本值为{@code "true"}则为{@code true}
+     */
+    public boolean getBoolean(Cell c, boolean dflt) {
+        boolean v;
+        // Resolve the shared string first, so the switch has no fall-through
+        if (c.t == SST && c.stringVal == null) c.stringVal = sst.get(c.intVal);
+        switch (c.t) {
+            case BOOL       : v = c.boolVal;                                 break;
+            case NUMERIC    : v = c.intVal != 0;                             break;
+            case LONG       : v = c.longVal != 0L;                           break;
+            case SST        :
+            case INLINESTR  : v = "true".equalsIgnoreCase(c.stringVal);      break;
+            case DECIMAL    : v = c.decimalSignum() != 0;                    break;
+            case DOUBLE     : v = c.doubleVal != .0D;                        break;
+            case BLANK      :
+            case EMPTY_TAG  :
+            case UNALLOCATED: v = dflt;                                      break;
+            default         : v = false;
+        }
+        return v;
+    }
+
     /**
      * 获取单元格的值并转为{@code Byte}类型
      *
@@ -372,7 +429,7 @@ public class Row {
         switch (c.t) {
             case NUMERIC    : b |= c.intVal;                            break;
             case LONG       : b |= c.longVal;                           break;
-            case DECIMAL    : b = c.decimal.byteValue();                break;
+            case DECIMAL    : b = (byte) c.getDecimalAsLong();          break;
             case DOUBLE     : b |= (int) c.doubleVal;                   break;
             case BOOL       : b |= c.boolVal ? 1 : 0;                   break;
             default         : return null;
@@ -411,12 +468,12 @@ public class Row {
     public Character getChar(Cell c) {
         char cc = 0;
         switch (c.t) {
-            case SST        : if (c.stringVal == null) c.setString(sst.get(c.intVal)); // @Mark:=>There is no missing `break`, this is normal logic here
+            case SST        : if (c.stringVal == null) c.stringVal = sst.get(c.intVal); // @Mark:=>There is no missing `break`, this is normal logic here
             case INLINESTR  : if (isNotEmpty(c.stringVal)) cc = c.stringVal.charAt(0); break;
             case NUMERIC    : cc |= c.intVal;                           break;
             case LONG       : cc |= c.longVal;                          break;
             case BOOL       : cc |= c.boolVal ? 1 : 0;                  break;
-            case DECIMAL    : cc |= c.decimal.intValue();               break;
+            case DECIMAL    : cc |= (int) c.getDecimalAsLong();         break;
             case DOUBLE     : cc |= (int) c.doubleVal;                  break;
             default         : return null;
         }
@@ -456,9 +513,9 @@ public class Row {
         switch (c.t) {
             case NUMERIC    : s |= c.intVal;                            break;
             case LONG       : s |= c.longVal;                           break;
-            case DECIMAL    : s = c.decimal.shortValue();               break;
+            case DECIMAL    : s = (short) c.getDecimalAsLong();         break;
             case DOUBLE     : s |= (int) c.doubleVal;                   break;
-            case SST        : if (c.stringVal == null) c.setString(sst.get(c.intVal)); // @Mark:=>There is no missing `break`, this is normal logic here
+            case SST        : if (c.stringVal == null) c.stringVal = sst.get(c.intVal); // @Mark:=>There is no missing `break`, this is normal logic here
             case INLINESTR  :
                 if (StringUtil.isEmpty(c.stringVal)) return null;
                 String ss = c.stringVal.trim();
@@ -509,9 +566,9 @@ public class Row {
         switch (c.t) {
             case NUMERIC    : n = c.intVal;                             break;
             case LONG       : n = (int) c.longVal;                      break;
-            case DECIMAL    : n = c.decimal.intValue();                 break;
+            case DECIMAL    : n = (int) c.getDecimalAsLong();           break;
             case DOUBLE     : n = (int) c.doubleVal;                    break;
-            case SST        : if (c.stringVal == null) c.setString(sst.get(c.intVal)); // @Mark:=>There is no missing `break`, this is normal logic here
+            case SST        : if (c.stringVal == null) c.stringVal = sst.get(c.intVal); // @Mark:=>There is no missing `break`, this is normal logic here
             case INLINESTR  :
                 if (StringUtil.isEmpty(c.stringVal)) return null;
                 String ss = c.stringVal.trim();
@@ -529,6 +586,67 @@ public class Row {
         return n;
     }
 
+    /**
+     * 获取单元格的值并转为{@code int}类型，与{@link #getInt(int)}不同的是单元格为空时返回默认值，
+     * 此方法不会产生装箱对象
+     *
+     * @param columnIndex 单元格索引
+     * @param dflt 单元格为空或无法转换时返回的默认值
+     * @return {@code numeric}和{@code string}类型能强转为{@code int}，其余类型返回默认值
+     */
+    public int getInt(int columnIndex, int dflt) {
+        Cell c = getCell(columnIndex);
+        return getInt(c, dflt);
+    }
+
+    /**
+     * 获取单元格的值并转为{@code int}类型，与{@link #getInt(String)}不同的是单元格为空时返回默认值，
+     * 此方法不会产生装箱对象
+     *
+     * @param columnName 列名
+     * @param dflt 单元格为空或无法转换时返回的默认值
+     * @return {@code numeric}和{@code string}类型能强转为{@code int}，其余类型返回默认值
+     */
+    public int getInt(String columnName, int dflt) {
+        Cell c = getCell(columnName);
+        return getInt(c, dflt);
+    }
+
+    /**
+     * 获取单元格的值并转为{@code int}类型，与{@link #getInt(Cell)}不同的是单元格为空时返回默认值，
+     * 此方法不会产生装箱对象
+     *
+     * @param c 单元格{@link Cell}
+     * @param dflt 单元格为空或无法转换时返回的默认值
+     * @return {@code numeric}和{@code string}类型能强转为{@code int}，其余类型返回默认值
+     */
+    public int getInt(Cell c, int dflt) {
+        int n;
+        // Resolve the shared string first, so the switch has no fall-through
+        if (c.t == SST && c.stringVal == null) c.stringVal = sst.get(c.intVal);
+        switch (c.t) {
+            case NUMERIC    : n = c.intVal;                             break;
+            case LONG       : n = (int) c.longVal;                      break;
+            case DECIMAL    : n = (int) c.getDecimalAsLong();           break;
+            case DOUBLE     : n = (int) c.doubleVal;                    break;
+            case SST        :
+            case INLINESTR  :
+                if (StringUtil.isEmpty(c.stringVal)) return dflt;
+                String ss = c.stringVal.trim();
+                int t = testNumberType(ss.toCharArray(), 0, ss.length());
+                switch (t) {
+                    case 1  : n = Integer.parseInt(ss);                 break;
+                    case 2  : n = (int) Long.parseLong(ss);             break;
+                    case 3  : n = (int) Double.parseDouble(ss);         break;
+                    case 0  : return dflt;
+                    default : throw new NumberFormatException("For input string: \"" + c.stringVal + "\"");
+                }                                                       break;
+            case BOOL       : n = c.boolVal ? 1 : 0;                    break;
+            default         : n = dflt;
+        }
+        return n;
+    }
+
     /**
      * 获取单元格的值并转为{@code Long}类型
      *
@@ -562,9 +680,9 @@ public class Row {
         switch (c.t) {
             case LONG       : l = c.longVal;                            break;
             case NUMERIC    : l = c.intVal;                             break;
-            case DECIMAL    : l = c.decimal.longValue();                break;
+            case DECIMAL    : l = c.getDecimalAsLong();                 break;
             case DOUBLE     : l = (long) c.doubleVal;                   break;
-            case SST        : if (c.stringVal == null) c.setString(sst.get(c.intVal)); // @Mark:=>There is no missing `break`, this is normal logic here
+            case SST        : if (c.stringVal == null) c.stringVal = sst.get(c.intVal); // @Mark:=>There is no missing `break`, this is normal logic here
             case INLINESTR  :
                 if (StringUtil.isEmpty(c.stringVal)) return null;
                 String ss = c.stringVal.trim();
@@ -582,6 +700,67 @@ public class Row {
         return l;
     }
 
+    /**
+     * 获取单元格的值并转为{@code long}类型，与{@link #getLong(int)}不同的是单元格为空时返回默认值，
+     * 此方法不会产生装箱对象
+     *
+     * @param columnIndex 单元格索引
+     * @param dflt 单元格为空或无法转换时返回的默认值
+     * @return {@code numeric}和{@code string}类型能强转为{@code long}，其余类型返回默认值
+     */
+    public long getLong(int columnIndex, long dflt) {
+        Cell c = getCell(columnIndex);
+        return getLong(c, dflt);
+    }
+
+    /**
+     * 获取单元格的值并转为{@code long}类型，与{@link #getLong(String)}不同的是单元格为空时返回默认值，
+     * 此方法不会产生装箱对象
+     *
+     * @param columnName 列名
+     * @param dflt 单元格为空或无法转换时返回的默认值
+     * @return {@code numeric}和{@code string}类型能强转为{@code long}，其余类型返回默认值
+     */
+    public long getLong(String columnName, long dflt) {
+        Cell c = getCell(columnName);
+        return getLong(c, dflt);
+    }
+
+    /**
+     * 获取单元格的值并转为{@code long}类型，与{@link #getLong(Cell)}不同的是单元格为空时返回默认值，
+     * 此方法不会产生装箱对象
+     *
+     * @param c 单元格{@link Cell}
+     * @param dflt 单元格为空或无法转换时返回的默认值
+     * @return {@code numeric}和{@code string}类型能强转为{@code long}，其余类型返回默认值
+     */
+    public long getLong(Cell c, long dflt) {
+        long l;
+        // Resolve the shared string first, so the switch has no fall-through
+        if (c.t == SST && c.stringVal == null) c.stringVal = sst.get(c.intVal);
+        switch (c.t) {
+            case LONG       : l = c.longVal;                            break;
+            case NUMERIC    : l = c.intVal;                             break;
+            case DECIMAL    : l = c.getDecimalAsLong();                 break;
+            case DOUBLE     : l = (long) c.doubleVal;                   break;
+            case SST        :
+            case INLINESTR  :
+                if (StringUtil.isEmpty(c.stringVal)) return dflt;
+                String ss = c.stringVal.trim();
+                int t = testNumberType(ss.toCharArray(), 0, ss.length());
+                switch (t) {
+                    case 1  :
+                    case 2  : l = Long.parseLong(ss);                   break;
+                    case 3  : l = (long) Double.parseDouble(ss);        break;
+                    case 0  : return dflt;
+                    default : throw new NumberFormatException("For input string: \"" + c.stringVal + "\"");
+                }                                                       break;
+            case BOOL       : l = c.boolVal ? 1L : 0L;                  break;
+            default         : l = dflt;
+        }
+        return l;
+    }
+
     /**
      * 获取单元格的值并转为{@code String}类型
      *
@@ -613,14 +792,14 @@ public class Row {
     public String getString(Cell c) {
         String s;
         switch (c.t) {
-            case SST        : if (c.stringVal == null) c.setString(sst.get(c.intVal)); // @Mark:=>There is no missing `break`, this is normal logic here
+            case SST        : if (c.stringVal == null) c.stringVal = sst.get(c.intVal); // @Mark:=>There is no missing `break`, this is normal logic here
             case INLINESTR  : s = c.stringVal;                          break;
             case BLANK      :
             case EMPTY_TAG  :
             case UNALLOCATED: s = null;                                 break;
             case LONG       : s = String.valueOf(c.longVal);            break;
             case NUMERIC    : s = String.valueOf(c.intVal);             break;
-            case DECIMAL    : s = c.decimal.toString();                 break;
+            case DECIMAL    : s = c.getDecimal().toString();            break;
             case DOUBLE     : s = String.valueOf(c.doubleVal);          break;
             case BOOL       : s = c.boolVal ? "true" : "false";         break;
             default         : s = c.stringVal;
@@ -628,6 +807,38 @@ public class Row {
         return s;
     }
 
+    /**
+     * 获取单元格在共享字符串表中的下标，相同下标对应的字符串一定相同，可以直接使用下标进行分组、去重或比较而无需获取字符串
+     *
+     * @param columnIndex 单元格索引
+     * @return 共享字符串下标，非共享字符串单元格返回{@code -1}
+     */
+    public int getSstIndex(int columnIndex) {
+        Cell c = getCell(columnIndex);
+        return getSstIndex(c);
+    }
+
+    /**
+     * 获取单元格在共享字符串表中的下标，相同下标对应的字符串一定相同，可以直接使用下标进行分组、去重或比较而无需获取字符串
+     *
+     * @param columnName 列名
+     * @return 共享字符串下标，非共享字符串单元格返回{@code -1}
+     */
+    public int getSstIndex(String columnName) {
+        Cell c = getCell(columnName);
+        return getSstIndex(c);
+    }
+
+    /**
+     * 获取单元格在共享字符串表中的下标，相同下标对应的字符串一定相同，可以直接使用下标进行分组、去重或比较而无需获取字符串
+     *
+     * @param c 单元格{@link Cell}
+     * @return 共享字符串下标，非共享字符串单元格返回{@code -1}
+     */
+    public int getSstIndex(Cell c) {
+        return c.t == SST ? c.intVal : -1;
+    }
+
     /**
      * 获取单元格的值并转为{@code Float}类型
      *
@@ -692,11 +903,11 @@ public class Row {
     public Double getDouble(Cell c) {
         double d;
         switch (c.t) {
-            case DECIMAL    : d = c.decimal.doubleValue();              break;
+            case DECIMAL    : d = c.getDecimalAsDouble();               break;
             case DOUBLE     : d = c.doubleVal;                          break;
             case NUMERIC    : d = c.intVal;                             break;
             case LONG       : d = c.longVal;                            break;
-            case SST        : if (c.stringVal == null) c.setString(sst.get(c.intVal)); // @Mark:=>There is no missing `break`, this is normal logic here
+            case SST        : if (c.stringVal == null) c.stringVal = sst.get(c.intVal); // @Mark:=>There is no missing `break`, this is normal logic here
             case INLINESTR  :
                 if (isNotBlank(c.stringVal)) d = Double.parseDouble(c.stringVal.trim());
                 else return null;                                       break;
@@ -705,6 +916,58 @@ public class Row {
         return d;
     }
 
+    /**
+     * 获取单元格的值并转为{@code double}类型，与{@link #getDouble(int)}不同的是单元格为空时返回默认值，
+     * 此方法不会产生装箱对象
+     *
+     * @param columnIndex 单元格索引
+     * @param dflt 单元格为空或无法转换时返回的默认值
+     * @return 单元格有值时强转为{@code double}否则返回默认值，此接口可能抛{@code NumberFormatException}异常
+     */
+    public double getDouble(int columnIndex, double dflt) {
+        Cell c = getCell(columnIndex);
+        return getDouble(c, dflt);
+    }
+
+    /**
+     * 获取单元格的值并转为{@code double}类型，与{@link #getDouble(String)}不同的是单元格为空时返回默认值，
+     * 此方法不会产生装箱对象
+     *
+     * @param columnName 列名
+     * @param dflt 单元格为空或无法转换时返回的默认值
+     * @return 单元格有值时强转为{@code double}否则返回默认值，此接口可能抛{@code NumberFormatException}异常
+     */
+    public double getDouble(String columnName, double dflt) {
+        Cell c = getCell(columnName);
+        return getDouble(c, dflt);
+    }
+
+    /**
+     * 获取单元格的值并转为{@code double}类型，与{@link #getDouble(Cell)}不同的是单元格为空时返回默认值，
+     * 此方法不会产生装箱对象
+     *
+     * @param c 单元格{@link Cell}
+     * @param dflt 单元格为空或无法转换时返回的默认值
+     * @return 单元格有值时强转为{@code double}否则返回默认值，此接口可能抛{@code NumberFormatException}异常
+     */
+    public double getDouble(Cell c, double dflt) {
+        double d;
+        // Resolve the shared string first, so the switch has no fall-through
+        if (c.t == SST && c.stringVal == null) c.stringVal = sst.get(c.intVal);
+        switch (c.t) {
+            case DECIMAL    : d = c.getDecimalAsDouble();               break;
+            case DOUBLE     : d = c.doubleVal;                          break;
+            case NUMERIC    : d = c.intVal;                             break;
+            case LONG       : d = c.longVal;                            break;
+            case SST        :
+            case INLINESTR  :
+                if (isNotBlank(c.stringVal)) d = Double.parseDouble(c.stringVal.trim());
+                else d = dflt;                                          break;
+            default         : d = dflt;
+        }
+        return d;
+    }
+
     /**
      * 获取单元格的值并转为{@code java.math.BigDecimal}类型
      *
@@ -736,11 +999,11 @@ public class Row {
     public BigDecimal getDecimal(Cell c) {
         BigDecimal bd;
         switch (c.t) {
-            case DECIMAL    : bd = c.decimal;                            break;
+            case DECIMAL    : bd = c.getDecimal();                       break;
             case DOUBLE     : bd = BigDecimal.valueOf(c.doubleVal);      break;
             case NUMERIC    : bd = BigDecimal.valueOf(c.intVal);         break;
             case LONG       : bd = BigDecimal.valueOf(c.longVal);        break;
-            case SST        : if (c.stringVal == null) c.setString(sst.get(c.intVal)); // @Mark:=>There is no missing `break`, this is normal logic here
+            case SST        : if (c.stringVal == null) c.stringVal = sst.get(c.intVal); // @Mark:=>There is no missing `break`, this is normal logic here
             case INLINESTR  : bd = isNotBlank(c.stringVal) ? new BigDecimal(c.stringVal.trim()) : null; break;
             default         : bd = null;
         }
@@ -876,9 +1139,9 @@ public class Row {
         LocalDateTime ldt;
         switch (c.t) {
             case NUMERIC    : ldt = toLocalDateTime(c.intVal);                              break;
-            case DECIMAL    : ldt = toLocalDateTime(c.decimal.doubleValue());               break;
+            case DECIMAL    : ldt = toLocalDateTime(c.getDecimalAsDouble());                break;
             case DOUBLE     : ldt = toLocalDateTime(c.doubleVal);                           break;
-            case SST        : if (c.stringVal == null) c.setString(sst.get(c.intVal)); // @Mark:=>There is no missing `break`, this is normal logic here
+            case SST        : if (c.stringVal == null) c.stringVal = sst.get(c.intVal); // @Mark:=>There is no missing `break`, this is normal logic here
             case INLINESTR  : ldt = isNotBlank(c.stringVal) ? toTimestamp(c.stringVal.trim()).toLocalDateTime() : null; break;
             default         : ldt = null;
         }
@@ -950,9 +1213,9 @@ public class Row {
         LocalTime lt;
         switch (c.t) {
             case NUMERIC     : lt = toLocalTime(c.intVal);                  break;
-            case DECIMAL     : lt = toLocalTime(c.decimal.doubleValue());   break;
+            case DECIMAL     : lt = toLocalTime(c.getDecimalAsDouble());    break;
             case DOUBLE      : lt = toLocalTime(c.doubleVal);               break;
-            case SST         : if (c.stringVal == null) c.setString(sst.get(c.intVal));// @Mark:=>There is no missing `break`, this is normal logic here
+            case SST         : if (c.stringVal == null) c.stringVal = sst.get(c.intVal);// @Mark:=>There is no missing `break`, this is normal logic here
             case INLINESTR   :
                 if (isNotBlank(c.stringVal)) {
                     c.stringVal = c.stringVal.trim();
@@ -1154,7 +1417,7 @@ public class Row {
     public boolean isBlank(Cell c) {
         boolean blank;
         switch (c.t) {
-            case SST        : if (c.stringVal == null) c.setString(sst.get(c.intVal)); // @Mark:=>There is no missing `break`, this is normal logic here
+            case SST        : if (c.stringVal == null) c.stringVal = sst.get(c.intVal); // @Mark:=>There is no missing `break`, this is normal logic here
             case INLINESTR  : blank = StringUtil.isBlank(c.stringVal); break;
             case BLANK      :
             case EMPTY_TAG  :
@@ -1164,6 +1427,41 @@ public class Row {
         return blank;
     }
 
+    /**
+     * 判断单元格是否为{@code null}，单元格未实例化或没有值时返回{@code true}，
+     * 与{@link #isBlank(int)}不同的是此方法不读取共享字符串也不判断空字符串，所以不会产生任何对象
+     *
+     * @param columnIndex 列索引
+     * @return 单元格无值时返回{@code true}
+     */
+    public boolean isNull(int columnIndex) {
+        Cell c = getCell(columnIndex);
+        return isNull(c);
+    }
+
+    /**
+     * 判断单元格是否为{@code null}，单元格未实例化或没有值时返回{@code true}，
+     * 与{@link #isBlank(String)}不同的是此方法不读取共享字符串也不判断空字符串，所以不会产生任何对象
+     *
+     * @param columnName 列名
+     * @return 单元格无值时返回{@code true}
+     */
+    public boolean isNull(String columnName) {
+        Cell c = getCell(columnName);
+        return isNull(c);
+    }
+
+    /**
+     * 判断单元格是否为{@code null}，单元格未实例化或没有值时返回{@code true}，
+     * 与{@link #isBlank(Cell)}不同的是此方法不读取共享字符串也不判断空字符串，所以不会产生任何对象
+     *
+     * @param c 单元格{@link Cell}
+     * @return 单元格无值时返回{@code true}
+     */
+    public boolean isNull(Cell c) {
+        return c.t == BLANK || c.t == EMPTY_TAG || c.t == UNALLOCATED;
+    }
+
     /**
      * 使用{@link Sheet#bind}方法绑定类型后，使用此方法将整行数据转为指定类型&lt;T&gt;
      *
@@ -1274,7 +1572,7 @@ public class Row {
         for (int i = 0; i < lc; i++) {
             Cell c = cells[i];
             switch (c.t) {
-                case SST      : if (c.stringVal == null) c.setString(sst.get(c.intVal)); // @Mark:=>There is no missing `break`, this is normal logic here
+                case SST      : if (c.stringVal == null) c.stringVal = sst.get(c.intVal); // @Mark:=>There is no missing `break`, this is normal logic here
                 case INLINESTR: joiner.add(c.stringVal); break;
                 case NUMERIC  :
                     if (!styles.isDate(c.xf)) joiner.add(String.valueOf(c.intVal));
@@ -1283,9 +1581,9 @@ public class Row {
                     break;
                 case LONG     : joiner.add(String.valueOf(c.longVal)); break;
                 case DECIMAL:
-                    if (!styles.isDate(c.xf)) joiner.add(c.decimal.toString());
-                    else if (c.decimal.compareTo(BigDecimal.ONE) >= 0) joiner.add(toDateTimeString(toTimestamp(c.decimal.doubleValue())));
-                    else joiner.add(new String(toTimeChars(toLocalTime(c.decimal.doubleValue()))));
+                    if (!styles.isDate(c.xf)) joiner.add(c.getDecimal().toString());
+                    else if (c.getDecimalAsDouble() >= 1.0D) joiner.add(toDateTimeString(toTimestamp(c.getDecimalAsDouble())));
+                    else joiner.add(new String(toTimeChars(toLocalTime(c.getDecimalAsDouble()))));
                     break;
                 case DOUBLE:
                     if (!styles.isDate(c.xf)) joiner.add(String.valueOf(c.doubleVal));
@@ -1329,7 +1627,7 @@ public class Row {
             if (key == null) continue;
             switch (c.t) {
                 case SST:
-                    if (c.stringVal == null) c.setString(sst.get(c.intVal));
+                    if (c.stringVal == null) c.stringVal = sst.get(c.intVal);
                     // @Mark:=>There is no missing `break`, this is normal logic here
                 case INLINESTR:
                     data.put(key, c.stringVal);
@@ -1344,9 +1642,9 @@ public class Row {
                     data.put(key, c.longVal);
                     break;
                 case DECIMAL:
-                    if (!styles.isDate(c.xf)) data.put(key, c.decimal);
-                    else if (c.decimal.compareTo(BigDecimal.ONE) >= 0) data.put(key, toTimestamp(c.decimal.doubleValue()));
-                    else data.put(key, toTime(c.decimal.doubleValue()));
+                    if (!styles.isDate(c.xf)) data.put(key, c.getDecimal());
+                    else if (c.getDecimalAsDouble() >= 1.0D) data.put(key, toTimestamp(c.getDecimalAsDouble()));
+                    else data.put(key, toTime(c.getDecimalAsDouble()));
                     break;
                 case DOUBLE:
                     if (!styles.isDate(c.xf)) data.put(key, c.doubleVal);
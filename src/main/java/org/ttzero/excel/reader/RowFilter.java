@@ -0,0 +1,410 @@
+/*
+ * Copyright (c) 2017-2026, guanquan.wang@hotmail.com All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ttzero.excel.reader;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.ttzero.excel.reader.Cell.BOOL;
+import static org.ttzero.excel.reader.Cell.DECIMAL;
+import static org.ttzero.excel.reader.Cell.DOUBLE;
+import static org.ttzero.excel.reader.Cell.INLINESTR;
+import static org.ttzero.excel.reader.Cell.LONG;
+import static org.ttzero.excel.reader.Cell.NUMERIC;
+import static org.ttzero.excel.reader.Cell.SST;
+
+/**
+ * 行过滤器，解析行数据时先只解析过滤条件涉及的列并使用原始值比较，不满足条件的行将直接跳过，
+ * 其余单元格不会被解析也不会被转为对象，适用于从大量数据中筛选少量数据的场景
+ *
+ * <p>比较规则：数字条件只与数字单元格比较，字符串条件只与字符串单元格比较，布尔条件只与布尔单元格比较，
+ * 类型不同或单元格为空时只有{@code ne}条件成立。字符串条件按共享字符串下标缓存比较结果，
+ * 每个不同的下标只获取并比较一次字符串，之后只需比较下标，比较结果随过滤器缓存，同一过滤器重复使用时不需要再次比较</p>
+ *
+ * <p>多个条件之间为"且"的关系，过滤器只作用于数据行{@link Sheet#dataRows}、{@link Sheet#parallelDataRows}
+ * 和{@link Sheet#batches}，表头行不参与过滤</p>
+ *
+ * <pre>
+ * reader.sheet(0)
+ *     .filter(RowFilter.eq("status", "PAID").and(RowFilter.gt("amount", 1000)))
+ *     .dataRows()</pre>
+ *
+ * @author guanquan.wang at 2026-10-17 16:20
+ */
+public class RowFilter {
+    static final int EQ = 0, NE = 1, GT = 2, GE = 3, LT = 4, LE = 5;
+
+    /**
+     * 过滤条件
+     */
+    final List<Condition> conditions;
+    /**
+     * The cached SST matchers of string conditions and the Shared String Table they belong to
+     */
+    private SharedStrings sst;
+    private SstMatcher[] sstMatchers;
+
+    protected RowFilter(List<Condition> conditions) {
+        this.conditions = conditions;
+    }
+
+    /**
+     * 列值等于{@code value}
+     *
+     * @param columnName 列名
+     * @param value 比较值，支持{@link Number}，{@link String}和{@link Boolean}
+     * @return 行过滤器
+     */
+    public static RowFilter eq(String columnName, Object value) {
+        return of(new Condition(columnName, -1, EQ, value));
+    }
+
+    /**
+     * 列值等于{@code value}
+     *
+     * @param columnIndex 列下标（zero base）
+     * @param value 比较值，支持{@link Number}，{@link String}和{@link Boolean}
+     * @return 行过滤器
+     */
+    public static RowFilter eq(int columnIndex, Object value) {
+        return of(new Condition(null, columnIndex, EQ, value));
+    }
+
+    /**
+     * 列值不等于{@code value}
+     *
+     * @param columnName 列名
+     * @param value 比较值，支持{@link Number}，{@link String}和{@link Boolean}
+     * @return 行过滤器
+     */
+    public static RowFilter ne(String columnName, Object value) {
+        return of(new Condition(columnName, -1, NE, value));
+    }
+
+    /**
+     * 列值不等于{@code value}
+     *
+     * @param columnIndex 列下标（zero base）
+     * @param value 比较值，支持{@link Number}，{@link String}和{@link Boolean}
+     * @return 行过滤器
+     */
+    public static RowFilter ne(int columnIndex, Object value) {
+        return of(new Condition(null, columnIndex, NE, value));
+    }
+
+    /**
+     * 列值大于{@code value}
+     *
+     * @param columnName 列名
+     * @param value 比较值，支持{@link Number}，{@link String}和{@link Boolean}
+     * @return 行过滤器
+     */
+    public static RowFilter gt(String columnName, Object value) {
+        return of(new Condition(columnName, -1, GT, value));
+    }
+
+    /**
+     * 列值大于{@code value}
+     *
+     * @param columnIndex 列下标（zero base）
+     * @param value 比较值，支持{@link Number}，{@link String}和{@link Boolean}
+     * @return 行过滤器
+     */
+    public static RowFilter gt(int columnIndex, Object value) {
+        return of(new Condition(null, columnIndex, GT, value));
+    }
+
+    /**
+     * 列值大于等于{@code value}
+     *
+     * @param columnName 列名
+     * @param value 比较值，支持{@link Number}，{@link String}和{@link Boolean}
+     * @return 行过滤器
+     */
+    public static RowFilter ge(String columnName, Object value) {
+        return of(new Condition(columnName, -1, GE, value));
+    }
+
+    /**
+     * 列值大于等于{@code value}
+     *
+     * @param columnIndex 列下标（zero base）
+     * @param value 比较值，支持{@link Number}，{@link String}和{@link Boolean}
+     * @return 行过滤器
+     */
+    public static RowFilter ge(int columnIndex, Object value) {
+        return of(new Condition(null, columnIndex, GE, value));
+    }
+
+    /**
+     * 列值小于{@code value}
+     *
+     * @param columnName 列名
+     * @param value 比较值，支持{@link Number}，{@link String}和{@link Boolean}
+     * @return 行过滤器
+     */
+    public static RowFilter lt(String columnName, Object value) {
+        return of(new Condition(columnName, -1, LT, value));
+    }
+
+    /**
+     * 列值小于{@code value}
+     *
+     * @param columnIndex 列下标（zero base）
+     * @param value 比较值，支持{@link Number}，{@link String}和{@link Boolean}
+     * @return 行过滤器
+     */
+    public static RowFilter lt(int columnIndex, Object value) {
+        return of(new Condition(null, columnIndex, LT, value));
+    }
+
+    /**
+     * 列值小于等于{@code value}
+     *
+     * @param columnName 列名
+     * @param value 比较值，支持{@link Number}，{@link String}和{@link Boolean}
+     * @return 行过滤器
+     */
+    public static RowFilter le(String columnName, Object value) {
+        return of(new Condition(columnName, -1, LE, value));
+    }
+
+    /**
+     * 列值小于等于{@code value}
+     *
+     * @param columnIndex 列下标（zero base）
+     * @param value 比较值，支持{@link Number}，{@link String}和{@link Boolean}
+     * @return 行过滤器
+     */
+    public static RowFilter le(int columnIndex, Object value) {
+        return of(new Condition(null, columnIndex, LE, value));
+    }
+
+    /**
+     * 合并过滤条件，两个过滤器的条件需同时满足
+     *
+     * @param other 其它过滤器
+     * @return 新的行过滤器
+     */
+    public RowFilter and(RowFilter other) {
+        List<Condition> list = new ArrayList<>(conditions.size() + other.conditions.size());
+        list.addAll(conditions);
+        list.addAll(other.conditions);
+        return new RowFilter(list);
+    }
+
+    static RowFilter of(Condition condition) {
+        return new RowFilter(Collections.singletonList(condition));
+    }
+
+    /**
+     * Resolve the conditions to an array indexed by column (zero base), the conditions
+     * on the same column are chained by {@link Condition#next}. The string conditions
+     * are bound to the {@link SstMatcher}s which compare the string of each distinct SST index
+     * once, the matchers are cached so the reused filter never compares the same string again.
+     *
+     * @param header the header row, the column names are matched with it
+     * @param sst the Shared String Table, may be null
+     * @return the resolved conditions, every condition is a copy so the filter can be reused
+     * @throws ExcelReadException if the column name not found in header
+     */
+    synchronized Condition[] resolve(HeaderRow header, SharedStrings sst) {
+        // The matchers are bound to the Shared String Table
+        if (this.sst != sst || sstMatchers == null) {
+            this.sst = sst;
+            sstMatchers = new SstMatcher[conditions.size()];
+        }
+        List<Condition> list = new ArrayList<>(conditions.size());
+        int max = -1;
+        for (int i = 0; i < conditions.size(); i++) {
+            Condition c = conditions.get(i);
+            int index = c.index;
+            if (c.name != null) {
+                if (header == null || (index = header.getIndex(c.name)) < 0)
+                    throw new ExcelReadException("Column [" + c.name + "] not found in header");
+            }
+            Condition o = new Condition(c.name, index, c.op, c.value);
+            if (sst != null && c.value instanceof String) {
+                if (sstMatchers[i] == null) sstMatchers[i] = new SstMatcher(sst, c.op, (String) c.value);
+                o.sstMatcher = sstMatchers[i];
+            }
+            if (index > max) max = index;
+            list.add(o);
+        }
+
+        Condition[] array = new Condition[max + 1];
+        for (Condition c : list) {
+            c.next = array[c.index];
+            array[c.index] = c;
+        }
+        return array;
+    }
+
+    /**
+     * Test if any condition compares string value
+     *
+     * @return true if has string conditions
+     */
+    boolean hasStringCondition() {
+        for (Condition c : conditions) if (c.value instanceof String) return true;
+        return false;
+    }
+
+    static boolean matches(int op, int cmp) {
+        switch (op) {
+            case EQ: return cmp == 0;
+            case NE: return cmp != 0;
+            case GT: return cmp > 0;
+            case GE: return cmp >= 0;
+            case LT: return cmp < 0;
+            default: return cmp <= 0;
+        }
+    }
+
+    /**
+     * A single condition
+     */
+    static class Condition {
+        final String name;
+        final int index, op;
+        final Object value;
+        // Numeric value
+        final boolean integral;
+        final long lv;
+        final double dv;
+        // The SST matcher of string value
+        SstMatcher sstMatcher;
+        // The next condition on the same column
+        Condition next;
+
+        Condition(String name, int index, int op, Object value) {
+            if (name == null && index < 0)
+                throw new IllegalArgumentException("The column index must be greater than or equal to zero.");
+            if (!(value instanceof Number || value instanceof String || value instanceof Boolean))
+                throw new IllegalArgumentException("Unsupported value " + value + ", only Number, String and Boolean are allowed.");
+            this.name = name;
+            this.index = index;
+            this.op = op;
+            this.value = value;
+            if (value instanceof Number) {
+                integral = value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte;
+                lv = ((Number) value).longValue();
+                dv = ((Number) value).doubleValue();
+            } else {
+                integral = false;
+                lv = 0L;
+                dv = 0.0D;
+            }
+        }
+
+        /**
+         * Test the parsed cell, the string value of SST cell is never resolved here
+         *
+         * @param cell the parsed cell
+         * @return {@code true} if matched
+         */
+        boolean test(Cell cell) {
+            int cmp;
+            switch (cell.t) {
+                case SST:
+                    return sstMatcher != null ? sstMatcher.test(cell.intVal) : op == NE;
+                case INLINESTR:
+                    if (!(value instanceof String)) return op == NE;
+                    cmp = cell.stringVal.compareTo((String) value);
+                    break;
+                case NUMERIC:
+                    if (!(value instanceof Number)) return op == NE;
+                    cmp = integral ? Long.compare(cell.intVal, lv) : Double.compare(cell.intVal, dv);
+                    break;
+                case LONG:
+                    if (!(value instanceof Number)) return op == NE;
+                    cmp = integral ? Long.compare(cell.longVal, lv) : Double.compare(cell.longVal, dv);
+                    break;
+                case DECIMAL:
+                    if (!(value instanceof Number)) return op == NE;
+                    cmp = Double.compare(cell.getDecimalAsDouble(), dv);
+                    break;
+                case DOUBLE:
+                    if (!(value instanceof Number)) return op == NE;
+                    cmp = Double.compare(cell.doubleVal, dv);
+                    break;
+                case BOOL:
+                    if (!(value instanceof Boolean)) return op == NE;
+                    cmp = Boolean.compare(cell.boolVal, (Boolean) value);
+                    break;
+                // Empty or unallocated cell
+                default: return op == NE;
+            }
+            return matches(op, cmp);
+        }
+    }
+
+    /**
+     * Compare the string value of SST index lazily, each distinct index is compared once and
+     * the result is kept in 2 bits, so only the indexes that appear in the filtered column are
+     * resolved rather than the whole Shared String Table.
+     *
+     * <p>The states are read without lock, a stale state is always "not tested" and will be
+     * resolved again under lock, so the matcher can be shared by the parsing threads</p>
+     */
+    static class SstMatcher {
+        static final int UNMATCHED = 1, MATCHED = 3;
+        final SharedStrings sst;
+        final int op;
+        final String value;
+        // 2 bits per SST index, 0: not tested, 1: unmatched, 3: matched
+        private volatile int[] states = new int[64];
+
+        SstMatcher(SharedStrings sst, int op, String value) {
+            this.sst = sst;
+            this.op = op;
+            this.value = value;
+        }
+
+        /**
+         * Test the string of SST index
+         *
+         * @param index the SST index
+         * @return {@code true} if matched
+         */
+        boolean test(int index) {
+            if (index < 0) return false;
+            int[] states = this.states;
+            int slot = index >>> 4, state = slot < states.length ? states[slot] >>> ((index & 15) << 1) & 3 : 0;
+            return (state != 0 ? state : resolve(index)) == MATCHED;
+        }
+
+        private synchronized int resolve(int index) {
+            int slot = index >>> 4, shift = (index & 15) << 1;
+            int[] states = this.states;
+            if (slot >= states.length) this.states = states = Arrays.copyOf(states, Math.max(states.length << 1, slot + 1));
+            int state = states[slot] >>> shift & 3;
+            if (state != 0) return state;
+            String s;
+            try {
+                s = sst.get(index);
+            } catch (IndexOutOfBoundsException e) {
+                s = null;
+            }
+            state = s != null && matches(op, s.compareTo(value)) ? MATCHED : UNMATCHED;
+            states[slot] |= state << shift;
+            return state;
+        }
+    }
+}
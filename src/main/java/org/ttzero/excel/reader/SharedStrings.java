@@ -157,6 +157,10 @@ public class SharedStrings implements Closeable {
      * High frequency word
      */
     private Cache<Integer, String> hot;
+    /**
+     * The primitive view of hot cache, it is not null if the hot cache is a {@link IntClockCache}
+     */
+    private IntClockCache<String> clock;
     /**
      * Size of hot
      */
@@ -189,6 +193,28 @@ public class SharedStrings implements Closeable {
      */
     StringBuilder buf = null;
 
+    /**
+     * Immutable full table, it's filled when switch to concurrent mode
+     */
+    private String[] table;
+    /**
+     * Concurrent mode
+     */
+    private boolean concurrent;
+    /**
+     * Scratch buffer of unescaped text
+     */
+    private final TextBuffer text = new TextBuffer();
+    /**
+     * The full loaded table, it's filled when switch to mapped mode or packed mode
+     */
+    private volatile Store store;
+    /**
+     * The memory budget in bytes and the size of sharedStrings.xml, the table spills to
+     * {@link IndexSharedStringTable} if it exceeds the budget
+     */
+    private long budget, xmlSize;
+
     // For debug
     private int total, total_forward, total_backward, total_hot, total_sst;
 
@@ -231,11 +257,107 @@ public class SharedStrings implements Closeable {
         return this;
     }
 
+    /**
+     * Limit the memory of this table, the paged cache and the hot cache are resized to fit the budget
+     * and the strings are spilled to {@link IndexSharedStringTable} if the whole table exceeds the budget.
+     * It takes effect only before the first string is read.
+     *
+     * @param budget the maximum bytes of the cached strings
+     * @param xmlSize the uncompressed size of sharedStrings.xml, {@code -1} if unknown
+     * @return the {@code SharedStrings}
+     * @throws IOException if I/O error occur
+     */
+    public synchronized SharedStrings budget(long budget, long xmlSize) throws IOException {
+        this.budget = budget;
+        this.xmlSize = xmlSize;
+        // Too late
+        if (status == 0 || offset_forward != -1 || store != null || table != null || reader == null) return this;
+        // The index table is empty now
+        if (sst != null) {
+            sst.close();
+            sst = null;
+        }
+        setHot(null);
+        init();
+        return this;
+    }
+
+    /**
+     * Replace the cache of high frequency strings, it is an {@link IntClockCache} by default
+     * which never boxes the index, the replaced cache is cleared.
+     * It takes effect only if the table is larger than the paged cache.
+     *
+     * @param cache the hot cache, such as {@link FixSizeLRUCache}
+     * @return the {@code SharedStrings}
+     */
+    public synchronized SharedStrings setHotCache(Cache<Integer, String> cache) {
+        if (cache == null) throw new IllegalArgumentException("The hot cache must not be null.");
+        if (status == 4 && hot != null) hot.clear();
+        setHot(cache);
+        return this;
+    }
+
+    /**
+     * Returns the cache of high frequency strings, it is {@code null} if the table is not larger than the paged cache
+     *
+     * @return the hot cache
+     */
+    public Cache<Integer, String> getHotCache() {
+        return status == 4 ? hot : null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void setHot(Cache<Integer, String> cache) {
+        hot = cache;
+        clock = cache instanceof IntClockCache ? (IntClockCache<String>) cache : null;
+    }
+
+    private void hotPut(int index, String value) {
+        if (clock != null) clock.put(index, value);
+        else hot.put(index, value);
+    }
+
+    /**
+     * Returns the approximate heap usage of this table in bytes
+     *
+     * @return the used bytes
+     */
+    public synchronized long memoryUsage() {
+        Store store = this.store;
+        // The mapped table is off-heap
+        if (store != null) return store instanceof PackedSharedStringTable ? ((PackedSharedStringTable) store).usedBytes() : 0L;
+        long n = (cb != null ? (long) cb.length << 1 : 0L) + sizeOf(forward) + sizeOf(backward) + sizeOf(table);
+        if (hot != null) for (Cache.Entry<Integer, String> e : hot) n += sizeOf(e.getValue()) + 40;
+        return n;
+    }
+
+    private static long sizeOf(String[] array) {
+        if (array == null) return 0L;
+        long n = (long) array.length << 2;
+        for (String s : array) n += sizeOf(s);
+        return n;
+    }
+
+    private static long sizeOf(String s) {
+        return s != null ? ((long) s.length() << 1) + 40 : 0L;
+    }
+
     /* */
     private void init() throws IOException {
         status = 1;
+        boolean spill = false;
+        if (budget > 0L && max > 0 && xmlSize > 0L) {
+            // The xml size is the upper bound of text, each char takes 2 bytes and a String takes 40 bytes more
+            long avg = (xmlSize << 1) / max + 40, n = budget / avg;
+            if (n < max) {
+                spill = true;
+                // Two pages and the hot cache
+                page = tableSizeFor((int) Math.min(n >> 2, 1 << 20));
+                hotSize = (int) Math.max(n >> 1, 1);
+            }
+        }
         // Unknown size or greater than {@code 8192}
-        if (max < 0 || max > 1 << 14) {
+        if (spill || max < 0 || max > 1 << 14) {
             if (page <= 0) page = 16;
             status <<= 2;
             forward = new String[page];
@@ -244,8 +366,7 @@ public class SharedStrings implements Closeable {
             // Cache 8KB binary, it will store 1^16 strings.
             tester = new Tester.BinaryTester(max > 0 ? Math.min(max, 1 << 16) : 1 << 16);
 
-            if (hotSize > 0) hot = FixSizeLRUCache.create(hotSize);
-            else hot = FixSizeLRUCache.create();
+            if (hot == null) setHot(hotSize > 0 ? new IntClockCache<>(hotSize) : new IntClockCache<>());
             // Instance the SharedStringTable
             if (sst == null) {
                 sst = new IndexSharedStringTable();
@@ -298,6 +419,167 @@ public class SharedStrings implements Closeable {
         return off;
     }
 
+    /**
+     * Switch to concurrent mode, the {@link #get(int)} method can be called
+     * from multiple threads after this.
+     * <p>
+     * The small table (not more than 16K words) will be fully loaded into
+     * an immutable array and read lock-free, the large table which buffered
+     * by {@link IndexSharedStringTable} will be read under a lock.
+     *
+     * @return the {@code SharedStrings}
+     */
+    public synchronized SharedStrings concurrent() {
+        if (concurrent) return this;
+        // The full loaded table is thread safe
+        if (store == null && status != 4 && max >= 0) {
+            String[] table = {};
+            int i = 0;
+            try {
+                // Load the first page, the max will be reset if the uniqueCount
+                // attribute is less than the real size
+                if (status > 0) get0(0);
+                for (table = new String[max]; i < max; i++) table[i] = get0(i);
+            } catch (IndexOutOfBoundsException e) {
+                // The uniqueCount attribute is greater than the real size
+            }
+            if (i < table.length) table = Arrays.copyOf(table, i);
+            this.table = table;
+        }
+        concurrent = true;
+        return this;
+    }
+
+    /**
+     * Read all strings from the source stream, the source is never touched after preloaded,
+     * so it can be a forward-only stream such as a {@code ZipInputStream} entry. The large
+     * table is buffered by {@link IndexSharedStringTable} as usual.
+     *
+     * @return the {@code SharedStrings}
+     */
+    synchronized SharedStrings preload() {
+        if (status == 0 || store != null || table != null) return this;
+        for (int i = 0; ; i++) {
+            try {
+                get0(i);
+            } catch (IndexOutOfBoundsException e) {
+                break;
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Switch to mapped mode, all strings are loaded once into a {@link MappedSharedStringTable}
+     * and the {@link #get(int)} method reads the memory-mapped file in constant time
+     * instead of reloading the page windows, it suits the random access on a large table.
+     * <p>
+     * The mapped table is thread safe, so the table can be shared by multiple threads too.
+     *
+     * @return the {@code SharedStrings}
+     * @throws IOException if I/O error occur
+     */
+    public synchronized SharedStrings mapped() throws IOException {
+        if (store instanceof MappedSharedStringTable || status == 0) return this;
+        MappedSharedStringTable mapped = new MappedSharedStringTable(hotSize > 0 ? hotSize : 1 << 10);
+        try {
+            for (int i = 0, n = store != null ? store.size() : Integer.MAX_VALUE; i < n; i++) {
+                String s;
+                try {
+                    s = getFully(i);
+                } catch (IndexOutOfBoundsException e) {
+                    break;
+                }
+                mapped.push(s);
+            }
+            switchTo(mapped.seal());
+        } catch (IOException | RuntimeException e) {
+            mapped.close();
+            throw e;
+        }
+        return this;
+    }
+
+    /**
+     * Switch to packed mode if the table fits the memory budget, all strings are packed into one
+     * large UTF-8 byte array by {@link PackedSharedStringTable} and decoded only when requested,
+     * it costs about the size of raw text instead of 2-3 times of {@link String} objects.
+     * The table keeps the current mode if it exceeds the budget.
+     * <p>
+     * The packed table is thread safe, so the table can be shared by multiple threads too.
+     *
+     * @param budget the maximum bytes of the packed text and offsets
+     * @return the {@code SharedStrings}
+     * @throws IOException if I/O error occur
+     */
+    public synchronized SharedStrings packed(long budget) throws IOException {
+        if (store != null || status == 0) return this;
+        PackedSharedStringTable packed = new PackedSharedStringTable(budget, hotSize > 0 ? hotSize : 1 << 10);
+        for (int i = 0; ; i++) {
+            String s;
+            try {
+                s = getFully(i);
+            } catch (IndexOutOfBoundsException e) {
+                break;
+            }
+            if (!packed.push(s)) {
+                LOGGER.debug("The Shared String Table exceeds the budget {}, keep the paged cache", budget);
+                packed.close();
+                return this;
+            }
+        }
+        LOGGER.debug("Packed {} strings into {} bytes", packed.size(), packed.usedBytes());
+        switchTo(packed.trim());
+        return this;
+    }
+
+    /* Getting the strings value before switch to the full loaded table */
+    private String getFully(int index) {
+        Store store = this.store;
+        return store != null ? store.get(index) : table != null ? table[index] : get0(index);
+    }
+
+    /* Switch to the full loaded table and release the page windows */
+    private void switchTo(Store store) throws IOException {
+        Store old = this.store;
+        this.store = store;
+        if (old != null) old.close();
+        max = store.size();
+        forward = backward = table = null;
+        if (hot != null) hot.clear();
+        if (sst != null) {
+            sst.close();
+            sst = null;
+        }
+    }
+
+    /**
+     * Returns {@code true} if this table is backed by a memory-mapped file
+     *
+     * @return true if mapped mode
+     */
+    public boolean isMapped() {
+        return store instanceof MappedSharedStringTable;
+    }
+
+    /**
+     * Returns {@code true} if this table is packed in heap
+     *
+     * @return true if packed mode
+     */
+    public boolean isPacked() {
+        return store instanceof PackedSharedStringTable;
+    }
+
+    /**
+     * Returns {@code true} if this table can be shared by multiple threads
+     *
+     * @return true if concurrent mode
+     */
+    public boolean isConcurrent() {
+        return concurrent || store != null;
+    }
+
     /**
      * Getting the strings value by index
      *
@@ -305,6 +587,24 @@ public class SharedStrings implements Closeable {
      * @return string
      */
     public String get(int index) {
+        Store store = this.store;
+        if (store != null) return store.get(index);
+        String[] table = this.table;
+        if (table != null) {
+            if (index < 0 || index >= table.length)
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + max);
+            return table[index];
+        }
+        if (concurrent) {
+            synchronized (this) {
+                return get0(index);
+            }
+        }
+        return get0(index);
+    }
+
+    /* Getting the strings value from the paged cache */
+    private String get0(int index) {
 //        checkBound(index);
         total++;
 
@@ -320,7 +620,7 @@ public class SharedStrings implements Closeable {
         if (forwardRange(index)) {
             value = forward[index - offset_forward];
             total_forward++;
-            if (test(index)) hot.put(index, value);
+            if (test(index)) hotPut(index, value);
             return value;
         }
 
@@ -331,13 +631,13 @@ public class SharedStrings implements Closeable {
         if (backwardRange(index)) {
             value = backward[index - offset_backward];
             total_backward++;
-            if (test(index)) hot.put(index, value);
+            if (test(index)) hotPut(index, value);
             return value;
         }
 
         // Find in hot cache
         if (status == 4) {
-            value = hot.get(index);
+            value = clock != null ? clock.get(index) : hot.get(index);
         }
 
         // Can't find in memory cache
@@ -357,6 +657,11 @@ public class SharedStrings implements Closeable {
                     throw new ExcelReadException(e);
                 }
                 total_sst++;
+                // Keep the canonical instance of the hot strings
+                for (int i = 0; i < limit_forward; i++) {
+                    String v = clock != null ? clock.peek(offset_forward + i) : hot.peek(offset_forward + i);
+                    if (v != null) forward[i] = v;
+                }
             } else {
                 readMore();
                 total_forward++;
@@ -365,7 +670,7 @@ public class SharedStrings implements Closeable {
                 throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + max);
             }
             value = forward[index - offset_forward];
-            if (test(index)) hot.put(index, value);
+            if (test(index)) hotPut(index, value);
         } else {
             total_hot++;
         }
@@ -484,7 +789,7 @@ public class SharedStrings implements Closeable {
             if (a == -1) break;
             nChar = subT[1];
 
-            String tmp = escape(cb, a, nChar);
+            String tmp = indexOf(cb, '&', a, nChar) < 0 ? a < nChar ? new String(cb, a, nChar - a) : EMPTY : text.unescape(cb, a, nChar).toString();
 
              // Skip the end tag of 't'
             nChar += 4;
@@ -525,7 +830,7 @@ public class SharedStrings implements Closeable {
                         buf.delete(0, buf.length());
                         buf.append(tmp);
                     }
-                    buf.append(escape(cb, a, nChar));
+                    text.unescape(cb, a, nChar).appendTo(buf);
                     nChar += 4;
                 }
                 forward[n++] = shouldClear ? tmp : buf.toString();
@@ -586,8 +891,8 @@ public class SharedStrings implements Closeable {
         return new int[] { a, nChar };
     }
 
-    // Buffer cache (Maximum 64K)
-    private static char[] charBuffer = {};
+    // Scratch buffer of the static methods, one buffer per thread. The parsers hold their own buffer
+    private static final ThreadLocal<TextBuffer> textBuffer = ThreadLocal.withInitial(TextBuffer::new);
 
     /**
      * escape
@@ -600,57 +905,128 @@ public class SharedStrings implements Closeable {
     public static String escape(char[] cb, int from, int to) {
         int n = to - from;
         if (n == 0) return EMPTY;
-        int idx_38 = indexOf(cb, '&', from, to)
-            , idx_59 = idx_38 > -1 && idx_38 < to ? indexOf(cb, ';', idx_38 + 1, Math.min(idx_38 + 9, to)) : -1;
+        // No entities
+        if (indexOf(cb, '&', from, to) < 0) return new String(cb, from, n);
+        return textBuffer(n).unescape(cb, from, to).toString();
+    }
 
-        if (idx_38 < from || idx_38 >= idx_59 || idx_59 > to) return new String(cb, from, to - from);
+    // Keep the thread buffer small (Maximum 64K)
+    private static TextBuffer textBuffer(int n) {
+        return n <= MAX_CHARACTERS_PER_CELL ? textBuffer.get() : new TextBuffer(n);
+    }
 
-        char[] buf;
-        if (n <= charBuffer.length) buf = charBuffer;
-        else if (n <= MAX_CHARACTERS_PER_CELL) charBuffer = buf = new char[Math.min(n + 100, MAX_CHARACTERS_PER_CELL)];
-        else buf = new char[n];
+    /**
+     * Unescape the xml text into the destination array, the runs without entities are
+     * copied in bulk. The source and destination can be the same array if {@code offset <= from}
+     *
+     * @param cb source char buffer
+     * @param from starting position in the source array.
+     * @param to ending position in the source array.
+     * @param dst the destination array
+     * @param offset starting position in the destination array
+     * @return the end index of dst
+     */
+    static int unescape(char[] cb, int from, int to, char[] dst, int offset) {
+        int n, idx_38 = indexOf(cb, '&', from, to)
+            , idx_59 = idx_38 > -1 && idx_38 < to ? indexOf(cb, ';', idx_38 + 1, Math.min(idx_38 + 9, to)) : -1;
 
-        int offset = 0;
-        do {
-            System.arraycopy(cb, from, buf, offset, n = idx_38 - from);
-            offset += n;
-            // ASCII
-            if (cb[idx_38 + 1] == '#') {
-                char c = cb[idx_38 + 2];
-                if (c == 'x') offset += toChars(toIntH(cb, idx_38 + 3, idx_59), buf, offset);
-                else if (c >= '0' && c <= '9') offset += toChars(toInt(cb, idx_38 + 2, idx_59), buf, offset);
-                else {
-                    System.arraycopy(cb, idx_38, buf, offset, n = idx_59 - idx_38 + 1);
-                    offset += n;
+        if (idx_38 >= from && idx_38 < idx_59 && idx_59 <= to) {
+            do {
+                System.arraycopy(cb, from, dst, offset, n = idx_38 - from);
+                offset += n;
+                // ASCII
+                if (cb[idx_38 + 1] == '#') {
+                    char c = cb[idx_38 + 2];
+                    if (c == 'x') offset += toChars(toIntH(cb, idx_38 + 3, idx_59), dst, offset);
+                    else if (c >= '0' && c <= '9') offset += toChars(toInt(cb, idx_38 + 2, idx_59), dst, offset);
+                    else {
+                        System.arraycopy(cb, idx_38, dst, offset, n = idx_59 - idx_38 + 1);
+                        offset += n;
+                    }
                 }
-            }
-            // desc
-            else {
-                n = idx_59 - idx_38 - 1;
-                if (n == 2 && cb[idx_38 + 1] == 'l' && cb[idx_38 + 2] == 't') buf[offset++] = '<';
-                else if (n == 2 && cb[idx_38 + 1] == 'g' && cb[idx_38 + 2] == 't') buf[offset++] = '>';
-                else if (n == 3 && cb[idx_38 + 1] == 'a' && cb[idx_38 + 2] == 'm' && cb[idx_38 + 3] == 'p') buf[offset++] = '&';
-                else if (n == 4 && cb[idx_38 + 1] == 'n' && cb[idx_38 + 2] == 'b' && cb[idx_38 + 3] == 's' && cb[idx_38 + 4] == 'p') buf[offset++] = ' ';
-                else if (n == 4 && cb[idx_38 + 1] == 'q' && cb[idx_38 + 2] == 'u' && cb[idx_38 + 3] == 'o' && cb[idx_38 + 4] == 't') buf[offset++] = '"';
-                else if (n == 4 && cb[idx_38 + 1] == 'a' && cb[idx_38 + 2] == 'p' && cb[idx_38 + 3] == 'o' && cb[idx_38 + 4] == 's') buf[offset++] = '\'';
+                // desc
                 else {
-                    System.arraycopy(cb, idx_38, buf, offset, n = idx_59 - idx_38 + 1);
-                    offset += n;
+                    n = idx_59 - idx_38 - 1;
+                    if (n == 2 && cb[idx_38 + 1] == 'l' && cb[idx_38 + 2] == 't') dst[offset++] = '<';
+                    else if (n == 2 && cb[idx_38 + 1] == 'g' && cb[idx_38 + 2] == 't') dst[offset++] = '>';
+                    else if (n == 3 && cb[idx_38 + 1] == 'a' && cb[idx_38 + 2] == 'm' && cb[idx_38 + 3] == 'p') dst[offset++] = '&';
+                    else if (n == 4 && cb[idx_38 + 1] == 'n' && cb[idx_38 + 2] == 'b' && cb[idx_38 + 3] == 's' && cb[idx_38 + 4] == 'p') dst[offset++] = ' ';
+                    else if (n == 4 && cb[idx_38 + 1] == 'q' && cb[idx_38 + 2] == 'u' && cb[idx_38 + 3] == 'o' && cb[idx_38 + 4] == 't') dst[offset++] = '"';
+                    else if (n == 4 && cb[idx_38 + 1] == 'a' && cb[idx_38 + 2] == 'p' && cb[idx_38 + 3] == 'o' && cb[idx_38 + 4] == 's') dst[offset++] = '\'';
+                    else {
+                        System.arraycopy(cb, idx_38, dst, offset, n = idx_59 - idx_38 + 1);
+                        offset += n;
+                    }
                 }
-            }
-            from = ++idx_59;
-            idx_59 = (idx_38 = indexOf(cb, '&', idx_59, to)) > -1 && idx_38 < to ? indexOf(cb, ';', idx_38 + 1, Math.min(idx_38 + 9, to)) : -1;
-        } while (idx_38 > -1 && idx_59 > idx_38 && idx_59 <= to);
+                from = ++idx_59;
+                idx_59 = (idx_38 = indexOf(cb, '&', idx_59, to)) > -1 && idx_38 < to ? indexOf(cb, ';', idx_38 + 1, Math.min(idx_38 + 9, to)) : -1;
+            } while (idx_38 > -1 && idx_59 > idx_38 && idx_59 <= to);
+        }
 
         if (from < to) {
-            System.arraycopy(cb, from, buf, offset, n = to - from);
-            offset += n;
+            if (cb != dst || from != offset) System.arraycopy(cb, from, dst, offset, to - from);
+            offset += to - from;
         }
+        return offset;
+    }
+
+    /**
+     * Unescape the raw UTF-8 bytes which widened into char buffer (one byte per char),
+     * the pure ASCII text will be unescaped directly without decoding
+     *
+     * @param cb source char buffer
+     * @param from starting position in the source array.
+     * @param to ending position in the source array.
+     * @return Escape xml string
+     */
+    public static String escapeUtf8(char[] cb, int from, int to) {
+        return textBuffer(to - from).unescapeUtf8(cb, from, to).toString();
+    }
 
-        return new String(buf, 0, offset);
+    /**
+     * Decode the raw UTF-8 bytes which widened into char buffer (one byte per char)
+     *
+     * @param cb source char buffer
+     * @param from starting position in the source array.
+     * @param to ending position in the source array.
+     * @return the decoded string
+     */
+    public static String decodeUtf8(char[] cb, int from, int to) {
+        char[] buf = new char[to - from];
+        return new String(buf, 0, decodeUtf8(cb, from, to, buf, 0));
     }
 
-    private static int indexOf(char[] cb, char c, int from, int to) {
+    // Returns the end index of dst, the malformed sequence is replaced with MALFORMED_CHAR
+    // and the decoding restarts at the byte after its leading byte
+    static int decodeUtf8(char[] cb, int from, int to, char[] dst, int offset) {
+        for (int c; from < to; ) {
+            c = cb[from++];
+            if (c < 0x80) dst[offset++] = (char) c;
+            // 110xxxxx 10xxxxxx
+            else if ((c >> 5) == 0x6 && from < to && isContinuation(cb[from])) {
+                dst[offset++] = (char) ((c & 0x1F) << 6 | cb[from++] & 0x3F);
+            }
+            // 1110xxxx 10xxxxxx 10xxxxxx
+            else if ((c >> 4) == 0xE && from + 1 < to && isContinuation(cb[from]) && isContinuation(cb[from + 1])) {
+                dst[offset++] = (char) ((c & 0x0F) << 12 | (cb[from] & 0x3F) << 6 | cb[from + 1] & 0x3F);
+                from += 2;
+            }
+            // 11110xxx 10xxxxxx 10xxxxxx 10xxxxxx
+            else if ((c >> 3) == 0x1E && from + 2 < to && isContinuation(cb[from]) && isContinuation(cb[from + 1]) && isContinuation(cb[from + 2])) {
+                offset += toChars((c & 0x07) << 18 | (cb[from] & 0x3F) << 12 | (cb[from + 1] & 0x3F) << 6 | cb[from + 2] & 0x3F, dst, offset);
+                from += 3;
+            }
+            else dst[offset++] = MALFORMED_CHAR;
+        }
+        return offset;
+    }
+
+    // 10xxxxxx
+    private static boolean isContinuation(char c) {
+        return (c & 0xC0) == 0x80;
+    }
+
+    static int indexOf(char[] cb, char c, int from, int to) {
         for (; from < to && cb[from] != c; from++);
         return from < to ? from : -1;
     }
@@ -700,12 +1076,17 @@ public class SharedStrings implements Closeable {
         cb = null;
         forward = null;
         backward = null;
+        table = null;
         if (tester != null) {
             tester = null;
         }
         if (sst != null) {
             sst.close();
         }
+        if (store != null) {
+            store.close();
+            store = null;
+        }
     }
 
     @Override
@@ -713,6 +1094,66 @@ public class SharedStrings implements Closeable {
         return "Count: " + (total <= 0 ? max : total) + "，UniqueCount: " + max;
     }
 
+    /**
+     * A full loaded and read-only table, it can be read by multiple threads
+     */
+    interface Store extends Closeable {
+        /**
+         * Returns the string at the specified index
+         *
+         * @param index the index of string
+         * @return the string value
+         * @throws IndexOutOfBoundsException if the index is out of range
+         */
+        String get(int index);
+
+        /**
+         * Returns the number of strings
+         *
+         * @return the size of table
+         */
+        int size();
+    }
+
+    /**
+     * A direct-mapped cache of the decoded strings, the full loaded table returns the same
+     * instance for the same index while it is cached. The entries are immutable so the cache
+     * can be shared between threads without lock.
+     */
+    static final class DecodedCache {
+        private final Entry[] entries;
+        private final int mask;
+
+        DecodedCache(int size) {
+            int n = tableSizeFor(size);
+            entries = new Entry[n];
+            mask = n - 1;
+        }
+
+        String get(int index) {
+            Entry e = entries[index & mask];
+            return e != null && e.index == index ? e.value : null;
+        }
+
+        void put(int index, String value) {
+            entries[index & mask] = new Entry(index, value);
+        }
+
+        void clear() {
+            Arrays.fill(entries, null);
+        }
+
+        private static final class Entry {
+            private final int index;
+            private final String value;
+
+            private Entry(int index, String value) {
+                this.index = index;
+                this.value = value;
+            }
+        }
+    }
+
 }
 
 interface Tester {
@@ -25,7 +25,6 @@ import java.io.Closeable;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.io.OutputStreamWriter;
-import java.math.BigDecimal;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
@@ -251,6 +250,46 @@ public interface Sheet extends Closeable {
             iterator(), Spliterator.ORDERED | Spliterator.NONNULL), false);
     }
 
+    /**
+     * 返回行号在{@code fromRowNum}和{@code toRowNum}之间（包含两端，行号从1开始）的行流，
+     * 适用于分页预览等场景，调用{@link #spool()}后可通过行索引直接定位到起始行附近，
+     * 否则需要从头开始查找起始行
+     *
+     * <p>注意：返回的{@code Row}对象是内存共享的，读取完成后游标停留在{@code toRowNum}之后，
+     * 需要重头读取时请调用{@link #reset()}</p>
+     *
+     * @param fromRowNum 起始行号（one base）
+     * @param toRowNum 结束行号（one base，包含）
+     * @return 行流
+     * @throws UnsupportedOperationException 如果实现类不支持按行号读取时抛此异常
+     */
+    default Stream<Row> rows(int fromRowNum, int toRowNum) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * 获取指定行号的行，参考{@link #rows(int, int)}
+     *
+     * @param rowNum 行号（one base）
+     * @return 指定行，不存在时返回{@code null}
+     */
+    default Row getRow(int rowNum) {
+        return rows(rowNum, rowNum).findFirst().orElse(null);
+    }
+
+    /**
+     * 将工作表解压到临时文件并建立稀疏行索引，之后{@link #reset()}、读取表头以及{@link #rows(int, int)}
+     * 只需要在临时文件中定位而不必从头解压，适用于需要多次读取或分页读取的场景，临时文件在工作表关闭时删除
+     *
+     * <p>注意：调用此方法后工作表将重置到开始位置</p>
+     *
+     * @return 当前工作表
+     * @throws UnsupportedOperationException 如果实现类不支持时抛此异常
+     */
+    default Sheet spool() {
+        throw new UnsupportedOperationException();
+    }
+
     /**
      * 返回一个非空行流，它与{@link #dataIterator}具有相同的功能
      *
@@ -261,6 +300,42 @@ public interface Sheet extends Closeable {
             dataIterator(), Spliterator.ORDERED | Spliterator.NONNULL), false);
     }
 
+    /**
+     * 返回一个按行顺序并行解析的非空行流，参考{@link #parallelDataRows(boolean)}
+     *
+     * @return 非空行流
+     */
+    default Stream<Row> parallelDataRows() {
+        return parallelDataRows(true);
+    }
+
+    /**
+     * 返回一个并行解析的非空行流，当前线程负责按行切分数据，切分后的行数据块由{@link java.util.concurrent.ForkJoinPool}
+     * 并行解析，与{@link #dataRows}不同的是返回的{@code Row}对象相互独立并不共享内存所以可以直接收集。
+     *
+     * <p>注意：不支持并行解析的工作表将退化为{@link #dataRows}，此时返回的{@code Row}对象依然是内存共享的</p>
+     *
+     * @param ordered {@code true}按行顺序返回，{@code false}按解析完成的顺序返回
+     * @return 非空行流
+     */
+    default Stream<Row> parallelDataRows(boolean ordered) {
+        return dataRows();
+    }
+
+    /**
+     * 返回一个列式批量数据流，每{@code batchSize}行非空行转为一个{@link ColumnBatch}，
+     * 数值列保存在基础类型数组中，文本列只保存共享字符串下标，适用于需要将行转为列进行统计分析的场景
+     *
+     * <p>注意：流中每个元素都是同一个复用的{@link ColumnBatch}对象，下一批数据会覆盖上一批数据</p>
+     *
+     * @param batchSize 每批最大行数
+     * @return 列式批量数据流
+     */
+    default Stream<ColumnBatch> batches(int batchSize) {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(
+            new ColumnBatch.BatchIterator(dataIterator(), batchSize), Spliterator.ORDERED | Spliterator.NONNULL), false);
+    }
+
 
     /**
      * 将当前工作表另存为{@code CSV}格式并保存到{@code path}文件中，默认以{@code UTF-8}字符集保存
@@ -330,7 +405,7 @@ public interface Sheet extends Closeable {
                     Cell c = row.cells[i];
                     switch (c.t) {
                         case SST:
-                            if (c.stringVal == null) c.setString(row.sst.get(c.intVal));
+                            if (c.stringVal == null) c.stringVal = row.sst.get(c.intVal);
                         case INLINESTR:
                         case FUNCTION:
                             writer.write(c.stringVal);
@@ -345,9 +420,9 @@ public interface Sheet extends Closeable {
                             writer.write(c.longVal);
                             break;
                         case DECIMAL:
-                            if (!row.styles.isDate(c.xf)) writer.write(c.decimal.toString());
-                            else if (c.decimal.compareTo(BigDecimal.ONE) >= 0) writer.write(toDateTimeString(toTimestamp(c.decimal.doubleValue())));
-                            else writer.write(toTimeChars(toLocalTime(c.decimal.doubleValue())));
+                            if (!row.styles.isDate(c.xf)) writer.write(c.getDecimal().toString());
+                            else if (c.getDecimalAsDouble() >= 1.0D) writer.write(toDateTimeString(toTimestamp(c.getDecimalAsDouble())));
+                            else writer.write(toTimeChars(toLocalTime(c.getDecimalAsDouble())));
                             break;
                         case DOUBLE:
                             if (!row.styles.isDate(c.xf)) writer.write(c.doubleVal);
@@ -366,6 +441,50 @@ public interface Sheet extends Closeable {
         }
     }
 
+    /**
+     * 按表头名选择需要读取的列，未选择的列在解析时直接跳过，不解码值也不查询共享字符串，
+     * 适用于从宽表中只读取少数几列的场景。列名与表头匹配，表头中不存在的列名将被忽略
+     *
+     * <p>注意：未选择的列读取结果为{@code null}，选择的列在迭代开始时生效，
+     * 所以需要在{@link #iterator}、{@link #dataIterator}或对应的流方法之前调用</p>
+     *
+     * <pre>reader.sheet(0).select("orderId", "amount").dataRows()</pre>
+     *
+     * @param columnNames 列名
+     * @return 当前工作表
+     * @throws UnsupportedOperationException 如果实现类不支持列选择时抛此异常
+     */
+    default Sheet select(String... columnNames) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * 按列下标选择需要读取的列，下标从0开始，参考{@link #select(String...)}
+     *
+     * <pre>reader.sheet(0).select(0, 3, 5).dataRows()</pre>
+     *
+     * @param columnIndexes 列下标（zero base）
+     * @return 当前工作表
+     * @throws UnsupportedOperationException 如果实现类不支持列选择时抛此异常
+     */
+    default Sheet select(int... columnIndexes) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * 设置行过滤器，解析数据行时先使用过滤条件涉及列的原始值进行比较，不满足条件的行将直接跳过，
+     * 过滤器在迭代开始时生效，且只作用于数据行，参考{@link RowFilter}
+     *
+     * <pre>reader.sheet(0).filter(RowFilter.eq("status", "PAID")).dataRows()</pre>
+     *
+     * @param filter 行过滤器
+     * @return 当前工作表
+     * @throws UnsupportedOperationException 如果实现类不支持行过滤时抛此异常
+     */
+    default Sheet filter(RowFilter filter) {
+        throw new UnsupportedOperationException();
+    }
+
     /**
      * 强制匹配，即使没有{@link org.ttzero.excel.annotation.ExcelColumn}注解的字段也会强制匹配
      *
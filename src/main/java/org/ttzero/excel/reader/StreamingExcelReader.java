@@ -0,0 +1,442 @@
+/*
+ * Copyright (c) 2017-2026, guanquan.wang@hotmail.com All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ttzero.excel.reader;
+
+import org.dom4j.Document;
+import org.dom4j.DocumentException;
+import org.dom4j.Element;
+import org.dom4j.Namespace;
+import org.dom4j.QName;
+import org.ttzero.excel.entity.style.Styles;
+import org.ttzero.excel.entity.style.Theme;
+import org.ttzero.excel.util.SAXReaderUtil;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Queue;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+/**
+ * 流式读取Excel，直接从{@link ZipInputStream}中按压缩包内的顺序读取各部件，不需要先将整个输入流写入临时文件，
+ * 上传的数据还在传输时就可以开始解析并输出行数据
+ *
+ * <p>工作表的解析依赖workbook、共享字符串表和样式，如果工作表出现在这些部件之前（比如Excel生成的文件通常将
+ * {@code sharedStrings.xml}放在工作表之后）则该工作表会先解压到临时文件，待依赖部件就绪后再读取，
+ * 依赖已经就绪的工作表将直接从压缩流中读取不产生任何临时文件</p>
+ *
+ * <p>注意：流式读取只能向前，工作表按压缩包内的顺序返回，切换到下一个工作表时当前工作表未读取的数据将被跳过，
+ * 直接从压缩流读取的工作表只能读取一次，如需重复读取或随机访问需要先调用{@link Sheet#spool()}，
+ * {@link #all}和{@link #parallelSheets}会将所有工作表解压到临时文件。图片、批注等需要随机访问压缩包的功能不可用</p>
+ *
+ * <pre>
+ * try (ExcelReader reader = ExcelReader.stream(request.getInputStream())) {
+ *     reader.sheets().flatMap(Sheet::dataRows).forEach(System.out::println);
+ * }</pre>
+ *
+ * @author guanquan.wang at 2026-10-17 20:50
+ */
+public class StreamingExcelReader extends ExcelReader {
+    /**
+     * The source zip stream
+     */
+    private final ZipInputStream zis;
+    /**
+     * The current entry stream
+     */
+    private EntryStream current;
+    /**
+     * The spooled worksheets which arrived before the dependencies
+     */
+    private final Queue<XMLSheet> pending = new ArrayDeque<>();
+    /**
+     * The emitted worksheets
+     */
+    private final List<XMLSheet> emitted = new ArrayList<>();
+    /**
+     * The worksheet declared in workbook.xml, values are name, sheetId, state and relation id
+     */
+    private List<String[]> workbook;
+    /**
+     * The relationships of workbook, key is relation id and value is the worksheet path
+     */
+    private Map<String, String> rels;
+    /**
+     * The declared parts in [Content_Types].xml, {@code null} if it is not read
+     */
+    private List<String> parts;
+    private boolean eof, spoolAll;
+
+    public StreamingExcelReader(InputStream stream) {
+        this.zis = new ZipInputStream(stream);
+        this.sheets = new Sheet[0];
+    }
+
+    /**
+     * 返回一个顺序的工作表流，工作表按压缩包内的顺序解析，此方法默认{@code load}工作表所以外部无需再次调用{@code load}方法
+     *
+     * @return 一个顺序的工作表流
+     */
+    @Override
+    public Stream<Sheet> sheets() {
+        Iterator<Sheet> iter = new Iterator<Sheet>() {
+            Sheet next;
+            int n;
+
+            @Override
+            public boolean hasNext() {
+                if (next != null) return true;
+                // The spooled sheets have been emitted by all()
+                if (n < emitted.size()) next = emitted.get(n++);
+                else if ((next = advance()) != null) n++;
+                return next != null;
+            }
+
+            @Override
+            public Sheet next() {
+                if (!hasNext()) throw new NoSuchElementException();
+                Sheet sheet = next;
+                next = null;
+                return sheet;
+            }
+        };
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iter
+            , Spliterator.ORDERED | Spliterator.NONNULL), false);
+    }
+
+    /**
+     * 并行读取前会将所有剩余工作表解压到临时文件
+     *
+     * @return 一个并行的工作表流
+     */
+    @Override
+    public Stream<Sheet> parallelSheets() {
+        all();
+        return super.parallelSheets();
+    }
+
+    /**
+     * 获取指定位置的工作表，流式读取只能向前，已经跳过的工作表不能再次获取
+     *
+     * @param index 工作表在excel的下标（从0开始）
+     * @return 指定工作表，如果指定下标无工作表将抛{@code IndexOutOfBoundException}
+     */
+    @Override
+    public Sheet sheet(int index) {
+        for (XMLSheet sheet : emitted) if (sheet.getIndex() == index) return sheet;
+        for (XMLSheet sheet; (sheet = advance()) != null; ) if (sheet.getIndex() == index) return sheet;
+        throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + getSheetCount());
+    }
+
+    /**
+     * 获取指定名称的工作表，流式读取只能向前，已经跳过的工作表不能再次获取
+     *
+     * @param sheetName 工作表名
+     * @return 指定工作表，如果不存在则返回{@code null}
+     */
+    @Override
+    public Sheet sheet(String sheetName) {
+        for (XMLSheet sheet : emitted) if (sheetName.equals(sheet.getName())) return sheet;
+        for (XMLSheet sheet; (sheet = advance()) != null; ) if (sheetName.equals(sheet.getName())) return sheet;
+        return null;
+    }
+
+    /**
+     * 读取剩余的全部压缩包并将工作表解压到临时文件
+     *
+     * @return 当前excel包含的所有工作表
+     */
+    @Override
+    public Sheet[] all() {
+        spoolAll = true;
+        while (advance() != null) ;
+        return sheets;
+    }
+
+    /**
+     * 获取当前excel包含的工作表数量，如果workbook还未读取则先向前读取到workbook
+     *
+     * @return 当前excel包含的工作表数量
+     */
+    @Override
+    public int getSheetCount() {
+        try {
+            // A worksheet is not ready before workbook.xml, next() spools it into the pending queue
+            while (workbook == null && !eof) next();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return workbook != null ? workbook.size() : 0;
+    }
+
+    /**
+     * 流式读取不支持随机访问压缩包，始终返回{@code null}
+     *
+     * @param name 压缩文件路径
+     * @return {@code null}
+     */
+    @Override
+    public ZipEntry getEntry(String name) {
+        return null;
+    }
+
+    /**
+     * 流式读取不支持随机访问压缩包，始终返回{@code null}
+     *
+     * @param name 压缩文件路径
+     * @return {@code null}
+     */
+    @Override
+    public InputStream getEntryStream(String name) {
+        return null;
+    }
+
+    @Override
+    public void close() throws IOException {
+        for (XMLSheet sheet : pending) sheet.close();
+        pending.clear();
+        super.close();
+        zis.close();
+    }
+
+    /**
+     * Returns the next loaded worksheet in archive order, the unread data of the
+     * previous streaming worksheet is skipped.
+     *
+     * @return the next worksheet or {@code null} if end of archive
+     */
+    protected XMLSheet advance() {
+        try {
+            for (; ; ) {
+                if (!pending.isEmpty() && (eof || ready())) return emit(pending.poll());
+                if (eof) return null;
+                XMLSheet sheet = next();
+                if (sheet != null) return emit(sheet);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Read the next entry, the worksheet is returned directly if all the dependencies
+     * are ready, otherwise it is spooled into a temp file.
+     *
+     * @return the streaming worksheet, {@code null} if the entry is not a worksheet or spooled
+     * @throws IOException if I/O error occur
+     */
+    protected XMLSheet next() throws IOException {
+        // Skip the unread data of previous entry
+        if (current != null) current.close();
+        ZipEntry entry = zis.getNextEntry();
+        if (entry == null) {
+            eof = true;
+            current = null;
+            if (workbook == null || rels == null)
+                throw new ExcelReadException("The file format is incorrect or corrupted. [xl/workbook.xml]");
+            if (styles == null) styles = Styles.forReader();
+            return null;
+        }
+        String name = toZipPath(entry.getName());
+        if (name.charAt(0) == '/') name = name.substring(1);
+        EntryStream is = current = new EntryStream(zis);
+        LOGGER.debug("Streaming entry {}", name);
+        switch (name) {
+            case "[Content_Types].xml"        : parseContentTypes(is);                       break;
+            case "xl/workbook.xml"            : parseWorkbook(is);                           break;
+            case "xl/_rels/workbook.xml.rels" : parseRels(is);                               break;
+            case "xl/theme/theme1.xml"        : if (styles == null) Theme.load(is);          break;
+            case "xl/styles.xml"              : styles = Styles.load(is);                    break;
+            case "xl/sharedStrings.xml"       :
+                sharedStringTable = new SharedStrings(is, 0, 0).load();
+                if (memoryBudget > 0L) sharedStringTable.budget(memoryBudget >> 1, entry.getSize());
+                // The entry stream can not be read after moving to next entry
+                sharedStringTable.preload();
+                break;
+            default:
+                if (name.startsWith("xl/worksheets/") && name.endsWith(".xml") && name.indexOf('/', 14) < 0) {
+                    XMLSheet sheet = (XMLSheet) sheetFactory();
+                    sheet.setPath(name);
+                    if (!spoolAll && pending.isEmpty() && ready()) {
+                        sheet.source = is;
+                        return sheet;
+                    }
+                    sheet.spoolFrom(is);
+                    pending.add(sheet);
+                }
+        }
+        return null;
+    }
+
+    /**
+     * Test the dependencies of worksheet are ready, the Shared String Table and styles
+     * are required only if they are declared in [Content_Types].xml
+     *
+     * @return {@code true} if the worksheet can be read
+     */
+    protected boolean ready() {
+        return workbook != null && rels != null
+            && (sharedStringTable != null || parts != null && !parts.contains("xl/sharedStrings.xml"))
+            && (styles != null || parts != null && !parts.contains("xl/styles.xml"));
+    }
+
+    /**
+     * Bind the worksheet with workbook properties and load it
+     *
+     * @param sheet the worksheet
+     * @return the loaded worksheet
+     * @throws IOException if I/O error occur
+     */
+    protected XMLSheet emit(XMLSheet sheet) throws IOException {
+        int index = -1;
+        for (int i = 0; i < workbook.size(); i++) {
+            String[] e = workbook.get(i);
+            if (sheet.path.equals(rels.get(e[3]))) {
+                index = i;
+                sheet.setName(e[0]);
+                sheet.setId(Integer.parseInt(e[1]));
+                sheet.setHidden("hidden".equals(e[2]));
+                break;
+            }
+        }
+        if (index < 0) {
+            index = workbook.size() + emitted.size();
+            sheet.setName(sheet.path.substring(sheet.path.lastIndexOf('/') + 1, sheet.path.length() - 4));
+        }
+        sheet.setIndex(index);
+        sheet.setSharedStrings(sharedStringTable);
+        sheet.setStyles(styles != null ? styles : (styles = Styles.forReader()));
+        if (byteMode) sheet.setByteMode(true);
+        if (memoryBudget > 0L) {
+            sheet.setBufferLimit(memoryBudget >> 2);
+            sheet.setGridLimit(memoryBudget >> 3);
+        }
+        emitted.add(sheet);
+        sheets = emitted.toArray(new Sheet[0]);
+        return sheet.load();
+    }
+
+    protected void parseContentTypes(InputStream is) throws IOException {
+        Element root = read(is, "[Content_Types].xml").getRootElement();
+        List<String> parts = new ArrayList<>();
+        for (Element e : root.elements()) {
+            String partName = e.attributeValue("PartName");
+            if (partName != null) parts.add(partName.charAt(0) == '/' ? partName.substring(1) : partName);
+        }
+        this.parts = parts;
+    }
+
+    protected void parseWorkbook(InputStream is) throws IOException {
+        Element root = read(is, "xl/workbook.xml").getRootElement();
+        Namespace ns = root.getNamespaceForPrefix("r");
+        List<String[]> workbook = new ArrayList<>();
+        Element sheets = root.element("sheets");
+        if (sheets != null) {
+            for (Element e : sheets.elements()) {
+                workbook.add(new String[] { e.attributeValue("name"), e.attributeValue("sheetId")
+                    , e.attributeValue("state"), e.attributeValue(QName.get("id", ns)) });
+            }
+        }
+        if (workbook.isEmpty())
+            throw new ExcelReadException("The file format is incorrect or corrupted. [There has no worksheet]");
+        this.workbook = workbook;
+    }
+
+    protected void parseRels(InputStream is) throws IOException {
+        Element root = read(is, "xl/_rels/workbook.xml.rels").getRootElement();
+        Map<String, String> rels = new HashMap<>();
+        for (Element e : root.elements()) {
+            String target = e.attributeValue("Target");
+            if (target == null) continue;
+            int i = target.indexOf("worksheets");
+            if (i >= 0) rels.put(e.attributeValue("Id"), "xl/" + toZipPath(target.substring(i)));
+        }
+        this.rels = rels;
+    }
+
+    private static Document read(InputStream is, String name) throws IOException {
+        try {
+            return SAXReaderUtil.createDefault().read(is);
+        } catch (DocumentException e) {
+            throw new ExcelReadException("The file format is incorrect or corrupted. [" + name + "]", e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "Streaming reader, emitted: " + Arrays.toString(sheets) + ", pending: " + pending.size();
+    }
+
+    /**
+     * The data of current zip entry, it never closes the zip stream and it throws
+     * {@link ExcelReadException} after closed, so a skipped worksheet can not read the next entry.
+     */
+    static class EntryStream extends FilterInputStream {
+        private boolean closed;
+
+        EntryStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            ensureOpen();
+            return super.read();
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            ensureOpen();
+            return super.read(b, off, len);
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            ensureOpen();
+            return super.skip(n);
+        }
+
+        @Override
+        public int available() throws IOException {
+            return closed ? 0 : super.available();
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+
+        private void ensureOpen() {
+            if (closed)
+                throw new ExcelReadException("The entry has been skipped in streaming mode, spool the worksheet for later reading");
+        }
+    }
+}
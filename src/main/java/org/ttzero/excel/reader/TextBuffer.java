@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2017-2026, guanquan.wang@hotmail.com All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ttzero.excel.reader;
+
+import static org.ttzero.excel.reader.SharedStrings.decodeUtf8;
+
+/**
+ * A reusable scratch buffer of unescaped xml text, each parser holds its own
+ * buffer so the parsers in different threads never share the scratch space.
+ *
+ * <p>The buffer is also a {@link CharSequence} view of the last unescaped text,
+ * it can be compared or hashed without creating a {@code String}. The view is
+ * only valid until the next unescape, call {@link #toString()} to keep it.</p>
+ *
+ * @author guanquan.wang at 2026-10-18 00:20
+ */
+public final class TextBuffer implements CharSequence {
+    private char[] buf;
+    private int length;
+
+    public TextBuffer() {
+        this(64);
+    }
+
+    public TextBuffer(int capacity) {
+        buf = new char[Math.max(capacity, 16)];
+    }
+
+    /**
+     * Unescape the xml text into this buffer
+     *
+     * @param cb   source char buffer
+     * @param from starting position in the source array.
+     * @param to   ending position in the source array.
+     * @return this buffer
+     */
+    public TextBuffer unescape(char[] cb, int from, int to) {
+        ensureCapacity(to - from);
+        length = SharedStrings.unescape(cb, from, to, buf, 0);
+        return this;
+    }
+
+    /**
+     * Decode the raw UTF-8 bytes which widened into char buffer (one byte per char)
+     * and unescape into this buffer, the pure ASCII text will be unescaped directly
+     *
+     * @param cb   source char buffer
+     * @param from starting position in the source array.
+     * @param to   ending position in the source array.
+     * @return this buffer
+     */
+    public TextBuffer unescapeUtf8(char[] cb, int from, int to) {
+        int i = from;
+        for (; i < to && cb[i] < 0x80; i++) ;
+        // ASCII only
+        if (i == to) return unescape(cb, from, to);
+
+        ensureCapacity(to - from);
+        int n = i - from;
+        System.arraycopy(cb, from, buf, 0, n);
+        n = decodeUtf8(cb, i, to, buf, n);
+        // The entities never expand, so it's safe to unescape in place
+        length = SharedStrings.unescape(buf, 0, n, buf, 0);
+        return this;
+    }
+
+    @Override
+    public int length() {
+        return length;
+    }
+
+    @Override
+    public char charAt(int index) {
+        if (index < 0 || index >= length) throw new StringIndexOutOfBoundsException(index);
+        return buf[index];
+    }
+
+    @Override
+    public CharSequence subSequence(int start, int end) {
+        if (start < 0 || end > length || start > end) throw new StringIndexOutOfBoundsException("start " + start + ", end " + end + ", length " + length);
+        return new String(buf, start, end - start);
+    }
+
+    /**
+     * Test if the content equals to the specified {@code CharSequence}
+     *
+     * @param cs the {@code CharSequence} to compare
+     * @return true if the chars are the same
+     */
+    public boolean contentEquals(CharSequence cs) {
+        if (cs == null || cs.length() != length) return false;
+        for (int i = 0; i < length; i++) if (buf[i] != cs.charAt(i)) return false;
+        return true;
+    }
+
+    /**
+     * Returns the hash code of content, it's the same as {@link String#hashCode()}
+     * of the equivalent string
+     *
+     * @return the hash code of content
+     */
+    public int contentHash() {
+        int h = 0;
+        for (int i = 0; i < length; i++) h = 31 * h + buf[i];
+        return h;
+    }
+
+    /**
+     * Append the content into {@code StringBuilder}
+     *
+     * @param builder the destination
+     * @return the destination
+     */
+    public StringBuilder appendTo(StringBuilder builder) {
+        return builder.append(buf, 0, length);
+    }
+
+    @Override
+    public String toString() {
+        return length > 0 ? new String(buf, 0, length) : "";
+    }
+
+    private void ensureCapacity(int n) {
+        if (n > buf.length) buf = new char[Math.max(n, buf.length + (buf.length >> 1))];
+    }
+}
@@ -104,7 +104,7 @@ public class XMLDrawings implements Drawings {
         // Empty excel, maybe throw exception here
         if (excelReader.sheets == null) return null;
 
-        ZipFile zipFile = excelReader.zipFile;
+        ZipArchive zipFile = excelReader.zipFile;
         if (zipFile == null) return null;
 
         if (excelReader.tempDir == null) {
@@ -150,7 +150,7 @@ public class XMLDrawings implements Drawings {
 
                     // Drawings
                 } else if (Const.Relationship.DRAWINGS.equals(type)) {
-                    List<Picture> subPictures = parseDrawings(zipFile, entry, imagesPath);
+                    List<Picture> subPictures = parseDrawings0(zipFile, entry, imagesPath);
                     if (subPictures != null) {
                         for (Picture picture : subPictures) {
                             picture.sheet = sheet;
@@ -177,8 +177,30 @@ public class XMLDrawings implements Drawings {
         return !pictures.isEmpty() ? (this.pictures = pictures) : null;
     }
 
-    // Parse drawings.xml
+    // Call the legacy override point if the source is a ZipFile, it delegates to the ZipArchive version by default
+    @SuppressWarnings("deprecation")
+    private List<Picture> parseDrawings0(ZipArchive zipFile, ZipEntry entry, Path imagesPath) {
+        ZipFile file = zipFile.getZipFile();
+        return file != null ? parseDrawings(file, entry, imagesPath) : parseDrawings(zipFile, entry, imagesPath);
+    }
+
+    /**
+     * 解析drawings.xml
+     *
+     * @param zipFile    xlsx源
+     * @param entry      drawings.xml
+     * @param imagesPath 图片保存路径
+     * @return 图片列表
+     * @deprecated 使用{@link #parseDrawings(ZipArchive, ZipEntry, Path)}代替，
+     * 此方法只在基于文件读取时被调用，从内存读取时不会调用
+     */
+    @Deprecated
     protected List<Picture> parseDrawings(ZipFile zipFile, ZipEntry entry, Path imagesPath) {
+        return parseDrawings(ZipArchive.of(zipFile), entry, imagesPath);
+    }
+
+    // Parse drawings.xml
+    protected List<Picture> parseDrawings(ZipArchive zipFile, ZipEntry entry, Path imagesPath) {
         int i = entry.getName().lastIndexOf('/');
         String relsKey;
         if (i > 0)
@@ -347,6 +369,17 @@ public class XMLDrawings implements Drawings {
      * @return ID:图片本地路径
      */
     public Map<String, Path> listCellImages(ZipFile zipFile, ZipEntry entry) {
+        return listCellImages(ZipArchive.of(zipFile), entry);
+    }
+
+    /**
+     * 拉取WPS单元格内嵌图片
+     *
+     * @param zipFile xlsx源
+     * @param entry   cellImages
+     * @return ID:图片本地路径
+     */
+    public Map<String, Path> listCellImages(ZipArchive zipFile, ZipEntry entry) {
         SAXReader reader = SAXReaderUtil.createDefault();
 
         ZipEntry refEntry = getEntry(zipFile, "xl/_rels/cellimages.xml.rels");
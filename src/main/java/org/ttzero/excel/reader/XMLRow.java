@@ -30,7 +30,8 @@ import static org.ttzero.excel.reader.Cell.SST;
 import static org.ttzero.excel.reader.Cell.INLINESTR;
 import static org.ttzero.excel.reader.Cell.UNALLOCATED;
 import static org.ttzero.excel.reader.SharedStrings.toInt;
-import static org.ttzero.excel.reader.SharedStrings.escape;
+import static org.ttzero.excel.reader.SharedStrings.indexOf;
+import static org.ttzero.excel.util.StringUtil.EMPTY;
 import static org.ttzero.excel.util.StringUtil.swap;
 
 /**
@@ -83,6 +84,19 @@ public class XMLRow extends Row {
     protected char[] cb;
     protected int from, to;
     protected int cursor, e;
+    // The buffer holds raw UTF-8 bytes (one byte per char)
+    protected boolean byteMode;
+    // The selected columns (zero base), null means all columns
+    protected boolean[] projection;
+    // The row filter conditions by column (zero base) and the columns to parse before filtering
+    protected RowFilter.Condition[] filter;
+    protected boolean[] filterProjection;
+    // The columns already parsed by the filter test, they are skipped in the second pass
+    protected boolean[] skip;
+    // The start of cells and the spans of current row, kept by the filter test for the second pass
+    private int cellFrom, spanLc;
+    // Scratch buffer of unescaped text, one per parser
+    protected TextBuffer textBuffer;
 
     ///////////////////////////////////////////////////////
     protected XMLRow with(char[] cb, int from, int size) {
@@ -92,7 +106,10 @@ public class XMLRow extends Row {
         this.to = from + size;
         this.cursor = from;
         this.rowNum = this.lc = -1;
-        parseCells();
+        // The filtered row looks like an empty row and will be skipped by data iterator
+        if (filter == null) parseCells();
+        else if (testFilter()) parseRest();
+        else this.fc = this.lc = -1;
         return this;
     }
 
@@ -158,6 +175,53 @@ public class XMLRow extends Row {
         return i;
     }
 
+    /**
+     * Parse the filtered columns only and test the raw values before parsing the whole row
+     *
+     * @return {@code true} if all conditions are matched
+     */
+    protected boolean testFilter() {
+        boolean[] projection = this.projection;
+        this.projection = filterProjection;
+        try {
+            cursor = searchSpan();
+            spanLc = lc;
+            for (; cb[cursor++] != '>'; ) ;
+            cellFrom = cursor;
+            for (Cell cell; (cell = nextCell()) != null; parseCellValue(cell)) ;
+        } finally {
+            this.projection = projection;
+        }
+        for (int i = 0; i < filter.length; i++) {
+            for (RowFilter.Condition c = filter[i]; c != null; c = c.next) {
+                if (!c.test(i < cells.length ? cells[i] : Cell.UNALLOCATED_CELL)) return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Parse the rest cells after the filter test passed, the filtered columns have been
+     * parsed by {@link #testFilter()} and are not parsed again
+     */
+    protected void parseRest() {
+        cursor = cellFrom;
+        skip = filterProjection;
+        int last = 0;
+        try {
+            for (Cell cell; (cell = nextCell()) != null; parseCellValue(cell)) last = lc;
+        } finally {
+            skip = null;
+        }
+        // The filtered columns out of projection are not returned
+        for (int i = 0, n = Math.min(filterProjection.length, cells.length); i < n; i++) {
+            if (!filterProjection[i] || cells[i].t == UNALLOCATED) continue;
+            if (projection != null && (i >= projection.length || !projection[i])) cells[i].clear();
+            else if (last < i + 1) last = i + 1;
+        }
+        lc = last > 0 ? last : spanLc;
+    }
+
     /**
      * Loop parse cell
      */
@@ -175,68 +239,79 @@ public class XMLRow extends Row {
      * @return the {@link Cell}
      */
     protected Cell nextCell() {
-        for (; cursor < to && (cb[cursor] != '<' || cb[cursor + 1] != 'c'
-            || cb[cursor + 2] > ' '); cursor++) ;
-        // end of row
-        if (cursor >= to) return null;
-        cursor += 2;
-        // find end of cell
-        e = cursor;
-        for (; e < to && (cb[e] != '<' || cb[e + 1] != 'c' || cb[e + 2] > ' '); e++) ;
-
-        Cell cell = null;
-        // find type
-        // n=numeric (default), s=string, b=boolean, str=function string
-        char t = NUMERIC; // default
-        int xf = 0, i = 0;
-        for (; cb[cursor] != '>'; cursor++) {
-            // Cell index
-            if (cb[cursor] <= ' ' && cb[cursor + 1] == 'r' && cb[cursor + 2] == '=') {
-                int a = cursor += 4;
-                for (; cb[cursor] != '"'; cursor++) ;
-                i = toCellIndex(cb, a, cursor);
-                // The `spans` attribute is not be set
-                if (i - 1 >= cells.length) {
-                    // Bound check
-                    if (i - 1 > Const.Limit.MAX_COLUMNS_ON_SHEET) {
-                        throw new TooManyColumnsException(i, Const.Limit.MAX_COLUMNS_ON_SHEET);
+        for (; ; ) {
+            for (; cursor < to && (cb[cursor] != '<' || cb[cursor + 1] != 'c'
+                || cb[cursor + 2] > ' '); cursor++) ;
+            // end of row
+            if (cursor >= to) return null;
+            cursor += 2;
+            // find end of cell
+            e = cursor;
+            for (; e < to && (cb[e] != '<' || cb[e + 1] != 'c' || cb[e + 2] > ' '); e++) ;
+
+            Cell cell = null;
+            // find type
+            // n=numeric (default), s=string, b=boolean, str=function string
+            char t = NUMERIC; // default
+            int xf = 0, i = 0;
+            for (; cb[cursor] != '>'; cursor++) {
+                // Cell index
+                if (cb[cursor] <= ' ' && cb[cursor + 1] == 'r' && cb[cursor + 2] == '=') {
+                    int a = cursor += 4;
+                    for (; cb[cursor] != '"'; cursor++) ;
+                    i = toCellIndex(cb, a, cursor);
+                    // Skip the unselected cell without decoding its value
+                    if (projection != null && (i > projection.length || !projection[i - 1])
+                        || skip != null && i <= skip.length && skip[i - 1]) break;
+                    // The `spans` attribute is not be set
+                    if (i - 1 >= cells.length) {
+                        // Bound check
+                        if (i - 1 > Const.Limit.MAX_COLUMNS_ON_SHEET) {
+                            throw new TooManyColumnsException(i, Const.Limit.MAX_COLUMNS_ON_SHEET);
+                        }
+                        // Resize cell buffer
+                        cells = copyCells(Math.min(i + 99, Const.Limit.MAX_COLUMNS_ON_SHEET));
                     }
-                    // Resize cell buffer
-                    cells = copyCells(Math.min(i + 99, Const.Limit.MAX_COLUMNS_ON_SHEET));
+                    cell = cells[i - 1];
                 }
-                cell = cells[i - 1];
-            }
-            // Cell type
-            if (cb[cursor] <= ' ' && cb[cursor + 1] == 't' && cb[cursor + 2] == '=') {
-                int a = cursor += 4, n;
-                for (; cb[cursor] != '"'; cursor++) ;
-                if ((n = cursor - a) == 1) {
-                    t = cb[a]; // s, n, b
-                } else if (n == 9 && cb[a] == 'i' && cb[a + 1] == 'n'
-                    && cb[a + 2] == 'l' && cb[a + 6] == 'S' && cb[a + 8] == 'r') {
-                    t = INLINESTR; // inlineStr
-                } else if (n == 3 && cb[a] == 's' && cb[a + 1] == 't' && cb[a + 2] == 'r') {
-                    t = FUNCTION; // function string
+                // Cell type
+                if (cb[cursor] <= ' ' && cb[cursor + 1] == 't' && cb[cursor + 2] == '=') {
+                    int a = cursor += 4, n;
+                    for (; cb[cursor] != '"'; cursor++) ;
+                    if ((n = cursor - a) == 1) {
+                        t = cb[a]; // s, n, b
+                    } else if (n == 9 && cb[a] == 'i' && cb[a + 1] == 'n'
+                        && cb[a + 2] == 'l' && cb[a + 6] == 'S' && cb[a + 8] == 'r') {
+                        t = INLINESTR; // inlineStr
+                    } else if (n == 3 && cb[a] == 's' && cb[a + 1] == 't' && cb[a + 2] == 'r') {
+                        t = FUNCTION; // function string
+                    }
+                    // -> Other unknown case
+                }
+                // Cell style
+                if (cb[cursor] <= ' ' && cb[cursor + 1] == 's' && cb[cursor + 2] == '=') {
+                    int a = cursor += 4;
+                    for (; cb[cursor] != '"'; cursor++) ;
+                    xf = toInt(cb, a, cursor);
                 }
-                // -> Other unknown case
             }
-            // Cell style
-            if (cb[cursor] <= ' ' && cb[cursor + 1] == 's' && cb[cursor + 2] == '=') {
-                int a = cursor += 4;
-                for (; cb[cursor] != '"'; cursor++) ;
-                xf = toInt(cb, a, cursor);
+
+            // Unselected cell
+            if (cb[cursor] != '>') {
+                cursor = e;
+                continue;
             }
-        }
 
-        if (cell == null) return null;
+            if (cell == null) return null;
 
-        // The style index
-        cell.xf = xf;
-        cell.t = t;
-//        if (lc < i)
-        lc = i;
+            // The style index
+            cell.xf = xf;
+            cell.t = t;
+//            if (lc < i)
+            lc = i;
 
-        return cell;
+            return cell;
+        }
     }
 
     protected static long toLong(char[] cb, int a, int b) {
@@ -249,6 +324,61 @@ public class XMLRow extends Row {
         return _n ? -n : n;
     }
 
+    /**
+     * Exactly powers of ten which can be represented in double
+     */
+    private static final double[] POW10 = {
+        1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+        1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+
+    /**
+     * Parse decimal digits into a lazy decimal cell without allocation.
+     * <p>
+     * The digits are accumulated into an unscaled {@code long} and the double
+     * value is computed by one exact division when the unscaled value less than
+     * 2<sup>53</sup> and the scale not greater than 22 (both operands are exact
+     * so the quotient is correctly rounded). Numbers with exponent or more than
+     * 18 significant digits fallback to {@link BigDecimal}.
+     *
+     * @param cb the char buffer
+     * @param a start index (inclusive)
+     * @param b end index (exclusive)
+     * @param cell the destination cell
+     */
+    protected static void toDecimal(char[] cb, int a, int b, Cell cell) {
+        int i = a, scale = -1, digits = 0;
+        boolean _n = cb[i] == '-';
+        if (_n) i++;
+        long n = 0L;
+        for (char c; i < b; i++) {
+            c = cb[i];
+            if (c == '.') {
+                scale = 0;
+                continue;
+            }
+            if (c < '0' || c > '9' || digits >= 18) break;
+            if (digits > 0 || c != '0') digits++;
+            n = n * 10 + c - '0';
+            if (scale >= 0) scale++;
+        }
+        // Exponent or too many digits
+        if (i < b) {
+            BigDecimal mv = new BigDecimal(cb, a, b - a);
+            cell.setDecimal(mv).doubleVal = mv.doubleValue();
+            return;
+        }
+        if (_n) n = -n;
+        if (scale < 0) scale = 0;
+        if (scale < POW10.length && n < (1L << 53) && n > -(1L << 53)) {
+            // Keep the sign of negative zero, such as "-0.0"
+            cell.setDecimal(n, scale, n != 0L || !_n ? n / POW10[scale] : -0.0D);
+        } else {
+            BigDecimal mv = BigDecimal.valueOf(n, scale);
+            cell.setDecimal(n, scale, mv.doubleValue()).decimal = mv;
+        }
+    }
+
     /* Found specify target  */
     protected int get(char c) {
         for (; cursor < e && (cb[cursor] != '<' || cb[cursor + 1] != c
@@ -301,6 +431,34 @@ public class XMLRow extends Row {
         return get('v');
     }
 
+    /**
+     * Returns the unescaped text between {@code a} and {@code b}, in byte mode
+     * the raw UTF-8 bytes will be decoded first
+     *
+     * @param a the start index
+     * @param b the end index
+     * @return the text value
+     */
+    protected String text(int a, int b) {
+        // No entities
+        if (!byteMode && indexOf(cb, '&', a, b) < 0) return a < b ? new String(cb, a, b - a) : EMPTY;
+        return textView(a, b).toString();
+    }
+
+    /**
+     * Returns the unescaped text between {@code a} and {@code b} as a reusable view,
+     * it can be compared or hashed without creating a {@code String}. The view is only
+     * valid until the next call
+     *
+     * @param a the start index
+     * @param b the end index
+     * @return the text view
+     */
+    protected TextBuffer textView(int a, int b) {
+        if (textBuffer == null) textBuffer = new TextBuffer();
+        return byteMode ? textBuffer.unescapeUtf8(cb, a, b) : textBuffer.unescape(cb, a, b);
+    }
+
     /**
      * Parse cell value
      *
@@ -315,7 +473,7 @@ public class XMLRow extends Row {
             case INLINESTR: // inner string
                 a = getT();
                 if (a < cursor) {
-                    cell.setString(escape(cb, a, cursor));
+                    cell.setString(text(a, cursor));
                 } else { // null value
                     cell.blank(); // Reset type to BLANK if null value
                 }
@@ -334,7 +492,7 @@ public class XMLRow extends Row {
             case FUNCTION: // function string
                 a = getV();
                 if (a < cursor) {
-                    cell.setString(escape(cb, a, cursor));
+                    cell.setString(text(a, cursor));
                 } else { // null value
                     cell.blank(); // Reset type to BLANK if null value
                 }
@@ -350,7 +508,7 @@ public class XMLRow extends Row {
                     // 2: long
                     // 3: double
                     switch (t) {
-                        case 3: cell.setDecimal(new BigDecimal(cb, a, cursor - a)); break;
+                        case 3: toDecimal(cb, a, cursor, cell);       break;
                         case 2: {
                             long l = toLong(cb, a, cursor);
                             if (l > Integer.MAX_VALUE || l < Integer.MIN_VALUE) cell.setLong(l);
@@ -359,7 +517,7 @@ public class XMLRow extends Row {
                         }
                         case 1: cell.setInt(toInt(cb, a, cursor));    break;
                         case 0: cell.emptyTag();                     break;
-                        default: cell.setString(escape(cb, a, cursor));
+                        default: cell.setString(text(a, cursor));
                     }
                 }
                 // Maybe the cell should be merged
@@ -393,6 +551,10 @@ class XMLFullRow extends XMLRow {
     XMLFullRow(XMLRow row) {
         this.sst = row.sst;
         this.styles = row.styles;
+        this.byteMode = row.byteMode;
+        this.projection = row.projection;
+        this.filter = row.filter;
+        this.filterProjection = row.filterProjection;
     }
 
     @Override
@@ -408,6 +570,14 @@ class XMLFullRow extends XMLRow {
         return this;
     }
 
+    /**
+     * The merged cells and formulas depend on the whole row, so the row is parsed again
+     */
+    @Override
+    protected void parseRest() {
+        parseCells();
+    }
+
     /**
      * Loop parse cell
      */
@@ -479,7 +649,7 @@ class XMLFullRow extends XMLRow {
         }
         // Inner text
         if (a < cursor) {
-            cell.formula = escape(cb, a, cursor);
+            cell.formula = text(a, cursor);
             if (cell.si > -1) setCalc(cell.si, cell.formula);
         }
         // Function string is shared
@@ -26,28 +26,52 @@ import org.dom4j.io.SAXReader;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.ttzero.excel.entity.Comment;
-import org.ttzero.excel.entity.Comments;
+import org.ttzero.excel.entity.CommentsReader;
 import org.ttzero.excel.entity.Panes;
 import org.ttzero.excel.entity.Relationship;
 import org.ttzero.excel.entity.style.Styles;
 import org.ttzero.excel.manager.Const;
 import org.ttzero.excel.manager.RelManager;
+import org.ttzero.excel.util.FileUtil;
 import org.ttzero.excel.util.SAXReaderUtil;
 import org.ttzero.excel.util.StringUtil;
 import org.ttzero.excel.validation.Validation;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
 import java.io.Reader;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipFile;
 
@@ -67,6 +91,7 @@ public class XMLSheet implements Sheet {
     public XMLSheet() { }
 
     public XMLSheet(XMLSheet sheet) {
+        sheet.bind();
         this.name = sheet.name;
         this.index = sheet.index;
         this.path = sheet.path;
@@ -85,7 +110,8 @@ public class XMLSheet implements Sheet {
         this.eof = sheet.eof;
         this.heof = sheet.heof;
         this.mark = sheet.mark;
-        this.sRow = (sheet.sRow == null || sheet.sRow.getClass() != XMLRow.class) && !eof ? createRow().init(sst, styles) : sheet.sRow;
+        this.byteMode = sheet.byteMode;
+        this.sRow = (sheet.sRow == null || sheet.sRow.getClass() != XMLRow.class) && !eof ? initRow(createRow()) : sheet.sRow;
         this.lastRowMark = sheet.lastRowMark;
         this.hrf = sheet.hrf;
         this.hrl = sheet.hrl;
@@ -93,6 +119,18 @@ public class XMLSheet implements Sheet {
         this.entry = sheet.entry;
         this.option = sheet.option;
         this.relManager = sheet.relManager;
+        this.selectIndexes = sheet.selectIndexes;
+        this.selectNames = sheet.selectNames;
+        this.filter = sheet.filter;
+        // Share the spooled file, it is removed when the last sheet is closed
+        if ((this.spool = sheet.spool) != null && (this.spoolRefs = sheet.spoolRefs) != null) spoolRefs.incrementAndGet();
+        this.rowIndex = sheet.rowIndex;
+        this.bufferLimit = sheet.bufferLimit;
+        this.gridLimit = sheet.gridLimit;
+        this.source = sheet.source;
+        this.tail = sheet.tail;
+        this.staged = sheet.staged;
+        if (this.sRow != null && sheet.sRow != null) this.sRow.projection = sheet.sRow.projection;
     }
 
     protected String name;
@@ -118,14 +156,33 @@ public class XMLSheet implements Sheet {
     protected Drawings drawings;
     // Header row
     protected int hrf, hrl;
-    // Data Source
-    protected ZipFile zipFile;
+    // Data Source, the type is changed from ZipFile (incompatible change), use ZipArchive#getZipFile to get the ZipFile
+    protected ZipArchive zipFile;
     protected ZipEntry entry;
     // Simple properties
     // The low 16 bits are allocated to the header, while the high 16 bits are occupied by the sheet
     protected int option;
     // Relationship Manager
     protected RelManager relManager;
+    /**
+     * Scan the raw UTF-8 bytes of worksheet, the markup is ASCII so each byte is simply widened
+     * to one char and only the text values(inline string, formula) are decoded as UTF-8.
+     * It saves the decoding of markup but not the buffer memory, the buffer is still a
+     * {@code char[]} and a non-ASCII character takes 2-4 chars of it.
+     * <p>
+     * It is off by default and enabled by {@link ExcelReader#byteMode()}, the spooled worksheet
+     * is always read in byte mode because the offsets of row index are bytes. In byte mode the
+     * {@link #cb} holds the widened bytes instead of UTF-16 chars, the subclass which reads the
+     * text from {@code cb} directly should decode it by {@link SharedStrings#decodeUtf8}
+     */
+    protected boolean byteMode;
+    // The selected column indexes or names, resolved to the row projection before iterating
+    protected int[] selectIndexes;
+    protected String[] selectNames;
+    // The row filter, it is applied on data rows only
+    protected RowFilter filter;
+    // Bind the Shared String Table and Styles before loading, only in lazy mode
+    protected Consumer<XMLSheet> binder;
 
     /**
      * Setting the worksheet name
@@ -151,6 +208,15 @@ public class XMLSheet implements Sheet {
      * @param zipFile source data
      */
     protected void setZipFile(ZipFile zipFile) {
+        this.zipFile = ZipArchive.of(zipFile);
+    }
+
+    /**
+     * Setting the source zip archive
+     *
+     * @param zipFile source data
+     */
+    protected void setZipFile(ZipArchive zipFile) {
         this.zipFile = zipFile;
     }
 
@@ -181,6 +247,27 @@ public class XMLSheet implements Sheet {
         this.styles = styles;
     }
 
+    /**
+     * Setting the binder of workbook-level parts, it is called once before the worksheet
+     * is loaded to set the Shared String Table and {@link Styles} in lazy mode
+     *
+     * @param binder the binder
+     */
+    protected void setBinder(Consumer<XMLSheet> binder) {
+        this.binder = binder;
+    }
+
+    /**
+     * Bind the workbook-level parts if the binder is present
+     */
+    protected void bind() {
+        Consumer<XMLSheet> binder = this.binder;
+        if (binder != null) {
+            this.binder = null;
+            binder.accept(this);
+        }
+    }
+
 
     /**
      * The worksheet name
@@ -322,6 +409,14 @@ public class XMLSheet implements Sheet {
         HeaderRow headerRow;
         // Mutable header rows
         if (toRowNum - fromRowNum > 0) {
+            // The merged cells are in the tail, inflate the worksheet once and read the header rows from the staged data
+            if (tail == null && spool == null && staged == null && zipFile != null && !(this instanceof FullSheet)) {
+                try {
+                    stage(true);
+                } catch (IOException e) {
+                    throw new ExcelReadException("Stage worksheet[" + getName() + "] error occur.", e);
+                }
+            }
             Row[] rows = new Row[toRowNum - fromRowNum + 1];
             int i = 0, lc = -1;
             boolean changeLc = false;
@@ -350,10 +445,13 @@ public class XMLSheet implements Sheet {
 
             if (i > 0) {
                 List<Dimension> mergeCells;
-                if (!(this instanceof FullSheet)) {
+                // The merged cells can not be read before rows in streaming mode
+                if (!isTailReadable()) mergeCells = null;
+                else if (!(this instanceof FullSheet)) {
                     // Parse merged cells
-                    FullSheet tmp = new XMLSheet(this).asFullSheet();
+                    XMLFullSheet tmp = new XMLFullSheet(this);
                     mergeCells = tmp.getMergeCells();
+                    tmp.releaseSpool();
                 } else mergeCells = ((FullSheet) this).getMergeCells();
 
                 if (mergeCells != null) {
@@ -421,6 +519,83 @@ public class XMLSheet implements Sheet {
         return this;
     }
 
+    /**
+     * Select the columns by header name, the unselected cells are skipped while parsing
+     *
+     * @param columnNames the column names
+     * @return sheet
+     */
+    @Override
+    public XMLSheet select(String... columnNames) {
+        this.selectNames = columnNames;
+        this.selectIndexes = null;
+        return this;
+    }
+
+    /**
+     * Select the columns by index (zero base), the unselected cells are skipped while parsing
+     *
+     * @param columnIndexes the column indexes
+     * @return sheet
+     */
+    @Override
+    public XMLSheet select(int... columnIndexes) {
+        this.selectIndexes = columnIndexes;
+        this.selectNames = null;
+        return this;
+    }
+
+    /**
+     * Resolve the selected columns to the projection of shared row, the column names are
+     * matched with the header and the not found names are ignored
+     */
+    protected void applyProjection() {
+        if (sRow == null) return;
+        int[] indexes = selectIndexes;
+        if (selectNames != null && getHeader() != null) {
+            indexes = new int[selectNames.length];
+            for (int i = 0; i < selectNames.length; i++) indexes[i] = header.getIndex(selectNames[i]);
+        }
+        boolean[] projection = null;
+        if (indexes != null) {
+            int max = -1;
+            for (int i : indexes) if (i > max) max = i;
+            projection = new boolean[max + 1];
+            for (int i : indexes) if (i >= 0) projection[i] = true;
+        }
+        sRow.projection = projection;
+        // The row filter is applied after the header row is consumed
+        sRow.filter = null;
+        sRow.filterProjection = null;
+    }
+
+    /**
+     * Filter the data rows, the rows that do not match the filter are skipped
+     * before parsing the other cells
+     *
+     * @param filter the row filter
+     * @return sheet
+     */
+    @Override
+    public XMLSheet filter(RowFilter filter) {
+        this.filter = filter;
+        return this;
+    }
+
+    /**
+     * Resolve the row filter to the shared row, it must be called after the header row is consumed
+     */
+    protected void applyFilter() {
+        if (sRow == null || filter == null) return;
+        RowFilter.Condition[] conditions = filter.resolve(header, sst);
+        boolean[] filterProjection = new boolean[conditions.length];
+        for (int i = 0; i < conditions.length; i++) filterProjection[i] = conditions[i] != null;
+        sRow.filter = conditions;
+        sRow.filterProjection = filterProjection;
+        // The current row has been parsed before the filter is applied
+        if (useCurrentRow) sRow.with(sRow.cb, sRow.from, sRow.to - sRow.from);
+    }
+
     /**
      * 获取关系管理器
      *
@@ -431,7 +606,8 @@ public class XMLSheet implements Sheet {
             int i = path.lastIndexOf('/');
             if (i < 0) i = path.lastIndexOf('\\');
             String fileName = path.substring(i + 1);
-            ZipEntry entry = getEntry(zipFile, "xl/worksheets/_rels/" + fileName + ".rels");
+            // There has no random access in streaming mode
+            ZipEntry entry = zipFile != null ? getEntry(zipFile, "xl/worksheets/_rels/" + fileName + ".rels") : null;
             if (entry != null) {
                 SAXReader reader = SAXReaderUtil.createDefault();
                 try {
@@ -469,6 +645,26 @@ public class XMLSheet implements Sheet {
     protected XMLRow sRow;
     // Last row position
     protected long lastRowMark;
+    // The last searched row is an empty tag
+    protected boolean emptyRow;
+    // The inflated worksheet file and the sparse row index, only available in spool mode
+    protected Path spool;
+    protected RowIndex rowIndex;
+    // The number of sheets sharing the spooled file
+    protected AtomicInteger spoolRefs;
+    // The maximum characters of the reading buffer, zero means unlimited
+    protected int bufferLimit;
+    // The maximum bytes of the merged cells grid, zero means unlimited
+    protected long gridLimit;
+    // The forward-only source in streaming mode, it can be opened only once
+    protected InputStream source;
+    // The bytes after the end tag of sheetData, captured at the end of the main pass or while staging,
+    // it is empty if the end tag is not found
+    protected byte[] tail;
+    // The inflated worksheet kept in memory, it is read instead of inflating the zip entry again
+    protected byte[] staged;
+    // The maximum bytes of the staged worksheet if the memory budget is not set
+    static final int MAX_STAGED_BYTES = 1 << 25;
 
     /**
      * 加载sheet.xml并解析头信息，如果已加载则直接跳到标记位
@@ -482,7 +678,8 @@ public class XMLSheet implements Sheet {
         if (sRow != null) reset();
         else {
             LOGGER.debug("Load {}", path);
-            reader = new InputStreamReader(zipFile.getInputStream(entry), StandardCharsets.UTF_8);
+            bind();
+            reader = openReader();
             cb = new char[8192];
             nChar = 0; mark = 0;
 
@@ -491,7 +688,7 @@ public class XMLSheet implements Sheet {
 
             // Empty sheet
             if (length <= 0) eof = true;
-            if (!eof) sRow = createRow().init(sst, styles);
+            if (!eof) sRow = initRow(createRow());
 
             LOGGER.debug("eof: {}, mark: {}", eof, mark);
             if (dimension != null) LOGGER.debug("Dimension-Range: {}", dimension);
@@ -530,7 +727,7 @@ public class XMLSheet implements Sheet {
                         System.arraycopy(cb, offset, cb, 0, left);
                         mark += offset;
                     } else {
-                        cb = Arrays.copyOf(cb, cb.length << 1);
+                        cb = Arrays.copyOf(cb, growBuffer());
                         left = length;
                     }
                     nChar = 0;
@@ -570,14 +767,29 @@ public class XMLSheet implements Sheet {
             useCurrentRow = false;
             return sRow;
         }
-        if (eof) return null;
+        int start = searchRow();
+        if (start < 0) return null;
+
+        // share row
+        return emptyRow ? sRow.empty(cb, start, nChar - start) : sRow.with(cb, start, nChar - start);
+    }
+
+    /**
+     * Search the next row tag and move the cursor to the end of it, the buffer
+     * will be loaded more when the end tag of row not found
+     *
+     * @return the start index of row tag, {@code -1} if end of file
+     */
+    protected int searchRow() {
+        if (eof) return -1;
         boolean endTag = false;
         int start = nChar;
         // find end of row tag
         for (; ++nChar < length && cb[nChar] != '>'; ) ;
         // Empty Row
         if (nChar < length && cb[nChar - 1] == '/') {
-            return sRow.empty(cb, start, nChar - start);
+            emptyRow = true;
+            return start;
         }
         // Not empty
         for (; nChar < length - 6; nChar++) {
@@ -591,9 +803,18 @@ public class XMLSheet implements Sheet {
 
         /* Load more when not found end of row tag */
         if (!endTag) {
+            // The rows end, the tail is streamed out instead of loading into the row buffer
+            int i = start;
+            for (; i < length && cb[i] != '<'; i++) ;
+            if (i + 12 <= length && cb[i] == '<' && cb[i + 1] == '/' && cb[i + 2] == 's' && cb[i + 3] == 'h'
+                && cb[i + 4] == 'e' && cb[i + 5] == 'e' && cb[i + 6] == 't' && cb[i + 7] == 'D' && cb[i + 8] == 'a'
+                && cb[i + 9] == 't' && cb[i + 10] == 'a' && cb[i + 11] == '>') {
+                endOfRows(i + 12);
+                return -1;
+            }
             int n;
-            if (start == 0) {
-                char[] _cb = new char[cb.length << 1];
+            if (start == 0 && length == cb.length) {
+                char[] _cb = new char[growBuffer()];
                 System.arraycopy(cb, start, _cb, 0, n = length - start);
                 cb = _cb;
             } else {
@@ -603,28 +824,76 @@ public class XMLSheet implements Sheet {
                 length = reader.read(cb, n, cb.length - n);
                 // end of file
                 if (length < 0) {
-                    eof = true;
-                    reader.close(); // close reader
-                    reader = null; // wait GC
-                    LOGGER.debug("end of file.");
-                    if (dimension == null)
-                        dimension = new Dimension(1, (short) Math.max(sRow.fc, 1), Math.max(sRow.getRowNum(), 1), (short) Math.max(sRow.lc, 1));
-                    return null;
+                    // The end tag of sheetData is not found
+                    if (tail == null) tail = new byte[0];
+                    endOfRows(n);
+                    return -1;
                 }
             } catch (IOException e) {
                 if (e.getMessage() != null && e.getMessage().contains("Stream closed")) {
                     eof = true;
-                    return null;
+                    return -1;
                 }
                 throw new ExcelReadException("Parse row data error", e);
             }
             nChar = 0;
             length += n;
-            return nextRow();
+            return searchRow();
         }
+        emptyRow = false;
+        return start;
+    }
 
-        // share row
-        return sRow.with(cb, start, nChar - start);
+    /**
+     * Test if the tail after {@code </sheetData>} can be read, the forward-only worksheet
+     * in streaming mode can not be inflated again before the tail is captured
+     *
+     * @return true if the tail has been captured or the worksheet can be read again
+     */
+    protected boolean isTailReadable() {
+        return tail != null || spool != null || zipFile != null;
+    }
+
+    /**
+     * Mark the end of rows and keep the tail after {@code </sheetData>}, so the merged cells can be
+     * parsed without inflating again. The tail is streamed out of the reader instead of loading into
+     * the row buffer, and it is charged to its own limit (same as the staging limit), the larger
+     * tail is dropped if the worksheet can be read again.
+     *
+     * @param from the start index of tail in the buffer
+     * @throws ExcelReadException if I/O error occur
+     */
+    protected void endOfRows(int from) {
+        eof = true;
+        try {
+            if (tail == null) tail = streamTail(from);
+            reader.close(); // close reader
+        } catch (IOException e) {
+            throw new ExcelReadException("Read the tail of " + path + " error", e);
+        }
+        reader = null; // wait GC
+        LOGGER.debug("end of file.");
+        if (dimension == null)
+            dimension = new Dimension(1, (short) Math.max(sRow.fc, 1), Math.max(sRow.getRowNum(), 1), (short) Math.max(sRow.lc, 1));
+    }
+
+    // Stream the unread buffer and the rest of reader out, returns null if the tail exceeds the limit
+    private byte[] streamTail(int from) throws IOException {
+        long limit = bufferLimit > 0 ? bufferLimit : MAX_STAGED_BYTES, size = 0L;
+        // The forward-only worksheet can not be read again, the tail is always kept
+        boolean readable = spool != null || zipFile != null || staged != null;
+        ByteArrayOutputStream os = new ByteArrayOutputStream(1 << 10);
+        Writer writer = byteMode ? null : new OutputStreamWriter(os, StandardCharsets.UTF_8);
+        for (int n = length - from; n > 0; n = reader.read(cb, from = 0, cb.length)) {
+            if (readable && (size += n) > limit) {
+                LOGGER.debug("The tail of {} exceeds {} bytes, it will be read again", path, limit);
+                return null;
+            }
+            if (writer != null) writer.write(cb, from, n);
+            else for (int i = from, end = from + n; i < end; os.write(cb[i++])) ;
+        }
+        if (writer != null) writer.flush();
+        return os.toByteArray();
     }
 
     protected Row findRow0() {
@@ -660,6 +929,7 @@ public class XMLSheet implements Sheet {
     public Iterator<Row> iterator() {
         // If the header row number is specified, the header will be parsed first
         if (hrf > 0) getHeader();
+        applyProjection();
         return new RowSetIterator(this::nextRow);
     }
 
@@ -672,6 +942,7 @@ public class XMLSheet implements Sheet {
     public Iterator<Row> dataIterator() {
         // If the header row number is specified, the header will be parsed first
         if (hrf > 0) getHeader();
+        applyProjection();
         // iterator data rows
         Iterator<Row> nIter = new RowSetIterator.NonBlankIterator(this::nextRow);
         /*
@@ -683,9 +954,218 @@ public class XMLSheet implements Sheet {
             if (header == null) header = row.asHeader().setOptions(option << 16 >>> 16);
             row.setHeader(header);
         }
+        applyFilter();
         return nIter;
     }
 
+    /**
+     * Iterating over data rows in parallel, the current thread cuts the buffer at the
+     * row boundaries and the row blocks are parsed in {@link ForkJoinPool#commonPool()},
+     * every returned row is an independent copy.
+     *
+     * @param ordered returns rows in row order if {@code true}, otherwise in the order of completion
+     * @return a non-blank row stream
+     */
+    @Override
+    public Stream<Row> parallelDataRows(boolean ordered) {
+        // Parse the header in current thread
+        if (hrf > 0) getHeader();
+        applyProjection();
+        if (hrf == 0) {
+            XMLRow row;
+            for (row = nextRow(); row != null && row.isBlank(); row = nextRow()) ;
+            if (row != null) {
+                if (header == null) header = row.asHeader().setOptions(option << 16 >>> 16);
+                row.setHeader(header);
+            }
+        }
+        applyFilter();
+        // The string conditions are resolved by the workers
+        if (filter != null && sst != null && filter.hasStringCondition()) sst.concurrent();
+        Iterator<Row> nIter = new RowSetIterator.NonBlankIterator(new ParallelRowSupplier(ordered));
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(nIter
+            , ordered ? Spliterator.ORDERED | Spliterator.NONNULL : Spliterator.NONNULL), false);
+    }
+
+    /**
+     * Limit the reading buffer, a row larger than the limit can not be read
+     *
+     * @param bytes the maximum bytes of the reading buffer, zero means unlimited
+     */
+    void setBufferLimit(long bytes) {
+        bufferLimit = (int) Math.min(bytes >> 1, Integer.MAX_VALUE - 8);
+    }
+
+    /**
+     * Scan the raw UTF-8 bytes of worksheet instead of decoding them, it takes effect only
+     * before the worksheet is loaded
+     *
+     * @param byteMode enable the byte mode if {@code true}
+     */
+    void setByteMode(boolean byteMode) {
+        if (sRow == null && spool == null) this.byteMode = byteMode;
+    }
+
+    /**
+     * Limit the merged cells grid, the grid falls back to the interval index
+     * if the estimated bitmap or hash index exceeds the limit
+     *
+     * @param bytes the maximum bytes of the grid, zero means unlimited
+     */
+    void setGridLimit(long bytes) {
+        gridLimit = bytes;
+    }
+
+    /**
+     * Returns the approximate heap usage of the reading buffer in bytes
+     *
+     * @return the used bytes
+     */
+    long memoryUsage() {
+        return (cb != null ? (long) cb.length << 1 : 0L) + (staged != null ? staged.length : 0L);
+    }
+
+    // Returns the doubled buffer size, throws ExcelReadException if it exceeds the limit
+    private int growBuffer() {
+        long n = (long) cb.length << 1;
+        if (bufferLimit > 0 && n > bufferLimit)
+            throw new ExcelReadException("The row in " + path + " exceeds the memory budget of " + ((long) bufferLimit << 1) + " bytes");
+        return (int) n;
+    }
+
+    /**
+     * Cut the next block of rows from the buffer, each row is copied to the block
+     * so the block is independent of the reading buffer
+     *
+     * @param limit the maximum number of characters in block
+     * @return the row block or {@code null} if end of file
+     */
+    protected RowBlock nextBlock(int limit) {
+        RowBlock block = null;
+        // The current row has been read by header
+        if (useCurrentRow) {
+            useCurrentRow = false;
+            block = new RowBlock(limit);
+            block.add(cb, sRow.from, sRow.to - sRow.from, false);
+        }
+        for (int start; (block == null || block.size < limit) && (start = searchRow()) >= 0; ) {
+            if (block == null) block = new RowBlock(limit);
+            block.add(cb, start, nChar - start, emptyRow);
+        }
+        return block;
+    }
+
+    /**
+     * Parse the rows of block, it runs in the worker thread so the
+     * Shared String Table will not be touched here
+     *
+     * @param block the row block
+     * @return independent rows
+     */
+    protected Row[] parseBlock(RowBlock block) {
+        Row[] rows = new Row[block.n];
+        for (int i = 0; i < block.n; i++) {
+            XMLRow row = initRow(createRow());
+            row.setHeader(header);
+            row.projection = sRow.projection;
+            row.filter = sRow.filter;
+            row.filterProjection = sRow.filterProjection;
+            int from = block.index[i << 1], len = block.index[(i << 1) + 1];
+            if (len < 0) row.empty(block.cb, from, -len);
+            else row.with(block.cb, from, len);
+            // Resolve row number before leaving the worker
+            row.getRowNum();
+            rows[i] = row;
+        }
+        return rows;
+    }
+
+    /**
+     * A block of continuous row tags
+     */
+    protected static class RowBlock {
+        char[] cb;
+        int size, n;
+        // Pairs of the start index and length (negative if empty row)
+        int[] index = new int[64];
+
+        RowBlock(int limit) {
+            cb = new char[limit];
+        }
+
+        void add(char[] src, int from, int len, boolean empty) {
+            if (size + len > cb.length) cb = Arrays.copyOf(cb, Math.max(cb.length << 1, size + len));
+            if ((n << 1) + 2 > index.length) index = Arrays.copyOf(index, index.length << 1);
+            System.arraycopy(src, from, cb, size, len);
+            index[n << 1] = size;
+            index[(n << 1) + 1] = empty ? -len : len;
+            size += len;
+            n++;
+        }
+    }
+
+    /**
+     * Supply rows which parsed by the worker threads, the number of
+     * pending blocks is limited to twice of parallelism, and the pending
+     * blocks are charged to the free reading buffer budget if it is limited
+     */
+    protected class ParallelRowSupplier implements Supplier<Row> {
+        final ForkJoinPool pool = ForkJoinPool.commonPool();
+        // The maximum pending blocks and the characters of each block
+        final int window, block;
+        final boolean ordered;
+        // Ordered pending blocks
+        final Deque<Future<Row[]>> queue;
+        // Unordered pending blocks
+        final CompletionService<Row[]> completionService;
+        int pending, i;
+        Row[] rows;
+
+        protected ParallelRowSupplier(boolean ordered) {
+            this.ordered = ordered;
+            int window = Math.max(2, pool.getParallelism() << 1), block = 1 << 16;
+            if (bufferLimit > 0) {
+                // A block may exceed its size by one row, which is limited by the reading buffer
+                int free = Math.max(bufferLimit - (cb != null ? cb.length : 0), 0);
+                block = Math.min(block, Math.max(free >> 1, 1 << 10));
+                window = Math.max(1, Math.min(window, free / block));
+            }
+            this.window = window;
+            this.block = block;
+            if (ordered) {
+                queue = new ArrayDeque<>(window);
+                completionService = null;
+            } else {
+                queue = null;
+                completionService = new ExecutorCompletionService<>(pool);
+            }
+        }
+
+        @Override
+        public Row get() {
+            while (rows == null || i >= rows.length) {
+                // Keep the workers busy
+                for (RowBlock rb; pending < window && (rb = nextBlock(block)) != null; pending++) {
+                    final RowBlock b = rb;
+                    if (ordered) queue.add(pool.submit(() -> parseBlock(b)));
+                    else completionService.submit(() -> parseBlock(b));
+                }
+                if (pending == 0) return null;
+                try {
+                    rows = ordered ? queue.poll().get() : completionService.take().get();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new ExcelReadException("Parse row data interrupted", e);
+                } catch (ExecutionException e) {
+                    throw new ExcelReadException("Parse row data error", e.getCause());
+                }
+                pending--;
+                i = 0;
+            }
+            return rows[i++];
+        }
+    }
+
     /**
      * List all pictures in workbook
      *
@@ -704,9 +1184,242 @@ public class XMLSheet implements Sheet {
     @Override
     public void close() throws IOException {
         cb = null;
+        staged = null;
         if (reader != null) {
             reader.close();
         }
+        releaseSpool();
+    }
+
+    /**
+     * Release the spooled file, the file is removed when it is not shared by other sheets
+     */
+    protected void releaseSpool() {
+        if (spool != null) {
+            if (spoolRefs == null || spoolRefs.decrementAndGet() <= 0) FileUtil.rm(spool);
+            spool = null;
+            spoolRefs = null;
+            rowIndex = null;
+        }
+    }
+
+    /**
+     * Inflate the worksheet into a temp file once and build a sparse row index,
+     * then {@link #reset()}, the header re-reading and {@link #rows(int, int)}
+     * seek in the temp file instead of inflating the zip entry from the beginning.
+     * The sheet is reset to the beginning after spooled.
+     *
+     * @return sheet
+     */
+    @Override
+    public XMLSheet spool() {
+        if (spool != null) return this;
+        try {
+            try (InputStream is = openStream(0L)) {
+                spoolFrom(is);
+            }
+            // Re-parse the head on spooled file
+            reload();
+        } catch (IOException e) {
+            throw new ExcelReadException("Spool worksheet[" + getName() + "] error occur.", e);
+        }
+        return this;
+    }
+
+    // Close the opening reader and load the worksheet from the beginning
+    private void reload() throws IOException {
+        if (reader != null) reader.close();
+        header = null;
+        sRow = null;
+        cb = null;
+        eof = heof = useCurrentRow = false;
+        load();
+    }
+
+    /**
+     * Inflate the worksheet once and capture the tail after {@code </sheetData>}, so the merged
+     * cells can be parsed before the rows. The inflated data is kept in memory if it is not larger
+     * than the staging limit (half of the reading buffer budget, or 32M if the budget is not set),
+     * then the rows, {@link #reset()} and the header re-reading are read from memory instead of
+     * inflating the zip entry again. The larger worksheet is inflated again for the rows.
+     *
+     * @param reload reload the worksheet from the beginning after staged, it should be true only
+     *               if no data row has been read
+     * @throws IOException if I/O error occur
+     */
+    protected void stage(boolean reload) throws IOException {
+        long size = entry != null ? entry.getSize() : -1L, limit = bufferLimit > 0 ? bufferLimit : MAX_STAGED_BYTES;
+        // The spooled file is read directly
+        boolean keep = spool == null && size <= limit;
+        byte[] bytes = new byte[keep && size >= 0L ? (int) Math.max(size, 1 << 10) : 1 << 16], end = RowIndex.END_SHEET_DATA;
+        ByteArrayOutputStream tailBuf = null;
+        int k = 0, state = 0, tailFrom = -1;
+        try (InputStream is = openStream(0L)) {
+            for (int n, i; ; ) {
+                if (k == bytes.length) {
+                    // The size of zip entry is exact in most cases, test the end of stream before growing
+                    int b = keep && k == size ? is.read() : -2;
+                    if (b == -1) break;
+                    if (keep && bytes.length < limit) bytes = Arrays.copyOf(bytes, (int) Math.min((long) bytes.length << 1, limit));
+                    else {
+                        // Too large to keep in memory, only the tail is kept
+                        if (keep && tailFrom >= 0) {
+                            tailBuf = new ByteArrayOutputStream(Math.max(k - tailFrom, 1 << 10));
+                            tailBuf.write(bytes, tailFrom, k - tailFrom);
+                        }
+                        keep = false;
+                        k = 0;
+                    }
+                    i = k;
+                    if (b >= 0) bytes[k++] = (byte) b;
+                } else i = k;
+                if ((n = is.read(bytes, k, bytes.length - k)) > 0) k += n;
+                else if (k == i) break;
+                // Find '</sheetData>'
+                if (state < end.length) {
+                    for (; i < k && state < end.length; i++) state = bytes[i] == end[state] ? state + 1 : bytes[i] == '<' ? 1 : 0;
+                    if (state < end.length) continue;
+                    if (keep) {
+                        tailFrom = i;
+                        continue;
+                    }
+                    tailBuf = new ByteArrayOutputStream(Math.max(k - i, 1 << 10));
+                }
+                if (!keep) tailBuf.write(bytes, i, k - i);
+            }
+        }
+        if (state < end.length) tail = new byte[0];
+        else tail = keep ? Arrays.copyOfRange(bytes, tailFrom, k) : tailBuf.toByteArray();
+        if (keep) {
+            staged = k == bytes.length ? bytes : Arrays.copyOf(bytes, k);
+            LOGGER.debug("Stage {} in memory, {} bytes", path, k);
+        }
+        if (reload) reload();
+    }
+
+    /**
+     * Copy the uncompressed worksheet data into a temp file and build the sparse row index
+     *
+     * @param is the uncompressed worksheet data
+     * @throws IOException if I/O error occur
+     */
+    void spoolFrom(InputStream is) throws IOException {
+        Path temp = Files.createTempFile(Const.EEC_PREFIX, ".spool");
+        RowIndex index = new RowIndex();
+        ByteArrayOutputStream tail = null;
+        try (OutputStream os = Files.newOutputStream(temp)) {
+            byte[] buf = new byte[1 << 16];
+            for (int n; (n = is.read(buf)) > 0; ) {
+                os.write(buf, 0, n);
+                long position = index.position;
+                index.scan(buf, n);
+                // Keep the bytes after '</sheetData>'
+                if (index.tailOffset >= 0L) {
+                    int off = (int) Math.max(index.tailOffset - position, 0L);
+                    if (tail == null) tail = new ByteArrayOutputStream(Math.max(n - off, 1 << 10));
+                    tail.write(buf, off, n - off);
+                }
+            }
+        } catch (IOException e) {
+            FileUtil.rm(temp);
+            throw e;
+        }
+        LOGGER.debug("Spool {} to {}, {} index entries", path, temp, index.size);
+        spool = temp;
+        spoolRefs = new AtomicInteger(1);
+        rowIndex = index;
+        this.tail = tail != null ? tail.toByteArray() : new byte[0];
+        // The offsets of index are bytes
+        byteMode = true;
+    }
+
+    /**
+     * Iterating the rows between {@code fromRowNum} and {@code toRowNum} (both inclusive, one base),
+     * in spool mode the reader seeks to the nearest indexed row before {@code fromRowNum},
+     * otherwise the sheet is reset and the rows before {@code fromRowNum} are skipped
+     * without parsing cells. The header row is bound to the returned rows.
+     *
+     * @param fromRowNum the first row number (one base)
+     * @param toRowNum the last row number (one base, inclusive)
+     * @return row stream
+     */
+    @Override
+    public Stream<Row> rows(int fromRowNum, int toRowNum) {
+        if (fromRowNum <= 0)
+            throw new IllegalArgumentException("The fromRowNum must be greater than 0.");
+        if (fromRowNum > toRowNum)
+            throw new IllegalArgumentException("fromRowNum(" + fromRowNum + ") > toRowNum(" + toRowNum + ")");
+        // Bind the header so the cells can be read by column name
+        getHeader();
+        seek(fromRowNum);
+        applyProjection();
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(
+            new RowSetIterator(() -> nextRow(fromRowNum, toRowNum)), Spliterator.ORDERED | Spliterator.NONNULL), false);
+    }
+
+    /**
+     * Move the cursor before the specified row number
+     *
+     * @param rowNum the row number (one base)
+     */
+    protected void seek(int rowNum) {
+        int current = sRow != null ? sRow.getRowNum() : -1;
+        // The current row can be used directly
+        if (useCurrentRow && current <= rowNum) return;
+        if (rowIndex == null) {
+            // Read forward
+            if (!useCurrentRow && current < rowNum && sRow != null) return;
+            HeaderRow header = this.header;
+            int hrf = this.hrf, hrl = this.hrl;
+            reset();
+            // Keep the parsed header and the header range
+            this.hrf = hrf;
+            this.hrl = hrl;
+            if ((this.header = header) != null && sRow != null) sRow.setHeader(header);
+            return;
+        }
+        if (sRow == null) return;
+        long offset = rowIndex.floor(rowNum);
+        if (offset < 0L) offset = mark;
+        try {
+            if (reader != null) reader.close();
+            reader = new InputStreamReader(openStream(offset), StandardCharsets.ISO_8859_1);
+            length = reader.read(cb);
+            nChar = 0;
+            eof = length <= 0;
+            useCurrentRow = false;
+        } catch (IOException e) {
+            throw new ExcelReadException("Seek worksheet[" + getName() + "] error occur.", e);
+        }
+    }
+
+    /**
+     * Returns the next row between {@code fromRowNum} and {@code toRowNum}, the rows
+     * before {@code fromRowNum} are skipped without parsing cells
+     *
+     * @param fromRowNum the first row number (one base)
+     * @param toRowNum the last row number (one base, inclusive)
+     * @return the shared row or {@code null} if no more rows
+     */
+    protected XMLRow nextRow(int fromRowNum, int toRowNum) {
+        if (useCurrentRow) {
+            int r = sRow.getRowNum();
+            if (r > toRowNum) return null;
+            useCurrentRow = false;
+            if (r >= fromRowNum) return sRow;
+        }
+        for (int start; (start = searchRow()) >= 0; ) {
+            int r = sRow.empty(cb, start, nChar - start).getRowNum();
+            if (r < fromRowNum) continue;
+            XMLRow row = emptyRow ? sRow : sRow.with(cb, start, nChar - start);
+            // Keep the row for the next iteration
+            if (r > toRowNum) {
+                useCurrentRow = true;
+                return null;
+            }
+            return row;
+        }
+        return null;
     }
 
     /**
@@ -759,9 +1472,12 @@ public class XMLSheet implements Sheet {
                 sRow = null; // Repair possible dead cycles
                 return this.load();
             }
-            // Reload
-            reader = new InputStreamReader(zipFile.getInputStream(entry), StandardCharsets.UTF_8);
-            if (mark > 0L) reader.skip(mark);
+            // Reload, the spooled file seeks to the mark directly
+            if (spool != null) reader = new InputStreamReader(openStream(mark), StandardCharsets.ISO_8859_1);
+            else {
+                reader = openReader();
+                if (mark > 0L) reader.skip(mark);
+            }
             length = reader.read(cb);
             nChar = 0;
             eof = sRow == null;
@@ -776,16 +1492,62 @@ public class XMLSheet implements Sheet {
         return new XMLRow();
     }
 
+    /**
+     * Initialize the row which created by {@link #createRow()}
+     *
+     * @param row the worksheet row
+     * @return the initialized row
+     */
+    protected XMLRow initRow(XMLRow row) {
+        row.init(sst, styles);
+        row.byteMode = byteMode;
+        return row;
+    }
+
+    /**
+     * Open the worksheet entry as a character stream, in byte mode the ISO-8859-1 charset
+     * maps each byte to one char without any decoding
+     *
+     * @return the worksheet reader
+     * @throws IOException if I/O error occur
+     */
+    protected Reader openReader() throws IOException {
+        return new InputStreamReader(openStream(0L), byteMode ? StandardCharsets.ISO_8859_1 : StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Open the uncompressed worksheet data from the specified offset, the spooled file
+     * seeks to the offset while the zip entry has to be inflated from the beginning
+     *
+     * @param offset the offset of uncompressed data
+     * @return the worksheet input stream
+     * @throws IOException if I/O error occur
+     */
+    protected InputStream openStream(long offset) throws IOException {
+        if (spool != null) {
+            FileChannel channel = FileChannel.open(spool);
+            if (offset > 0L) channel.position(offset);
+            return Channels.newInputStream(channel);
+        }
+        InputStream is;
+        if (staged != null) is = new ByteArrayInputStream(staged);
+        else if (source != null) {
+            is = source;
+            source = null;
+        } else if (zipFile != null) is = zipFile.getInputStream(entry);
+        else throw new ExcelReadException("The worksheet [" + getName() + "] can only be read once in streaming mode, spool it for repeated reading");
+        if (offset > 0L) is.skip(offset);
+        return is;
+    }
+
     /*
     If the Dimension information is not write in header,
     Read from tail and look at the line number of the last line
     to confirm the scope of the entire worksheet.
      */
     protected Dimension parseDimension() {
-        try (InputStream is = zipFile.getInputStream(entry)) {
-            // Skips specified number of bytes of uncompressed data.
-            if (lastRowMark > 0L) is.skip(lastRowMark);
-
+        // Skips specified number of bytes of uncompressed data.
+        try (InputStream is = openStream(lastRowMark)) {
             // Mark
             long mark = 0L, mark0 = 0L;
             int n, offset = 0, limit = 1 << 14, i, len, f, row = 1, col = 1;
@@ -877,7 +1639,7 @@ public class XMLSheet implements Sheet {
     }
 
     protected Row createHeader(char[] cb, int start, int n) {
-        return createRow().init(sst, styles).with(cb, start, n);
+        return initRow(createRow()).with(cb, start, n);
     }
 
     @Override
@@ -890,6 +1652,105 @@ public class XMLSheet implements Sheet {
         return !(this instanceof XMLFullSheet) ? new XMLFullSheet(this) : (FullSheet) this;
     }
 
+    /**
+     * A sparse row number to offset index of the spooled worksheet
+     */
+    protected static class RowIndex {
+        // Index every 128 rows
+        static final int STEP = 128;
+        static final byte[] END_SHEET_DATA = "</sheetData>".getBytes(StandardCharsets.US_ASCII);
+        int size, count;
+        // The offset after the end tag of sheetData, -1 if not found
+        long tailOffset = -1L;
+        private int tailState;
+        int[] rows = new int[64];
+        long[] offsets = new long[64];
+        // Scan states
+        private long position, tagStart;
+        private int state, attrState, lastRow, rowNum;
+
+        /**
+         * Scan the row tags of the uncompressed data, the state is kept between
+         * buffers so the tag can be split across two buffers
+         *
+         * @param buf the uncompressed data
+         * @param n the length of data
+         */
+        void scan(byte[] buf, int n) {
+            for (int i = 0; i < n; i++, position++) {
+                byte b = buf[i];
+                // Find '</sheetData>'
+                if (tailOffset < 0L) {
+                    tailState = b == END_SHEET_DATA[tailState] ? tailState + 1 : b == '<' ? 1 : 0;
+                    if (tailState == END_SHEET_DATA.length) tailOffset = position + 1;
+                }
+                switch (state) {
+                    // Find '<row'
+                    case 0: if (b == '<') { state = 1; tagStart = position; } break;
+                    case 1: state = b == 'r' ? 2 : b == '<' ? 1 : 0; if (b == '<') tagStart = position; break;
+                    case 2: state = b == 'o' ? 3 : 0; break;
+                    case 3: state = b == 'w' ? 4 : 0; break;
+                    case 4:
+                        if (b <= ' ') {
+                            state = 5;
+                            attrState = 1;
+                            rowNum = -1;
+                        } else if (b == '>' || b == '/') {
+                            add(lastRow + 1);
+                            state = 0;
+                        } else state = 0;
+                        break;
+                    // Find the 'r' attribute in row tag
+                    default:
+                        if (b == '>') {
+                            add(rowNum > 0 ? rowNum : lastRow + 1);
+                            state = 0;
+                            break;
+                        }
+                        switch (attrState) {
+                            case 0: if (b <= ' ') attrState = 1; break;
+                            case 1: attrState = b == 'r' ? 2 : b <= ' ' ? 1 : 0; break;
+                            case 2: attrState = b == '=' ? 3 : b <= ' ' ? 1 : 0; break;
+                            case 3:
+                                if (b == '"') {
+                                    attrState = 4;
+                                    rowNum = 0;
+                                } else attrState = b <= ' ' ? 1 : 0;
+                                break;
+                            case 4:
+                                if (b >= '0' && b <= '9') rowNum = rowNum * 10 + b - '0';
+                                else attrState = 5; // End of 'r' attribute
+                                break;
+                            default:
+                        }
+                }
+            }
+        }
+
+        void add(int row) {
+            lastRow = row;
+            if (count++ % STEP != 0) return;
+            if (size == rows.length) {
+                rows = Arrays.copyOf(rows, size << 1);
+                offsets = Arrays.copyOf(offsets, size << 1);
+            }
+            rows[size] = row;
+            offsets[size++] = tagStart;
+        }
+
+        /**
+         * Returns the offset of the greatest indexed row less than or equal to the given row number
+         *
+         * @param rowNum the row number (one base)
+         * @return the offset or {@code -1} if not found
+         */
+        long floor(int rowNum) {
+            int i = Arrays.binarySearch(rows, 0, size, rowNum);
+            if (i < 0) i = -i - 2;
+            return i >= 0 ? offsets[i] : -1L;
+        }
+    }
+
     /**
      * 保存工作表当前状态并担任reset方法还原
      */
@@ -945,7 +1806,7 @@ public class XMLSheet implements Sheet {
  * A sub {@link XMLSheet} to parse all attributes
  */
 class XMLFullSheet extends XMLSheet implements FullSheet {
-    long[] calc; // Array of formula
+    CalcChain calc; // Formula cells
     boolean ready, tailPared;
     // A merge cells grid
     Grid mergeGrid;
@@ -986,28 +1847,40 @@ class XMLFullSheet extends XMLSheet implements FullSheet {
     void load0() {
         if (ready || eof) return;
 
-        // Parse calcChain.xml
-        ZipEntry entry = getEntry(zipFile, "xl/calcChain.xml");
-        long[][] calcArray = null;
-        try {
-            calcArray = entry != null ? parseCalcChain(zipFile.getInputStream(entry)) : null;
-        } catch (IOException e) {
-            LOGGER.warn("Parse calcChain failed, formula will be ignored");
+        // Parse calcChain.xml, only the formulas of current sheet are kept
+        // There has no random access in streaming mode, the calc chain is ignored
+        ZipEntry entry = zipFile != null ? getEntry(zipFile, "xl/calcChain.xml") : null;
+        if (entry != null) {
+            try (InputStream is = zipFile.getInputStream(entry)) {
+                calc = CalcChain.parse(is, id);
+            } catch (IOException e) {
+                LOGGER.warn("Parse calcChain failed, formula will be ignored");
+            }
+        }
+
+        // 合并单元格在工作表尾部，读取行数据之前先将工作表解压一次并暂存在内存中，之后的行数据从内存读取不再重复解压
+        boolean copy = ((option >> 17) & 1) == 1;
+        if (tail == null && spool == null && staged == null && zipFile != null && (sRow == null || sRow.rowNum < 0)) {
+            try {
+                stage(true); // 重新加载时会再次进入此方法
+            } catch (IOException e) {
+                throw new ExcelReadException("Stage worksheet[" + getName() + "] error occur.", e);
+            }
+            return;
         }
-        if (calcArray != null && calcArray.length >= id) this.calc = calcArray[id - 1];
 
         if (!(sRow instanceof XMLFullRow)) sRow = sRow.asFullRow();
         if (calc != null) ((XMLFullRow) sRow).setCalcFun(this::findCalc);
 
-        // 默认不复制合并单元格的值
-        Grid grid = getMergeGrid();
+        // 默认不复制合并单元格的值，流式读取时无法在行数据之前读取合并单元格
+        Grid grid = copy || isTailReadable() ? getMergeGrid() : null;
         final boolean gridNotNull = grid != null;
-        ((XMLFullRow) sRow).setCopyValueFunc(gridNotNull ? grid : new Grid.FastGrid(Dimension.of("A1")), gridNotNull && ((option >> 17) & 1) == 1 ? mergeGrid::merge : (row, cells) -> { });
+        ((XMLFullRow) sRow).setCopyValueFunc(gridNotNull ? grid : new Grid.FastGrid(Dimension.of("A1")), gridNotNull && copy ? mergeGrid::merge : (row, cells) -> { });
 
         ready = true;
 
-        // 再次解析头部（需要解析完整的头部覆写subElement方法
-        if (cols == null && defaultRowHeight < 0D && defaultColWidth < 0D && panes == null && showGridLines == 1) {
+        // 再次解析头部（需要解析完整的头部覆写subElement方法，流式读取时无法再次解析
+        if (cols == null && defaultRowHeight < 0D && defaultColWidth < 0D && panes == null && showGridLines == 1 && (zipFile != null || spool != null)) {
             Marker marker = Marker.of(this);
             try {
                 super.load(); // 这里再次解析不会出现异常
@@ -1023,24 +1896,7 @@ class XMLFullSheet extends XMLSheet implements FullSheet {
 
     /* Found calc */
     void findCalc(int row, Cell[] cells, int n) {
-        long r = ((long) row) << 16;
-        int i = Arrays.binarySearch(calc, r);
-        if (i < 0) {
-            i = ~i;
-            if (i >= calc.length) return;
-        }
-        long a = calc[i];
-        if ((int) (a >> 16) != row) return;
-
-        cells[(((int) a) & 0x7FFF) - 1].f = true;
-        int j = 1;
-        if (n == -1) n = cells.length;
-        n = Math.min(n, calc.length - i);
-        for (; j < n; j++) {
-            if ((calc[i + j] >> 16) == row)
-                cells[(((int) calc[i + j]) & 0x7FFF) - 1].f = true;
-            else break;
-        }
+        if (calc != null) calc.mark(row, cells);
     }
 
     /*
@@ -1048,65 +1904,19 @@ class XMLFullSheet extends XMLSheet implements FullSheet {
     Parse `mergeCells`,`dataValidation`,`autoFilter` tag
      */
     void parseTails() {
-        long size = entry.getSize();
-        try (InputStream is = zipFile.getInputStream(entry)) {
-            int n, offset = 0, limit = 1 << 14, i = 0, len = 0, k;
-            byte[] buf = new byte[limit];
-            long readByte = 0;
-            // Skips specified number of bytes of uncompressed data.
-            if (lastRowMark > 0L) is.skip(lastRowMark);
-            while ((n = is.read(buf, offset, limit - offset)) > 0) {
-                readByte += n;
-                if ((len = n + offset) < 11) {
-                    offset = len;
-                    continue;
-                }
-                i = 0;
-                n = len - 12;
-                for (; i < n && (buf[i] != '<' || buf[i + 1] != '/' && buf[i + 1] != 's' || buf[i + 2] != 's' && buf[i + 2] != 'h' || buf[i + 3] != 'h' && buf[i + 3] != 'e' || buf[i + 4] != 'e' || buf[i + 5] != 'e' && buf[i + 5] != 't' || buf[i + 6] != 't' && buf[i + 6] != 'D'
-                    || buf[i + 7] != 'D' && buf[i + 7] != 'a' || buf[i + 8] != 'a' && buf[i + 8] != 't' || buf[i + 9] != 't' && buf[i + 9] != 'a' || buf[i + 10] != 'a' && buf[i + 10] != '/' || buf[i + 11] != '>'); i++)
-                    ;
-                // Compact
-                if (i >= n) {
-                    if (buf[i] == '<') {
-                        System.arraycopy(buf, i, buf, 0, offset = len - i);
-                    } else offset = 0;
-                    continue;
-                }
-                // Get it
-                if (len - i < 11) {
-                    System.arraycopy(buf, i, buf, 0, offset = len - i);
-                    if ((n = is.read(buf, offset, limit - offset)) <= 0) return;
-                    len = n + offset;
-                    if (len < 11) {
-                        while (((n = is.read(buf, offset, limit - offset)) > 0)) {
-                            if ((len = n + offset) < 11) offset = len;
-                            else break;
-                        }
-                    }
-                    i = 0;
-                }
-
-                if (len < 11) return;
-                else break;
+        if (!isTailReadable())
+            throw new ExcelReadException("The tail of worksheet [" + getName() + "] can only be read after the rows in streaming mode, spool it for random access");
+        try {
+            byte[] tail = readTail();
+            if (tail.length > 0) {
+                byte[] h = "<worksheet xmlns=\"http://schemas.openxmlformats.org/spreadsheetml/2006/main\" xmlns:r=\"http://schemas.openxmlformats.org/officeDocument/2006/relationships\" xmlns:mc=\"http://schemas.openxmlformats.org/markup-compatibility/2006\" xmlns:x14ac=\"http://schemas.microsoft.com/office/spreadsheetml/2009/9/ac\" xmlns:xr=\"http://schemas.microsoft.com/office/spreadsheetml/2014/revision\">".getBytes(StandardCharsets.UTF_8);
+                byte[] bytes = new byte[h.length + tail.length];
+                System.arraycopy(h, 0, bytes, 0, h.length);
+                System.arraycopy(tail, 0, bytes, h.length, tail.length);
+                Document doc = DocumentHelper.parseText(new String(bytes, StandardCharsets.UTF_8));
+                // 解析尾部元素
+                tailElements(doc.getRootElement());
             }
-
-            long remain = size - (readByte - len + i);
-            byte[] h = "<worksheet xmlns=\"http://schemas.openxmlformats.org/spreadsheetml/2006/main\" xmlns:r=\"http://schemas.openxmlformats.org/officeDocument/2006/relationships\" xmlns:mc=\"http://schemas.openxmlformats.org/markup-compatibility/2006\" xmlns:x14ac=\"http://schemas.microsoft.com/office/spreadsheetml/2009/9/ac\" xmlns:xr=\"http://schemas.microsoft.com/office/spreadsheetml/2014/revision\">".getBytes(StandardCharsets.UTF_8);
-            k = h.length;
-            byte[] bytes = new byte[(int) remain + k];
-            System.arraycopy(h, 0, bytes, 0, k);
-            i += 12;
-            do {
-                if (len > 0) {
-                    System.arraycopy(buf, i, bytes, k, len - i);
-                    k += len - i;
-                }
-                i = 0;
-            } while ((len = is.read(buf, 0, limit)) > 0);
-            Document doc = DocumentHelper.parseText(new String(bytes, 0, k, StandardCharsets.UTF_8));
-            // 解析尾部元素
-            tailElements(doc.getRootElement());
         } catch (Exception e) {
             // Ignore error
             LOGGER.warn("", e);
@@ -1114,62 +1924,17 @@ class XMLFullSheet extends XMLSheet implements FullSheet {
         tailPared = true;
     }
 
-    /* Parse `calcChain` */
-    static long[][] parseCalcChain(InputStream is) {
-        SAXReader reader = SAXReaderUtil.createDefault();
-        Element calcChain;
-        try {
-            calcChain = reader.read(is).getRootElement();
-        } catch (DocumentException e) {
-            LOGGER.warn("Part of `calcChain` has be damaged, It will be ignore all formulas.");
-            return null;
-        }
-
-        Iterator<Element> ite = calcChain.elementIterator();
-        int i = 1, n = 10;
-        long[][] array = new long[n][];
-        int[] indices = new int[n];
-        for (; ite.hasNext(); ) {
-            Element e = ite.next();
-            // i: index of sheets
-            // r: range
-            String si = e.attributeValue("i"), r = e.attributeValue("r");
-            if (isNotEmpty(si)) {
-                i = toInt(si.toCharArray(), 0, si.length());
-            }
-            if (isNotEmpty(r)) {
-                if (n < i) {
-                    int _n = n;
-                    n <<= 1;
-                    indices = Arrays.copyOf(indices, n);
-                    long[][] _array = new long[n][];
-                    for (int j = 0; j < _n; j++) _array[j] = array[j]; // Do not copy hear.
-                    array = _array;
-                }
-                long[] sub = array[i - 1];
-                if (sub == null) {
-                    sub = new long[10];
-                    array[i - 1] = sub;
-                }
-
-                if (++indices[i - 1] > sub.length) {
-                    long[] _sub = new long[sub.length << 1];
-                    System.arraycopy(sub, 0, _sub, 0, sub.length);
-                    array[i - 1] = sub = _sub;
-                }
-                sub[indices[i - 1] - 1] = ExcelReader.coordinateToLong(r);
-            }
-        }
-
-        i = 0;
-        for (; i < n; i++) {
-            if (indices[i] > 0) {
-                long[] a = Arrays.copyOf(array[i], indices[i]);
-                Arrays.sort(a);
-                array[i] = a;
-            } else array[i] = null;
-        }
-        return array;
+    /**
+     * Returns the tail bytes after {@code </sheetData>}. The tail is captured at the end of
+     * the main pass (or while spooling), the worksheet is staged to find the tail if it is
+     * asked before the rows are read, see {@link #stage(boolean)}
+     *
+     * @return the tail bytes, it is empty if not found
+     * @throws IOException if I/O error occur
+     */
+    byte[] readTail() throws IOException {
+        if (tail == null) stage(false);
+        return tail;
     }
 
     @Override
@@ -1177,7 +1942,7 @@ class XMLFullSheet extends XMLSheet implements FullSheet {
         if (mergeGrid != null) return mergeGrid;
         List<Dimension> dims = getMergeCells();
         if (dims != null) {
-            mergeGrid = GridFactory.create(dims);
+            mergeGrid = GridFactory.create(dims, gridLimit);
             LOGGER.debug("Grid: {} ===> Size: {}", mergeGrid.getClass().getSimpleName(), mergeGrid.size());
         }
         return mergeGrid;
@@ -1191,7 +1956,7 @@ class XMLFullSheet extends XMLSheet implements FullSheet {
 
     @Override
     protected void subElement(char[] cb, int offset, int n) {
-        String v = new String(cb, offset, n);
+        String v = byteMode ? SharedStrings.decodeUtf8(cb, offset, offset + n) : new String(cb, offset, n);
         // 去掉不必要的命名空间
         v = v.replace("x14ac:", "").replace("r:", "").replace("mc:", "");
         Element e;
@@ -1240,7 +2005,7 @@ class XMLFullSheet extends XMLSheet implements FullSheet {
             System.arraycopy(cb, offset, ncb, 0, n);
             ncb[n - 1] = '/'; ncb[n] = '>';
             try {
-                e = DocumentHelper.parseText(new String(ncb, 0, n + 1)).getRootElement();
+                e = DocumentHelper.parseText(byteMode ? SharedStrings.decodeUtf8(ncb, 0, n + 1) : new String(ncb, 0, n + 1)).getRootElement();
                 String showGridLines = e.attributeValue("showGridLines"), zoomScale = e.attributeValue("zoomScale");
                 if ("0".equals(showGridLines)) this.showGridLines = 0;
                 if (StringUtil.isNotEmpty(zoomScale)) {
@@ -1288,6 +2053,18 @@ class XMLFullSheet extends XMLSheet implements FullSheet {
         if (legacyDrawingEl != null) legacyDrawing = legacyDrawingEl.attributeValue("id");
     }
 
+    /**
+     * The merged values and shared formulas depend on the previous rows,
+     * so the full sheet is always parsed in current thread
+     *
+     * @param ordered ignored, always in row order
+     * @return a non-blank row stream
+     */
+    @Override
+    public Stream<Row> parallelDataRows(boolean ordered) {
+        return dataRows();
+    }
+
     @Override
     public FullSheet copyOnMerged() {
         if (sRow != null && getMergeGrid() != null) ((XMLFullRow) sRow).setCopyValueFunc(getMergeGrid(), mergeGrid::merge);
@@ -1335,27 +2112,47 @@ class XMLFullSheet extends XMLSheet implements FullSheet {
     @Override
     public Map<Long, Comment> getComments() {
         if (comments == null) {
-            RelManager relManager = getRelManager();
-            Relationship commentsRel = relManager != null ? relManager.getByType(Const.Relationship.COMMENTS) : null;
-            if (commentsRel != null) {
-                if (mergeCells == null) getMergeCells();
-                Relationship vmlRel = StringUtil.isNotEmpty(legacyDrawing) ? relManager.getById(legacyDrawing) : null;
-                if (vmlRel != null) {
-                    ZipEntry commentEntry = getEntry(zipFile, "xl/" + toZipPath(commentsRel.getTarget())), vmlEntry = getEntry(zipFile, "xl/" + toZipPath(vmlRel.getTarget()));
-                    if (commentEntry != null) {
-                        try {
-                            comments = Comments.parseComments(zipFile.getInputStream(commentEntry), vmlEntry != null ? zipFile.getInputStream(vmlEntry): null);
-                        } catch (IOException ex) {
-                            throw new ExcelReadException(ex);
-                        }
-                    }
-                }
-            }
-            if (comments == null) comments = Collections.emptyMap();
+            CommentsReader reader = commentsReader();
+            comments = reader != null ? reader.toMap() : Collections.emptyMap();
         }
         return comments;
     }
 
+    @Override
+    public Map<Long, Comment> getComments(Dimension range) {
+        if (comments != null) return FullSheet.super.getComments(range);
+        CommentsReader reader = commentsReader();
+        return reader != null ? reader.range(range).toMap() : Collections.emptyMap();
+    }
+
+    @Override
+    public Iterator<Map.Entry<Long, Comment>> commentIterator() {
+        if (comments != null) return comments.entrySet().iterator();
+        CommentsReader reader = commentsReader();
+        return reader != null ? reader : Collections.emptyIterator();
+    }
+
+    /**
+     * Open a streaming reader of the comments part
+     *
+     * @return null if the sheet has no comments
+     */
+    CommentsReader commentsReader() {
+        RelManager relManager = getRelManager();
+        Relationship commentsRel = relManager != null ? relManager.getByType(Const.Relationship.COMMENTS) : null;
+        if (commentsRel == null) return null;
+        if (mergeCells == null) getMergeCells();
+        Relationship vmlRel = StringUtil.isNotEmpty(legacyDrawing) ? relManager.getById(legacyDrawing) : null;
+        if (vmlRel == null || zipFile == null) return null;
+        ZipEntry commentEntry = getEntry(zipFile, "xl/" + toZipPath(commentsRel.getTarget())), vmlEntry = getEntry(zipFile, "xl/" + toZipPath(vmlRel.getTarget()));
+        if (commentEntry == null) return null;
+        try {
+            return new CommentsReader(zipFile.getInputStream(commentEntry), vmlEntry != null ? zipFile.getInputStream(vmlEntry): null);
+        } catch (IOException ex) {
+            throw new ExcelReadException(ex);
+        }
+    }
+
     @Override
     public List<Validation> getValidations() {
         if (!tailPared) parseTails();
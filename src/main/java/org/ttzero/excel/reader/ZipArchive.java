@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2017-2026, guanquan.wang@hotmail.com All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ttzero.excel.reader;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Enumeration;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+/**
+ * A random-access, read-only zip archive, the reader locates the parts of
+ * excel through this interface, so the source can be a {@link ZipFile} or
+ * a {@link ZipBuffer} which reads the archive from memory directly.
+ *
+ * @author guanquan.wang at 2026-10-17 21:30
+ */
+public interface ZipArchive extends Closeable {
+
+    /**
+     * Returns the zip entry for the specified name, or null if not found.
+     *
+     * @param name the name of the entry
+     * @return the zip entry, or null if not found
+     */
+    ZipEntry getEntry(String name);
+
+    /**
+     * Returns an enumeration of the zip entries.
+     *
+     * @return an enumeration of the zip entries
+     */
+    Enumeration<? extends ZipEntry> entries();
+
+    /**
+     * Returns an input stream for reading the contents of the specified zip entry.
+     *
+     * @param entry the zip entry
+     * @return the input stream for reading the contents of the specified zip entry
+     * @throws IOException if I/O error occur
+     */
+    InputStream getInputStream(ZipEntry entry) throws IOException;
+
+    /**
+     * Returns the number of entries in the archive.
+     *
+     * @return the number of entries
+     */
+    int size();
+
+    /**
+     * Returns the wrapped {@link ZipFile}, it is used to call the legacy methods
+     * which accept a {@code ZipFile}
+     *
+     * @return the zip file, or null if the archive is not backed by a {@code ZipFile}
+     */
+    default ZipFile getZipFile() {
+        return null;
+    }
+
+    /**
+     * Wrap a {@link ZipFile} as {@code ZipArchive}
+     *
+     * @param zipFile the zip file
+     * @return the archive, the zip file is closed when the archive closed
+     */
+    static ZipArchive of(ZipFile zipFile) {
+        return new ZipArchive() {
+            @Override
+            public ZipEntry getEntry(String name) {
+                return zipFile.getEntry(name);
+            }
+
+            @Override
+            public Enumeration<? extends ZipEntry> entries() {
+                return zipFile.entries();
+            }
+
+            @Override
+            public InputStream getInputStream(ZipEntry entry) throws IOException {
+                return zipFile.getInputStream(entry);
+            }
+
+            @Override
+            public int size() {
+                return zipFile.size();
+            }
+
+            @Override
+            public ZipFile getZipFile() {
+                return zipFile;
+            }
+
+            @Override
+            public void close() throws IOException {
+                zipFile.close();
+            }
+
+            @Override
+            public String toString() {
+                return zipFile.getName();
+            }
+        };
+    }
+}
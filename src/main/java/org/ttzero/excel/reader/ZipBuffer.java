@@ -0,0 +1,355 @@
+/*
+ * Copyright (c) 2017-2026, guanquan.wang@hotmail.com All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ttzero.excel.reader;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipException;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * A read-only zip archive over a {@link ByteBuffer}, it parses the central directory
+ * once and inflates the entries from slices of the buffer, no temp file and no
+ * {@link java.util.zip.ZipFile} are required.
+ * <p>
+ * The stored entries are read from the buffer without copying, and the deflated
+ * entries of a heap buffer are inflated from the backing array directly. Each
+ * {@link #getInputStream(ZipEntry)} works on its own view of the buffer, so the
+ * entries can be read by multiple threads at the same time.
+ *
+ * @author guanquan.wang at 2026-10-17 21:30
+ */
+public class ZipBuffer implements ZipArchive {
+    /**
+     * Signatures
+     */
+    static final int LOCSIG = 0x04034b50, CENSIG = 0x02014b50, ENDSIG = 0x06054b50
+        , ZIP64_ENDSIG = 0x06064b50, ZIP64_LOCSIG = 0x07064b50;
+    /**
+     * Header size
+     */
+    static final int LOCHDR = 30, CENHDR = 46, ENDHDR = 22, ZIP64_LOCHDR = 20;
+    /**
+     * The input size of inflater if the buffer has no accessible array (direct or mapped buffer)
+     */
+    static final int INPUT_SIZE = 1 << 15;
+
+    /**
+     * The little-endian view of source
+     */
+    private final ByteBuffer buffer;
+    /**
+     * The entries in central directory order and the name index
+     */
+    private final List<Entry> entries;
+    private final Map<String, Entry> index;
+
+    /**
+     * Create a zip archive over the remaining bytes of buffer, the position
+     * and limit of the buffer are not changed.
+     *
+     * @param buffer the zip data
+     * @throws ZipException if the buffer is not a valid zip archive
+     */
+    public ZipBuffer(ByteBuffer buffer) throws ZipException {
+        this.buffer = buffer.slice().order(ByteOrder.LITTLE_ENDIAN);
+        int n = this.buffer.limit(), end = findEnd();
+        long total = getShort(end + 10), size = getUInt(end + 12), offset = getUInt(end + 16);
+        // Zip64 end of central directory
+        if ((total == 0xFFFF || size == 0xFFFFFFFFL || offset == 0xFFFFFFFFL) && end >= ZIP64_LOCHDR
+            && this.buffer.getInt(end - ZIP64_LOCHDR) == ZIP64_LOCSIG) {
+            int p = checkOffset(this.buffer.getLong(end - ZIP64_LOCHDR + 8), 56);
+            if (this.buffer.getInt(p) != ZIP64_ENDSIG) throw new ZipException("Invalid zip64 END header");
+            total = this.buffer.getLong(p + 32);
+            size = this.buffer.getLong(p + 40);
+            offset = this.buffer.getLong(p + 48);
+        }
+        if (offset + size > n) throw new ZipException("Invalid END header (bad central directory offset)");
+
+        entries = new ArrayList<>((int) Math.min(total, 1 << 16));
+        index = new HashMap<>();
+        for (int p = (int) offset, limit = (int) (offset + size); p < limit; ) {
+            if (p + CENHDR > limit || this.buffer.getInt(p) != CENSIG)
+                throw new ZipException("Invalid CEN header (bad signature)");
+            int nameLen = getShort(p + 28), extraLen = getShort(p + 30), commentLen = getShort(p + 32);
+            if (p + CENHDR + nameLen + extraLen + commentLen > limit)
+                throw new ZipException("Invalid CEN header (bad header size)");
+            Entry e = new Entry(string(p + CENHDR, nameLen));
+            e.setMethod(getShort(p + 10));
+            e.setCrc(getUInt(p + 16));
+            long csize = getUInt(p + 20), usize = getUInt(p + 24), pos = getUInt(p + 42);
+            // Zip64 extended information
+            for (int x = p + CENHDR + nameLen, xl = x + extraLen; x + 4 <= xl; ) {
+                int tag = getShort(x), len = getShort(x + 2), v = x + 4;
+                if (tag == 0x0001) {
+                    if (usize == 0xFFFFFFFFL && v + 8 <= x + 4 + len) { usize = this.buffer.getLong(v); v += 8; }
+                    if (csize == 0xFFFFFFFFL && v + 8 <= x + 4 + len) { csize = this.buffer.getLong(v); v += 8; }
+                    if (pos == 0xFFFFFFFFL && v + 8 <= x + 4 + len) pos = this.buffer.getLong(v);
+                    break;
+                }
+                x += 4 + len;
+            }
+            e.setSize(usize);
+            e.setCompressedSize(csize);
+            e.header = checkOffset(pos, LOCHDR);
+            entries.add(e);
+            // Keep the first one if the name is duplicated, the same as ZipFile
+            index.putIfAbsent(e.getName(), e);
+            p += CENHDR + nameLen + extraLen + commentLen;
+        }
+    }
+
+    /**
+     * Create a zip archive over a byte array
+     *
+     * @param bytes the zip data
+     * @throws ZipException if the bytes is not a valid zip archive
+     */
+    public ZipBuffer(byte[] bytes) throws ZipException {
+        this(ByteBuffer.wrap(bytes));
+    }
+
+    /**
+     * Map a zip file into memory and parse its central directory, the entries are
+     * inflated from the mapped memory directly. The mapping remains valid after the
+     * file channel is closed and it is released by GC.
+     *
+     * @param path the zip file
+     * @return the zip archive
+     * @throws IOException if I/O error occur or the file is larger than 2G
+     */
+    public static ZipBuffer map(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) throw new ZipException("The file is too large to be mapped. [" + path + "]");
+            return new ZipBuffer(channel.map(FileChannel.MapMode.READ_ONLY, 0L, size));
+        }
+    }
+
+    @Override
+    public ZipEntry getEntry(String name) {
+        return index.get(name);
+    }
+
+    @Override
+    public Enumeration<? extends ZipEntry> entries() {
+        return Collections.enumeration(entries);
+    }
+
+    @Override
+    public int size() {
+        return entries.size();
+    }
+
+    @Override
+    public InputStream getInputStream(ZipEntry entry) throws IOException {
+        Entry e = entry instanceof Entry ? (Entry) entry : index.get(entry.getName());
+        if (e == null) return null;
+        int start = e.data;
+        if (start < 0) {
+            if (buffer.getInt(e.header) != LOCSIG) throw new ZipException("Invalid LOC header (bad signature)");
+            e.data = start = e.header + LOCHDR + getShort(e.header + 26) + getShort(e.header + 28);
+        }
+        long end = start + e.getCompressedSize();
+        if (end > buffer.limit()) throw new ZipException("Invalid LOC header (bad compressed size)");
+        ByteBuffer data = buffer.duplicate();
+        data.limit((int) end).position(start);
+        data = data.slice();
+        switch (e.getMethod()) {
+            case ZipEntry.STORED:   return new BufferInputStream(data);
+            case ZipEntry.DEFLATED: return new InflaterStream(data, e.getSize());
+            default: throw new ZipException("Invalid compression method " + e.getMethod() + " of entry " + e.getName());
+        }
+    }
+
+    /**
+     * The source buffer is released by GC, nothing to do.
+     */
+    @Override
+    public void close() { }
+
+    // Returns the position of END header
+    private int findEnd() throws ZipException {
+        int n = buffer.limit();
+        for (int p = n - ENDHDR, min = Math.max(0, p - 0xFFFF); p >= min; p--) {
+            // The comment must end at the end of archive
+            if (buffer.getInt(p) == ENDSIG && p + ENDHDR + getShort(p + 20) <= n) return p;
+        }
+        throw new ZipException("Not a zip archive (END header not found)");
+    }
+
+    private int checkOffset(long offset, int headerSize) throws ZipException {
+        if (offset < 0L || offset + headerSize > buffer.limit()) throw new ZipException("Invalid header offset " + offset);
+        return (int) offset;
+    }
+
+    private int getShort(int p) {
+        return buffer.getShort(p) & 0xFFFF;
+    }
+
+    private long getUInt(int p) {
+        return buffer.getInt(p) & 0xFFFFFFFFL;
+    }
+
+    private String string(int p, int n) {
+        if (buffer.hasArray()) return new String(buffer.array(), buffer.arrayOffset() + p, n, UTF_8);
+        byte[] bytes = new byte[n];
+        for (int i = 0; i < n; i++) bytes[i] = buffer.get(p + i);
+        return new String(bytes, UTF_8);
+    }
+
+    @Override
+    public String toString() {
+        return "ZipBuffer: " + entries.size() + " entries, " + buffer.limit() + " bytes";
+    }
+
+    /**
+     * Zip entry with the offset of local header
+     */
+    static class Entry extends ZipEntry {
+        int header, data = -1;
+
+        Entry(String name) {
+            super(name);
+        }
+    }
+
+    /**
+     * Read the remaining bytes of a buffer
+     */
+    static class BufferInputStream extends InputStream {
+        private final ByteBuffer buffer;
+
+        BufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            if (len == 0) return 0;
+            if (!buffer.hasRemaining()) return -1;
+            int n = Math.min(len, buffer.remaining());
+            buffer.get(b, off, n);
+            return n;
+        }
+
+        @Override
+        public long skip(long n) {
+            int k = (int) Math.max(0L, Math.min(n, buffer.remaining()));
+            buffer.position(buffer.position() + k);
+            return k;
+        }
+
+        @Override
+        public int available() {
+            return buffer.remaining();
+        }
+    }
+
+    /**
+     * Inflate the deflated data of a buffer
+     */
+    static class InflaterStream extends InputStream {
+        private static final byte[] DUMMY = new byte[1];
+        private final ByteBuffer buffer;
+        private final Inflater inf = new Inflater(true);
+        private final long size;
+        private byte[] input;
+        private boolean dummy, closed;
+        private final byte[] single = new byte[1];
+
+        InflaterStream(ByteBuffer buffer, long size) {
+            this.buffer = buffer;
+            this.size = size;
+            // Inflate from the backing array directly
+            if (buffer.hasArray()) {
+                inf.setInput(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+                buffer.position(buffer.limit());
+            }
+        }
+
+        @Override
+        public int read() throws IOException {
+            return read(single, 0, 1) == 1 ? single[0] & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (closed) throw new IOException("Stream closed");
+            if (len == 0) return 0;
+            try {
+                for (int n; ; ) {
+                    if ((n = inf.inflate(b, off, len)) > 0) return n;
+                    if (inf.finished() || inf.needsDictionary()) return -1;
+                    if (inf.needsInput()) fill();
+                }
+            } catch (DataFormatException e) {
+                String s = e.getMessage();
+                throw new ZipException(s != null ? s : "Invalid ZLIB data format");
+            }
+        }
+
+        private void fill() throws EOFException {
+            if (buffer.hasRemaining()) {
+                if (input == null) input = new byte[Math.min(INPUT_SIZE, buffer.remaining())];
+                int n = Math.min(input.length, buffer.remaining());
+                buffer.get(input, 0, n);
+                inf.setInput(input, 0, n);
+            } else if (!dummy) {
+                // The nowrap inflater may need an extra dummy byte
+                dummy = true;
+                inf.setInput(DUMMY, 0, 1);
+            } else throw new EOFException("Unexpected end of ZLIB input stream");
+        }
+
+        @Override
+        public int available() {
+            if (closed || inf.finished()) return 0;
+            long n = size - inf.getBytesWritten();
+            return n > 0L ? (int) Math.min(n, Integer.MAX_VALUE) : 1;
+        }
+
+        @Override
+        public void close() {
+            if (!closed) {
+                closed = true;
+                inf.end();
+            }
+        }
+    }
+}
@@ -21,11 +21,15 @@ import org.junit.Test;
 import org.ttzero.excel.annotation.HeaderComment;
 import org.ttzero.excel.annotation.ExcelColumn;
 import org.ttzero.excel.entity.style.Font;
+import org.ttzero.excel.reader.Dimension;
 import org.ttzero.excel.reader.ExcelReader;
+import org.ttzero.excel.reader.FullSheet;
 
 import java.awt.Color;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -137,6 +141,54 @@ public class CommentTest extends WorkbookTest {
         }
     }
 
+    @Test public void testStreamingComments() throws IOException {
+        final String fileName = "streaming comments test.xlsx";
+        // At least 5 rows for the range query
+        List<Student> expectList = Student.randomTestData(random.nextInt(95) + 5);
+        ListSheet<Student> sheet = new ListSheet<>(expectList);
+        Comments comments = sheet.createComments();
+        for (int r = 2; r <= expectList.size() + 1; r++) {
+            comments.addComment(r, 1, "id" + r);
+            comments.addComment(r, 3, new Comment("score", "row" + r));
+        }
+        new Workbook().addSheet(sheet).writeTo(defaultTestPath.resolve(fileName));
+
+        try (ExcelReader reader = ExcelReader.read(defaultTestPath.resolve(fileName))) {
+            FullSheet fullSheet = reader.sheet(0).asFullSheet();
+            // Iterate without caching
+            Map<Long, Comment> iterated = new HashMap<>();
+            for (Iterator<Map.Entry<Long, Comment>> iter = fullSheet.commentIterator(); iter.hasNext(); ) {
+                Map.Entry<Long, Comment> e = iter.next();
+                assertNotNull(e.getValue().style);
+                iterated.put(e.getKey(), e.getValue());
+            }
+            // The header comments are included
+            assertEquals(expectList.size() * 2 + 3, iterated.size());
+            assertEquals("row5", iterated.get(5L << 16 | 3).value);
+
+            // Range query
+            Map<Long, Comment> ranged = fullSheet.getComments(Dimension.of("C3:C6"));
+            assertEquals(4, ranged.size());
+            for (int r = 3; r <= 6; r++) {
+                Comment c = ranged.get(((long) r) << 16 | 3);
+                assertNotNull(c);
+                assertEquals("score", c.title);
+                assertEquals("row" + r, c.value);
+                assertEquals(iterated.get(((long) r) << 16 | 3).style, c.style);
+            }
+
+            Map<Long, Comment> commentMap = fullSheet.getComments();
+            assertEquals(iterated.size(), commentMap.size());
+            for (Map.Entry<Long, Comment> e : iterated.entrySet()) {
+                Comment c = commentMap.get(e.getKey());
+                assertNotNull(c);
+                assertEquals(e.getValue().value, c.value);
+                assertEquals(e.getValue().style, c.style);
+            }
+            assertEquals(ranged.keySet(), fullSheet.getComments(Dimension.of("C3:C6")).keySet());
+        }
+    }
+
     /**
      * Annotation Object
      */
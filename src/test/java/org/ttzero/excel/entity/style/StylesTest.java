@@ -19,13 +19,24 @@ package org.ttzero.excel.entity.style;
 import org.junit.Before;
 import org.junit.Test;
 
+import org.dom4j.DocumentException;
+import org.dom4j.Element;
+import org.ttzero.excel.util.SAXReaderUtil;
+
 import java.awt.Color;
+import java.io.ByteArrayInputStream;
+import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 import static org.ttzero.excel.entity.WorkbookTest.getOutputTestPath;
 import static org.ttzero.excel.entity.style.Styles.INDEX_BORDER;
@@ -36,6 +47,7 @@ import static org.ttzero.excel.entity.style.Styles.INDEX_NUMBER_FORMAT;
 import static org.ttzero.excel.entity.style.Styles.INDEX_VERTICAL;
 import static org.ttzero.excel.entity.style.Styles.INDEX_WRAP_TEXT;
 import static org.ttzero.excel.entity.style.Styles.testCodeIsDate;
+import static org.ttzero.excel.reader.ExcelReaderTest.testResourceRoot;
 
 /**
  * @author guanquan.wang at 2019-06-06 16:00
@@ -243,4 +255,65 @@ public class StylesTest {
         awtFont2 = font.toAwtFont();
         assertEquals(awtFont, awtFont2);
     }
+
+    @Test public void testLoadLazy() throws IOException, DocumentException {
+        File[] files = testResourceRoot().toFile().listFiles((dir, name) -> name.endsWith(".xlsx"));
+        assertNotNull(files);
+        for (File file : files) {
+            try (ZipFile zipFile = new ZipFile(file)) {
+                ZipEntry entry = zipFile.getEntry("xl/styles.xml");
+                if (entry == null) continue;
+                Styles styles;
+                try (InputStream is = zipFile.getInputStream(entry)) {
+                    styles = Styles.load(is);
+                }
+                // Nothing is decoded before inspected
+                StylesScanner.LazyList<?> lazyFonts = (StylesScanner.LazyList<?>) field(styles, "fonts");
+                assertEquals(0, lazyFonts.decoded());
+
+                Element root;
+                try (InputStream is = zipFile.getInputStream(entry)) {
+                    root = SAXReaderUtil.createDefault().read(is).getRootElement();
+                }
+                Element colors = root.element("colors");
+                if (colors != null) colors = colors.element("indexedColors");
+                Color[] indexedColors = null;
+                if (colors != null && colors.nodeCount() > 0) {
+                    List<Element> sub = colors.elements();
+                    indexedColors = new Color[sub.size()];
+                    for (int i = 0; i < sub.size(); i++) indexedColors[i] = Styles.parseColor(sub.get(i));
+                }
+                List<Font> fonts = indexedColors != null ? Font.domToFont(root, indexedColors) : Font.domToFont(root);
+                List<Fill> fills = indexedColors != null ? Fill.domToFill(root, indexedColors) : Fill.domToFill(root);
+                List<Border> borders = indexedColors != null ? Border.domToBorder(root, indexedColors) : Border.domToBorder(root);
+                assertEquals(file.getName(), fonts.size(), lazyFonts.size());
+                for (int i = 0; i < fonts.size(); i++) {
+                    assertEquals(file.getName(), fonts.get(i), styles.getFont(i << INDEX_FONT));
+                    assertEquals(file.getName(), fonts.get(i).getColor(), styles.getFont(i << INDEX_FONT).getColor());
+                }
+                assertEquals(fonts.size(), lazyFonts.decoded());
+                assertEquals(file.getName(), fills, field(styles, "fills"));
+                assertEquals(file.getName(), borders, field(styles, "borders"));
+                assertEquals(file.getName(), NumFmt.domToNumFmt(root), field(styles, "numFmts"));
+                int n = root.element("cellXfs").elements().size();
+                assertTrue(n == 0 || styles.getStyleByIndex(n - 1) >= 0);
+                assertEquals(-1, styles.getStyleByIndex(n));
+            }
+        }
+    }
+
+    @Test public void testLoadMalformed() {
+        Styles styles = Styles.load(new ByteArrayInputStream("<styleSheet><fonts><font>".getBytes()));
+        assertEquals("Arial", styles.getFont(0).getName());
+    }
+
+    private static Object field(Styles styles, String name) {
+        try {
+            java.lang.reflect.Field field = Styles.class.getDeclaredField(name);
+            field.setAccessible(true);
+            return field.get(styles);
+        } catch (NoSuchFieldException | IllegalAccessException e) {
+            throw new RuntimeException(e);
+        }
+    }
 }
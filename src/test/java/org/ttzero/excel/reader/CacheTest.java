@@ -18,9 +18,14 @@ package org.ttzero.excel.reader;
 
 import org.junit.Test;
 
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
 
 /**
  * @author guanquan.wang at 2019-05-07 15:17
@@ -57,6 +62,22 @@ public class CacheTest {
         assertEquals("c:3=>e:5=>d:4=>a:8=>b:2", hot.toString());
     }
 
+    @Test public void testPeek() {
+        Cache<Integer, String> hot = FixSizeLRUCache.create();
+        hot.put(1, "a");
+        hot.put(2, "b");
+        hot.put(3, "c");
+        assertEquals("a", hot.peek(1));
+        assertNull(hot.peek(4));
+        // Peek does not promote the key
+        assertEquals("3:c=>2:b=>1:a", hot.toString());
+
+        Cache<Integer, String> clock = new IntClockCache<>(4);
+        clock.put(1, "a");
+        assertEquals("a", clock.peek(1));
+        assertNull(clock.peek(2));
+    }
+
     @Test public void testIterator() {
         Cache<String, Integer> hot = FixSizeLRUCache.create();
         hot.put("a", 1);
@@ -164,4 +185,70 @@ public class CacheTest {
         assertEquals(cache.size(), 2);
         assertEquals((int) cache.get("a"), 5);
     }
+
+    @Test public void testClockPutAndGet() {
+        IntClockCache<String> hot = new IntClockCache<>(4);
+        hot.put(1, "a");
+        hot.put(2, "b");
+        hot.put(3, "c");
+        hot.put(4, "d");
+        assertEquals(4, hot.size());
+        assertEquals("a", hot.get(1));
+        assertEquals("c", hot.get(3));
+        assertNull(hot.get(5));
+        assertEquals(2L, hot.getHits());
+        assertEquals(1L, hot.getMisses());
+
+        // The unreferenced entries are evicted first
+        hot.put(5, "e");
+        hot.put(6, "f");
+        assertEquals(4, hot.size());
+        assertNull(hot.peek(2));
+        assertNull(hot.peek(4));
+        assertEquals("a", hot.get(1));
+        assertEquals("c", hot.get(3));
+        assertEquals("e", hot.get(5));
+        assertEquals("f", hot.get(6));
+
+        // Replace
+        hot.put(Integer.valueOf(6), "F");
+        assertEquals("F", hot.get(Integer.valueOf(6)));
+        assertEquals(4, hot.size());
+    }
+
+    @Test public void testClockRemove() {
+        IntClockCache<String> hot = new IntClockCache<>(8);
+        for (int i = 0; i < 8; i++) hot.put(i, String.valueOf(i));
+        assertEquals("3", hot.remove(3));
+        assertNull(hot.remove(3));
+        assertEquals(7, hot.size());
+        for (int i = 0; i < 8; i++) assertEquals(i != 3 ? String.valueOf(i) : null, hot.peek(i));
+        int n = 0;
+        for (Cache.Entry<Integer, String> e : hot) {
+            assertEquals(String.valueOf(e.getKey()), e.getValue());
+            n++;
+        }
+        assertEquals(7, n);
+        hot.clear();
+        assertEquals(0, hot.size());
+        assertNull(hot.get(0));
+    }
+
+    @Test public void testClockRandom() {
+        IntClockCache<String> hot = new IntClockCache<>(100);
+        Map<Integer, String> expect = new HashMap<>();
+        Random random = new Random(7);
+        for (int i = 0; i < 100000; i++) {
+            int k = random.nextInt(300) * 1024;
+            switch (random.nextInt(3)) {
+                case 0: hot.put(k, String.valueOf(k)); break;
+                case 1: hot.remove(k); break;
+                default: String v = hot.get(k); if (v != null) assertEquals(String.valueOf(k), v);
+            }
+            assertTrue(hot.size() <= 100);
+        }
+        for (Cache.Entry<Integer, String> e : hot) expect.put(e.getKey(), e.getValue());
+        assertEquals(hot.size(), expect.size());
+        for (Map.Entry<Integer, String> e : expect.entrySet()) assertEquals(e.getValue(), hot.peek(e.getKey()));
+    }
 }
@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2017-2026, guanquan.wang@hotmail.com All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ttzero.excel.reader;
+
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.ttzero.excel.entity.Sheet.toCoordinate;
+
+/**
+ * @author guanquan.wang at 2026-10-17 23:55
+ */
+public class CalcChainTest {
+    @Test public void testParse() throws IOException {
+        String xml = "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>\n" +
+            "<calcChain xmlns=\"http://schemas.openxmlformats.org/spreadsheetml/2006/main\">" +
+            "<c r=\"C2\" i=\"1\"/><c r=\"B2\"/><c r=\"A5\" l=\"1\"/>" +
+            "<c r=\"D3\" i=\"2\" s=\"1\"/><c  r = 'E3' />" +
+            "<c r=\"B2\" i=\"1\"></c></calcChain>";
+        CalcChain sheet1 = CalcChain.parse(new ByteArrayInputStream(xml.getBytes(UTF_8)), 1);
+        assertEquals(3, sheet1.size());
+        assertTrue(sheet1.contains(2, 2));
+        assertTrue(sheet1.contains(2, 3));
+        assertTrue(sheet1.contains(5, 1));
+        assertFalse(sheet1.contains(3, 4));
+        assertFalse(sheet1.contains(1, 1));
+        assertFalse(sheet1.contains(6, 1));
+
+        CalcChain sheet2 = CalcChain.parse(new ByteArrayInputStream(xml.getBytes(UTF_8)), 2);
+        assertEquals(2, sheet2.size());
+        assertTrue(sheet2.contains(3, 4));
+        assertTrue(sheet2.contains(3, 5));
+
+        assertNull(CalcChain.parse(new ByteArrayInputStream(xml.getBytes(UTF_8)), 3));
+
+        Cell[] cells = new Cell[4];
+        for (int i = 0; i < cells.length; i++) cells[i] = new Cell((short) (i + 1));
+        sheet2.mark(3, cells);
+        assertFalse(cells[0].f);
+        assertTrue(cells[3].f);
+    }
+
+    @Test public void testLargeChain() throws IOException {
+        Random random = new Random(17);
+        Set<Long> expect = new HashSet<>();
+        StringBuilder buf = new StringBuilder("<calcChain>");
+        for (int i = 0, sheet = 0; i < 50000; i++) {
+            int row = random.nextInt(100000) + 1, col = random.nextInt(200) + 1, s = random.nextInt(3) + 1;
+            buf.append("<c r=\"").append(toCoordinate(row, col)).append('"');
+            if (s != sheet) buf.append(" i=\"").append(sheet = s).append('"');
+            buf.append("/>");
+            if (s == 2) expect.add(((long) row) << 16 | col);
+        }
+        buf.append("</calcChain>");
+        byte[] bytes = buf.toString().getBytes(UTF_8);
+
+        // Read a few bytes each time to cross the buffer boundary
+        InputStream is = new FilterInputStream(new ByteArrayInputStream(bytes)) {
+            @Override
+            public int read(byte[] b, int off, int len) throws IOException {
+                return super.read(b, off, Math.min(len, 1021));
+            }
+        };
+        CalcChain calc = CalcChain.parse(is, 2);
+        assertEquals(expect.size(), calc.size());
+        for (long k : expect) assertTrue(calc.contains((int) (k >>> 16), (int) (k & 0x7FFF)));
+        for (int i = 0; i < 10000; i++) {
+            int row = random.nextInt(100000) + 1, col = random.nextInt(200) + 1;
+            assertEquals(expect.contains(((long) row) << 16 | col), calc.contains(row, col));
+        }
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2017-2026, guanquan.wang@hotmail.com All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ttzero.excel.reader;
+
+import org.junit.Test;
+import org.ttzero.excel.entity.ListMapSheet;
+import org.ttzero.excel.entity.Workbook;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.ttzero.excel.entity.WorkbookTest.defaultTestPath;
+import static org.ttzero.excel.reader.ColumnBatch.ColumnVector.BOOLEAN;
+import static org.ttzero.excel.reader.ColumnBatch.ColumnVector.DOUBLE;
+import static org.ttzero.excel.reader.ColumnBatch.ColumnVector.INT;
+import static org.ttzero.excel.reader.ColumnBatch.ColumnVector.STRING;
+import static org.ttzero.excel.reader.ExcelReaderTest.testResourceRoot;
+
+/**
+ * @author guanquan.wang at 2026-10-17 11:05
+ */
+public class ColumnBatchTest {
+
+    @Test public void testTypes() throws IOException {
+        final String fileName = "Column batch test.xlsx";
+        List<Map<String, Object>> data = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            Map<String, Object> map = new LinkedHashMap<>();
+            map.put("id", i);
+            map.put("amount", i == 5 ? 12345678901L : i);
+            map.put("price", i * 1.5D);
+            map.put("name", "name" + i);
+            map.put("up", i % 2 == 0);
+            if (i != 3) map.put("mixed", i < 5 ? i : (Object) ("s" + i));
+            data.add(map);
+        }
+        new Workbook().addSheet(new ListMapSheet<>(data)).writeTo(defaultTestPath.resolve(fileName));
+
+        try (ExcelReader reader = ExcelReader.read(defaultTestPath.resolve(fileName))) {
+            List<ColumnBatch> list = new ArrayList<>();
+            reader.sheet(0).batches(4).forEach(batch -> {
+                list.add(batch);
+                assertTrue(batch.size() > 0 && batch.size() <= 4);
+                ColumnBatch.ColumnVector id = batch.getColumn(0), amount = batch.getColumn(1)
+                    , price = batch.getColumn(2), name = batch.getColumn(3), up = batch.getColumn(4), mixed = batch.getColumn(5);
+                assertEquals(INT, id.getType());
+                assertEquals(STRING, name.getType());
+                assertEquals(BOOLEAN, up.getType());
+                for (int i = 0; i < batch.size(); i++) {
+                    int n = batch.getRowNum(i) - 2;
+                    assertEquals(n, id.getInts()[i]);
+                    assertEquals(String.valueOf(n == 5 ? 12345678901L : n), amount.getString(i));
+                    assertEquals(n * 1.5D, price.getDouble(i), 0.0D);
+                    assertEquals("name" + n, name.getString(i));
+                    assertEquals(n % 2 == 0 ? 1 : 0, up.getInts()[i]);
+                    if (n == 3) assertTrue(mixed.isNull(i));
+                    else assertEquals(n < 5 ? String.valueOf(n) : "s" + n, mixed.getString(i));
+                }
+                if (batch.getRowNum(0) == 6) {
+                    assertEquals(STRING, mixed.getType());
+                    assertEquals(DOUBLE, price.getType());
+                }
+            });
+            // Reuse the same batch
+            assertEquals(3, list.size());
+            assertTrue(list.get(0) == list.get(2));
+            assertEquals(2, list.get(2).size());
+        }
+    }
+
+    @Test public void testResources() throws IOException {
+        File[] files = testResourceRoot().toFile().listFiles((dir, name) -> name.endsWith(".xlsx"));
+        if (files == null) return;
+        for (File file : files) {
+            try (ExcelReader reader = ExcelReader.read(file.toPath())) {
+                for (Sheet sheet : reader.all()) {
+                    List<String[]> expectStrings = new ArrayList<>();
+                    List<Double[]> expectDoubles = new ArrayList<>();
+                    sheet.load().dataRows().forEach(row -> {
+                        int n = Math.max(row.getLastColumnIndex(), 0);
+                        String[] ss = new String[n];
+                        Double[] ds = new Double[n];
+                        for (int j = 0; j < n; j++) {
+                            if (row.isNull(j)) continue;
+                            ss[j] = row.getString(j);
+                            try {
+                                ds[j] = row.getDouble(j);
+                            } catch (NumberFormatException e) {
+                                // Not a number
+                            }
+                        }
+                        expectStrings.add(ss);
+                        expectDoubles.add(ds);
+                    });
+
+                    int[] index = { 0 };
+                    sheet.reset().batches(7).forEach(batch -> {
+                        for (int i = 0; i < batch.size(); i++, index[0]++) {
+                            String[] ss = expectStrings.get(index[0]);
+                            Double[] ds = expectDoubles.get(index[0]);
+                            for (int j = 0; j < batch.getColumnCount(); j++) {
+                                ColumnBatch.ColumnVector v = batch.getColumn(j);
+                                if (j >= ss.length || ss[j] == null && ds[j] == null) {
+                                    assertTrue(v.isNull(i));
+                                    assertNull(v.getString(i));
+                                }
+                                else if (v.getType() == STRING || v.getType() == BOOLEAN) assertEquals(ss[j], v.getString(i));
+                                // The boolean value is stored as 1/0 in numeric column
+                                else if (ds[j] != null) assertEquals(ds[j], v.getDouble(i), 0.0D);
+                            }
+                        }
+                    });
+                    assertEquals(expectStrings.size(), index[0]);
+                }
+            }
+        }
+    }
+
+    @Test public void testNullBitmap() {
+        ColumnBatch batch = new ColumnBatch(130);
+        ColumnBatch.ColumnVector v = new ColumnBatch.ColumnVector(batch, 0);
+        batch.size = 130;
+        v.setNull(0);
+        v.setNull(64);
+        v.setNull(129);
+        assertArrayEquals(new long[] { 1L, 1L, 1L << 1 }, v.getNulls());
+        assertTrue(v.isNull(129));
+        v.clear();
+        assertArrayEquals(new long[3], v.getNulls());
+    }
+}
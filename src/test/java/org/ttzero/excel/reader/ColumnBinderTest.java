@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2017-2026, guanquan.wang@hotmail.com All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ttzero.excel.reader;
+
+import org.junit.Test;
+import org.ttzero.excel.annotation.ExcelColumn;
+import org.ttzero.excel.annotation.RowNum;
+import org.ttzero.excel.entity.ListMapSheet;
+import org.ttzero.excel.entity.Workbook;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.ttzero.excel.entity.WorkbookTest.defaultTestPath;
+
+/**
+ * @author guanquan.wang at 2026-10-17 15:02
+ */
+public class ColumnBinderTest {
+
+    @Test public void testBind() throws IOException {
+        final String fileName = "Column binder test.xlsx";
+        List<Map<String, Object>> data = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            Map<String, Object> map = new LinkedHashMap<>();
+            map.put("id", i);
+            map.put("amount", i * 100L);
+            map.put("price", i * 1.5D);
+            map.put("up", i % 2 == 0);
+            map.put("name", i != 2 ? "name" + i : null);
+            data.add(map);
+        }
+        new Workbook().addSheet(new ListMapSheet<>(data)).writeTo(defaultTestPath.resolve(fileName));
+
+        try (ExcelReader reader = ExcelReader.read(defaultTestPath.resolve(fileName))) {
+            List<Bean> list = reader.sheet(0).dataRows().map(row -> row.to(Bean.class)).collect(Collectors.toList());
+            assertEquals(5, list.size());
+            for (int i = 0; i < list.size(); i++) {
+                Bean o = list.get(i);
+                assertEquals(i + 2, o.rowNum);
+                assertEquals(i, o.id);
+                assertEquals(i * 100L, o.amount);
+                assertEquals(i * 1.5D, o.price, 0.0D);
+                assertEquals(i % 2 == 0, o.up);
+                if (i != 2) assertEquals("name" + i, o.name);
+                else assertNull(o.name);
+                assertEquals(Integer.valueOf(i), o.boxedId);
+            }
+        }
+    }
+
+    @Test public void testCache() throws Exception {
+        ColumnBinder a = ColumnBinder.of(Bean.class.getDeclaredField("id"), int.class);
+        ColumnBinder b = ColumnBinder.of(Bean.class.getDeclaredField("id"), int.class);
+        assertSame(a, b);
+        ColumnBinder c = ColumnBinder.of(Bean.class.getDeclaredMethod("setName", String.class), String.class);
+        assertSame(c, ColumnBinder.of(Bean.class.getDeclaredMethod("setName", String.class), String.class));
+        // Unsupported type
+        assertNull(ColumnBinder.of(Bean.class.getDeclaredField("other"), Object.class));
+    }
+
+    public static class Bean {
+        @RowNum
+        private int rowNum;
+        @ExcelColumn("id")
+        private int id;
+        @ExcelColumn("amount")
+        private long amount;
+        @ExcelColumn("price")
+        private double price;
+        @ExcelColumn("up")
+        private boolean up;
+        private String name;
+        @ExcelColumn("id")
+        private Integer boxedId;
+        private Object other;
+
+        // Chain setter
+        @ExcelColumn("name")
+        public Bean setName(String name) {
+            this.name = name;
+            return this;
+        }
+    }
+}
@@ -27,28 +27,48 @@ import org.ttzero.excel.entity.Panes;
 import org.ttzero.excel.entity.Relationship;
 import org.ttzero.excel.entity.Workbook;
 import org.ttzero.excel.manager.Const;
+import org.ttzero.excel.manager.ExcelType;
 import org.ttzero.excel.manager.RelManager;
 import org.ttzero.excel.util.CSVUtil;
+import org.ttzero.excel.util.FileUtil;
 import org.ttzero.excel.util.StringUtil;
 
+import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.math.BigDecimal;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.sql.Timestamp;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Enumeration;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.TreeMap;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import java.util.zip.ZipOutputStream;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 import static org.ttzero.excel.entity.WorkbookTest.defaultTestPath;
+import static org.ttzero.excel.entity.WorkbookTest.getRandomString;
 import static org.ttzero.excel.reader.ExcelReaderTest.testResourceRoot;
 import static org.ttzero.excel.reader.ExcelReader.coordinateToLong;
 import static org.ttzero.excel.util.DateUtil.toDateTimeString;
@@ -135,6 +155,69 @@ public class ExcelReader2Test {
         }
     }
 
+    @Test public void testMergeTailOnePass() throws IOException {
+        List<Dimension> expect;
+        try (ExcelReader reader = ExcelReader.read(testResourceRoot().resolve("largeMerged.xlsx"))) {
+            expect = reader.sheet(0).asFullSheet().getMergeCells();
+        }
+        // The tail is captured at the end of the main pass
+        try (ExcelReader reader = ExcelReader.read(testResourceRoot().resolve("largeMerged.xlsx"))) {
+            XMLSheet sheet = (XMLSheet) reader.sheet(0).load();
+            assertNull(sheet.tail);
+            sheet.rows().forEach(row -> { });
+            assertNotNull(sheet.tail);
+            XMLFullSheet fullSheet = new XMLFullSheet(sheet) {
+                @Override
+                protected void stage(boolean reload) {
+                    throw new AssertionError("The worksheet should not be inflated again");
+                }
+            };
+            assertEquals(expect, fullSheet.getMergeCells());
+        }
+        // The tail offset is captured while spooling
+        try (ExcelReader reader = ExcelReader.read(testResourceRoot().resolve("largeMerged.xlsx"))) {
+            XMLFullSheet sheet = (XMLFullSheet) reader.sheet(0).spool().asFullSheet();
+            assertTrue(sheet.rowIndex.tailOffset > 0L);
+            assertNotNull(sheet.tail);
+            assertEquals(expect, sheet.getMergeCells());
+        }
+    }
+
+    @Test public void testMergeStagedOnePass() throws IOException {
+        List<String> expect = new ArrayList<>();
+        try (ExcelReader reader = ExcelReader.read(testResourceRoot().resolve("largeMerged.xlsx"))) {
+            reader.sheet(0).asFullSheet().copyOnMerged().rows().forEach(row -> expect.add(row.toString()));
+        }
+        try (ExcelReader reader = ExcelReader.read(testResourceRoot().resolve("largeMerged.xlsx"))) {
+            XMLSheet sheet = (XMLSheet) reader.sheet(0);
+            // Count the inflating of worksheet
+            int[] inflates = { 0 };
+            ZipArchive zip = sheet.zipFile;
+            sheet.zipFile = new ZipArchive() {
+                @Override public ZipEntry getEntry(String name) { return zip.getEntry(name); }
+                @Override public Enumeration<? extends ZipEntry> entries() { return zip.entries(); }
+                @Override public int size() { return zip.size(); }
+                @Override public void close() { }
+                @Override public InputStream getInputStream(ZipEntry entry) throws IOException {
+                    if (entry.getName().equals(sheet.entry.getName())) inflates[0]++;
+                    return zip.getInputStream(entry);
+                }
+            };
+            inflates[0] = 0;
+            XMLFullSheet fullSheet = (XMLFullSheet) sheet.asFullSheet().copyOnMerged();
+            List<String> list = new ArrayList<>();
+            fullSheet.rows().forEach(row -> list.add(row.toString()));
+            assertEquals(expect, list);
+            assertNotNull(fullSheet.staged);
+            assertEquals(2608, fullSheet.getMergeCells().size());
+            // Read again from memory
+            list.clear();
+            fullSheet.reset().rows().forEach(row -> list.add(row.toString()));
+            assertEquals(expect, list);
+            assertEquals(1, inflates[0]);
+        }
+    }
+
     @Test public void testLargeMerge() throws IOException {
         try (ExcelReader reader = ExcelReader.read(testResourceRoot().resolve("largeMerged.xlsx"))) {
             FullSheet sheet = reader.sheet(0).asFullSheet();
@@ -183,6 +266,468 @@ public class ExcelReader2Test {
         }
     }
 
+    @Test public void testPrimitiveGetters() throws IOException {
+        final String fileName = "Primitive getters test.xlsx";
+        Map<String, Object> data1 = new LinkedHashMap<>();
+        data1.put("id", 1);
+        data1.put("price", 1.5D);
+        data1.put("amount", 12345678901L);
+        data1.put("up", true);
+
+        Map<String, Object> data2 = new LinkedHashMap<>();
+        data2.put("id", 2);
+        new Workbook()
+            .addSheet(new ListMapSheet<>(Arrays.asList(data1, data2)))
+            .writeTo(defaultTestPath.resolve(fileName));
+
+        try (ExcelReader reader = ExcelReader.read(defaultTestPath.resolve(fileName))) {
+            List<String> list = reader.sheet(0).dataRows().map(row -> {
+                assertEquals((int) row.getInt("id"), row.getInt("id", -1));
+                return row.getInt(0, -1) + "," + row.getDouble("price", -1.0D) + "," + row.getLong(2, -1L)
+                    + "," + row.getBoolean("up", false) + "," + row.isNull(1) + "," + row.isNull("up");
+            }).collect(Collectors.toList());
+            assertEquals(Arrays.asList("1,1.5,12345678901,true,false,false", "2,-1.0,-1,false,true,true"), list);
+        }
+    }
+
+    @Test public void testSelectColumns() throws IOException {
+        final String fileName = "Select columns test.xlsx";
+        List<Map<String, Object>> data = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            Map<String, Object> map = new LinkedHashMap<>();
+            for (int j = 0; j < 20; j++) map.put("c" + j, j % 2 == 0 ? i * 20 + j : "v" + i + "_" + j);
+            data.add(map);
+        }
+        new Workbook().addSheet(new ListMapSheet<>(data)).writeTo(defaultTestPath.resolve(fileName));
+
+        try (ExcelReader reader = ExcelReader.read(defaultTestPath.resolve(fileName))) {
+            List<String> list = reader.sheet(0).select("c3", "c18", "none").dataRows()
+                .map(row -> row.getString("c3") + "," + row.getInt("c18") + "," + row.getString(0) + "," + row.getString(19))
+                .collect(Collectors.toList());
+            assertEquals(100, list.size());
+            for (int i = 0; i < list.size(); i++) assertEquals("v" + i + "_3," + (i * 20 + 18) + ",null,null", list.get(i));
+
+            // Select by index
+            list = reader.sheet(0).reset().select(0, 19).parallelDataRows()
+                .map(row -> row.getInt(0) + "," + row.getString(19) + "," + row.getString(1))
+                .collect(Collectors.toList());
+            assertEquals(100, list.size());
+            for (int i = 0; i < list.size(); i++) assertEquals((i * 20) + ",v" + i + "_19,null", list.get(i));
+        }
+    }
+
+    @Test public void testSstIndex() throws IOException {
+        final String fileName = "SST index test.xlsx";
+        String[] status = { "PAID", "NEW", "CANCEL" };
+        List<Map<String, Object>> data = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            Map<String, Object> map = new LinkedHashMap<>();
+            map.put("id", i);
+            map.put("status", status[i % status.length]);
+            data.add(map);
+        }
+        new Workbook().addSheet(new ListMapSheet<>(data).setColumns(new Column("id", Integer.class)
+            , new Column("status", String.class).setShare(true))).writeTo(defaultTestPath.resolve(fileName));
+
+        try (ExcelReader reader = ExcelReader.read(defaultTestPath.resolve(fileName))) {
+            Map<Integer, String> canonical = new HashMap<>();
+            int[] i = { 0 };
+            reader.sheet(0).dataRows().forEach(row -> {
+                assertEquals(-1, row.getSstIndex("id"));
+                int index = row.getSstIndex("status");
+                assertTrue(index >= 0);
+                String s = row.getString("status");
+                assertEquals(status[i[0]++ % status.length], s);
+                // The index is kept after the string is resolved
+                assertEquals(index, row.getSstIndex(1));
+                String o = canonical.putIfAbsent(index, s);
+                if (o != null) assertSame(o, s);
+            });
+            assertEquals(status.length, canonical.size());
+        }
+    }
+
+    @Test public void testMemoryBudget() throws IOException {
+        final String fileName = "Memory budget test.xlsx";
+        List<Map<String, Object>> data = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            Map<String, Object> map = new LinkedHashMap<>();
+            map.put("id", i);
+            map.put("name", i + "_" + getRandomString(30));
+            data.add(map);
+        }
+        new Workbook().addSheet(new ListMapSheet<>(data)).writeTo(defaultTestPath.resolve(fileName));
+
+        try (ExcelReader reader = ExcelReader.read(defaultTestPath.resolve(fileName)).memoryBudget(1 << 16)) {
+            int[] i = { 0 };
+            reader.sheet(0).dataRows().forEach(row -> {
+                assertEquals(data.get(i[0]).get("id"), row.getInt("id"));
+                assertEquals(data.get(i[0]++).get("name"), row.getString("name"));
+            });
+            assertEquals(data.size(), i[0]);
+            assertTrue(reader.memoryUsage() > 0L);
+            assertTrue(reader.memoryUsage() <= 1 << 16);
+        }
+
+        // A long row can not be read in a small budget
+        final String longRowFile = "Memory budget long row test.xlsx";
+        Map<String, Object> map = new LinkedHashMap<>();
+        for (int i = 0; i < 1000; i++) map.put("c" + i, i);
+        new Workbook().addSheet(new ListMapSheet<>(Collections.singletonList(map))).writeTo(defaultTestPath.resolve(longRowFile));
+        try (ExcelReader reader = ExcelReader.read(defaultTestPath.resolve(longRowFile)).memoryBudget(1 << 14)) {
+            reader.sheet(0).rows().forEach(Row::isEmpty);
+            fail();
+        } catch (ExcelReadException e) {
+            assertTrue(e.getMessage().contains("memory budget"));
+        }
+    }
+
+    @Test public void testMemoryBudgetLargeTail() throws IOException {
+        final String fileName = "Memory budget large tail test.xlsx";
+        List<Map<String, Object>> data = new ArrayList<>();
+        List<Dimension> mergeCells = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            Map<String, Object> map = new LinkedHashMap<>();
+            map.put("id", i);
+            map.put("name", getRandomString(10));
+            map.put("desc", null);
+            data.add(map);
+            mergeCells.add(Dimension.of("B" + (i + 2) + ":C" + (i + 2)));
+        }
+        new Workbook().addSheet(new ListMapSheet<>(data).putExtProp(Const.ExtendPropertyKey.MERGE_CELLS, mergeCells))
+            .writeTo(defaultTestPath.resolve(fileName));
+
+        // The merged cells after rows are larger than the reading buffer
+        try (ExcelReader reader = ExcelReader.read(defaultTestPath.resolve(fileName)).memoryBudget(1 << 16)) {
+            Sheet sheet = reader.sheet(0);
+            assertEquals(data.size(), sheet.dataRows().count());
+            assertTrue(reader.memoryUsage() <= 1 << 16);
+            assertEquals(mergeCells.size(), sheet.asFullSheet().getMergeCells().size());
+        }
+
+        try (ExcelReader reader = ExcelReader.stream(Files.newInputStream(defaultTestPath.resolve(fileName))).memoryBudget(1 << 16)) {
+            FullSheet sheet = reader.sheet(0).asFullSheet();
+            assertEquals(data.size(), sheet.dataRows().count());
+            assertEquals(mergeCells.size(), sheet.getMergeCells().size());
+        }
+    }
+
+    @Test public void testByteMode() throws IOException {
+        File[] files = testResourceRoot().toFile().listFiles((dir, name) -> name.endsWith(".xlsx"));
+        assertNotNull(files);
+        for (File file : files) {
+            List<String> expect;
+            try (ExcelReader reader = ExcelReader.read(file.toPath())) {
+                expect = reader.sheets().flatMap(Sheet::rows).map(Row::toString).collect(Collectors.toList());
+            }
+            try (ExcelReader reader = ExcelReader.read(file.toPath()).byteMode()) {
+                assertTrue(reader.sheets().allMatch(sheet -> ((XMLSheet) sheet).byteMode));
+                assertEquals(file.getName(), expect, reader.sheets().flatMap(Sheet::rows).map(Row::toString).collect(Collectors.toList()));
+            }
+        }
+    }
+
+    @Test public void testStreamingRead() throws IOException {
+        File[] files = testResourceRoot().toFile().listFiles((dir, name) -> name.endsWith(".xlsx"));
+        assertNotNull(files);
+        for (File file : files) {
+            List<String> expect;
+            try (ExcelReader reader = ExcelReader.read(file.toPath())) {
+                expect = reader.sheets().flatMap(Sheet::rows).map(Row::toString).collect(Collectors.toList());
+            }
+            // Worksheets are returned in archive order, read each one before moving to the next
+            Map<Integer, List<String>> actual = new TreeMap<>();
+            try (ExcelReader reader = ExcelReader.stream(Files.newInputStream(file.toPath()))) {
+                reader.sheets().forEach(sheet -> actual.put(sheet.getIndex(), sheet.rows().map(Row::toString).collect(Collectors.toList())));
+            }
+            assertEquals(file.getName(), expect, actual.values().stream().flatMap(List::stream).collect(Collectors.toList()));
+        }
+    }
+
+    @Test public void testReadByteBuffer() throws IOException {
+        File[] files = testResourceRoot().toFile().listFiles((dir, name) -> name.endsWith(".xlsx"));
+        assertNotNull(files);
+        for (File file : files) {
+            List<String> expect;
+            try (ExcelReader reader = ExcelReader.read(file.toPath())) {
+                expect = reader.sheets().flatMap(Sheet::rows).map(Row::toString).collect(Collectors.toList());
+            }
+            byte[] bytes = Files.readAllBytes(file.toPath());
+            try (ExcelReader reader = ExcelReader.read(bytes)) {
+                assertEquals(ExcelType.XLSX, reader.getType());
+                assertTrue(reader.zipFile instanceof ZipBuffer);
+                assertEquals(file.getName(), expect, reader.sheets().flatMap(Sheet::rows).map(Row::toString).collect(Collectors.toList()));
+            }
+            ByteBuffer buffer = ByteBuffer.allocateDirect(bytes.length);
+            buffer.put(bytes).flip();
+            try (ExcelReader reader = ExcelReader.read(buffer)) {
+                assertEquals(file.getName(), expect, reader.parallelSheets().flatMap(sheet -> sheet.rows().map(Row::toString)
+                    .collect(Collectors.toList()).stream()).collect(Collectors.toList()));
+            }
+        }
+    }
+
+    @Test public void testReadMapped() throws IOException {
+        File[] files = testResourceRoot().toFile().listFiles((dir, name) -> name.endsWith(".xlsx"));
+        assertNotNull(files);
+        for (File file : files) {
+            List<String> expect;
+            try (ExcelReader reader = ExcelReader.read(file.toPath())) {
+                expect = reader.sheets().flatMap(Sheet::rows).map(Row::toString).collect(Collectors.toList());
+            }
+            try (ExcelReader reader = ExcelReader.readMapped(file.toPath())) {
+                assertTrue(reader.zipFile instanceof ZipBuffer);
+                assertEquals(file.getName(), expect, reader.sheets().flatMap(Sheet::rows).map(Row::toString).collect(Collectors.toList()));
+            }
+        }
+    }
+
+    @Test public void testReadLazy() throws IOException {
+        File[] files = testResourceRoot().toFile().listFiles((dir, name) -> name.endsWith(".xlsx"));
+        assertNotNull(files);
+        for (File file : files) {
+            List<String> expect;
+            try (ExcelReader reader = ExcelReader.read(file.toPath())) {
+                expect = reader.sheets().flatMap(Sheet::rows).map(Row::toString).collect(Collectors.toList());
+            }
+            try (ExcelReader reader = ExcelReader.readLazy(file.toPath())) {
+                assertTrue(reader.all().length > 0);
+                assertNull(reader.sharedStringTable);
+                assertNull(reader.styles);
+                assertEquals(file.getName(), expect, reader.sheets().flatMap(Sheet::rows).map(Row::toString).collect(Collectors.toList()));
+                assertNotNull(reader.styles);
+            }
+        }
+
+        try (ExcelReader reader = ExcelReader.readLazy(testResourceRoot().resolve("1.xlsx"))) {
+            List<String> expect = reader.sheet(0).rows().map(Row::toString).collect(Collectors.toList());
+            // Copied sheets
+            assertEquals(expect, reader.sheet(0).reset().asFullSheet().rows().map(Row::toString).collect(Collectors.toList()));
+        }
+        try (ExcelReader reader = ExcelReader.readLazy(testResourceRoot().resolve("1.xlsx"))) {
+            assertNotNull(((XMLSheet) reader.sheet(0).asFullSheet().load()).sst);
+            assertNotNull(reader.sharedStringTable);
+        }
+    }
+
+    @Test public void testReadLazyConcurrent() throws IOException {
+        for (int n = 0; n < 20; n++) {
+            try (ExcelReader reader = ExcelReader.readLazy(testResourceRoot().resolve("1.xlsx"))) {
+                // The parts are visible only after they are loaded
+                IntStream.range(0, 16).parallel().forEach(i -> {
+                    assertNotNull(reader.getStyles());
+                    assertNotNull(reader.getSharedStrings());
+                });
+            }
+        }
+    }
+
+    @Test public void testStreamingOrder() throws IOException {
+        final String fileName = "Streaming order test.xlsx";
+        List<Map<String, Object>> data = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            Map<String, Object> map = new LinkedHashMap<>();
+            map.put("id", i);
+            map.put("name", "name" + i);
+            map.put("date", new Timestamp(1700000000000L + i * 86400000L));
+            data.add(map);
+        }
+        new Workbook().addSheet(new ListMapSheet<>("A", data)).addSheet(new ListMapSheet<>("B", data.subList(0, 10)))
+            .writeTo(defaultTestPath.resolve(fileName));
+
+        List<String> expect;
+        try (ExcelReader reader = ExcelReader.read(defaultTestPath.resolve(fileName))) {
+            expect = reader.sheets().flatMap(Sheet::rows).map(Row::toString).collect(Collectors.toList());
+        }
+
+        // Worksheets first, they have to be spooled
+        Path sheetsFirst = reorder(defaultTestPath.resolve(fileName), "Streaming sheets first.xlsx", true);
+        try (ExcelReader reader = ExcelReader.stream(Files.newInputStream(sheetsFirst))) {
+            // The spooled worksheets can be read repeatedly in any order
+            Sheet[] sheets = reader.all();
+            for (Sheet sheet : sheets) assertNotNull(((XMLSheet) sheet).spool);
+            assertEquals(expect, Arrays.stream(sheets).sorted(Comparator.comparingInt(Sheet::getIndex))
+                .flatMap(Sheet::rows).map(Row::toString).collect(Collectors.toList()));
+        }
+
+        // Worksheets last, they are read from the zip stream directly
+        Path sheetsLast = reorder(defaultTestPath.resolve(fileName), "Streaming sheets last.xlsx", false);
+        try (ExcelReader reader = ExcelReader.stream(Files.newInputStream(sheetsLast))) {
+            assertEquals(2, reader.getSheetCount());
+            // The writer puts sheet2 before sheet1
+            Sheet sheet = reader.sheet("B");
+            assertNull(((XMLSheet) sheet).spool);
+            assertEquals(expect.subList(expect.size() - 11, expect.size())
+                , sheet.rows().map(Row::toString).collect(Collectors.toList()));
+            // Forward only
+            try {
+                sheet.reset().rows().count();
+                fail();
+            } catch (ExcelReadException e) {
+                assertTrue(e.getMessage().contains("streaming mode"));
+            }
+            sheet = reader.sheet(0);
+            assertNull(((XMLSheet) sheet).spool);
+            assertEquals(data.size(), sheet.dataRows().count());
+        }
+
+        // The skipped worksheet can not be read
+        try (ExcelReader reader = ExcelReader.stream(Files.newInputStream(sheetsLast))) {
+            Sheet b = reader.sheet(1), a = reader.sheet(0);
+            assertEquals(data.size(), a.dataRows().count());
+            b.rows().count();
+            fail();
+        } catch (ExcelReadException e) {
+            assertTrue(e.getMessage().contains("streaming mode"));
+        }
+    }
+
+    @Test public void testStreamingFullSheet() throws IOException {
+        Path path = testResourceRoot().resolve("largeMerged.xlsx");
+        List<String> expect;
+        List<Dimension> mergeCells;
+        try (ExcelReader reader = ExcelReader.read(path)) {
+            FullSheet sheet = reader.sheet(0).asFullSheet();
+            mergeCells = sheet.getMergeCells();
+            expect = sheet.rows().map(Row::toString).collect(Collectors.toList());
+        }
+        assertNotNull(mergeCells);
+        // Worksheets last, they are read from the zip stream directly
+        Path sheetsLast = reorder(path, "Streaming full sheet.xlsx", false);
+        // The calc chain is ignored and the tail is captured at the end of rows
+        try (ExcelReader reader = ExcelReader.stream(Files.newInputStream(sheetsLast))) {
+            assertNull(((XMLSheet) reader.sheet(0)).spool);
+            FullSheet sheet = reader.sheet(0).asFullSheet();
+            assertEquals(expect, sheet.rows().map(Row::toString).collect(Collectors.toList()));
+            assertEquals(mergeCells, sheet.getMergeCells());
+        }
+        // The spooled sheets
+        try (ExcelReader reader = ExcelReader.stream(Files.newInputStream(path))) {
+            assertEquals(mergeCells, reader.all()[0].asFullSheet().getMergeCells());
+        }
+        // The tail can not be read before rows in streaming mode
+        try (ExcelReader reader = ExcelReader.stream(Files.newInputStream(sheetsLast))) {
+            reader.sheet(0).asFullSheet().getMergeCells();
+            fail();
+        } catch (ExcelReadException e) {
+            assertTrue(e.getMessage().contains("streaming mode"));
+        }
+    }
+
+    // Rewrite the zip with worksheets first or last
+    private static Path reorder(Path src, String fileName, boolean sheetsFirst) throws IOException {
+        Path dest = defaultTestPath.resolve(fileName);
+        try (ZipFile zipFile = new ZipFile(src.toFile()); ZipOutputStream zos = new ZipOutputStream(Files.newOutputStream(dest))) {
+            List<? extends ZipEntry> entries = Collections.list(zipFile.entries());
+            entries.sort(Comparator.comparingInt(e -> e.getName().startsWith("xl/worksheets/") == sheetsFirst ? 0 : 1));
+            for (ZipEntry e : entries) {
+                zos.putNextEntry(new ZipEntry(e.getName()));
+                try (InputStream is = zipFile.getInputStream(e)) {
+                    FileUtil.cp(is, zos);
+                }
+                zos.closeEntry();
+            }
+        }
+        return dest;
+    }
+
+    @Test public void testRowFilter() throws IOException {
+        final String fileName = "Row filter test.xlsx";
+        String[] status = { "PAID", "NEW", "CANCEL" };
+        List<Map<String, Object>> data = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            Map<String, Object> map = new LinkedHashMap<>();
+            map.put("id", i);
+            map.put("status", status[i % status.length]);
+            map.put("amount", i % 7 == 0 ? null : i * 1.25D);
+            map.put("ok", i % 2 == 0);
+            data.add(map);
+        }
+        new Workbook().addSheet(new ListMapSheet<>(data)).writeTo(defaultTestPath.resolve(fileName));
+
+        List<Integer> expect = data.stream().filter(m -> "PAID".equals(m.get("status")) && m.get("amount") != null
+            && (Double) m.get("amount") > 500).map(m -> (Integer) m.get("id")).collect(Collectors.toList());
+        try (ExcelReader reader = ExcelReader.read(defaultTestPath.resolve(fileName))) {
+            RowFilter filter = RowFilter.eq("status", "PAID").and(RowFilter.gt("amount", 500));
+            List<Integer> list = reader.sheet(0).filter(filter).dataRows().map(row -> row.getInt("id")).collect(Collectors.toList());
+            assertEquals(expect, list);
+
+            list = reader.sheet(0).reset().filter(filter).parallelDataRows().map(row -> row.getInt("id")).collect(Collectors.toList());
+            assertEquals(expect, list);
+
+            // Empty cell matches `ne` only
+            assertEquals(1000 / 7 + 1, reader.sheet(0).reset().filter(RowFilter.ne("amount", 0)).dataRows()
+                .filter(row -> row.isNull("amount")).count());
+            assertEquals(500, reader.sheet(0).reset().filter(RowFilter.eq(3, true).and(RowFilter.le(0, 999L))).dataRows().count());
+            assertEquals(0, reader.sheet(0).reset().filter(RowFilter.eq("status", "NONE")).dataRows().count());
+            assertEquals(666, reader.sheet(0).reset().filter(RowFilter.lt("status", "PAID")).dataRows().count());
+
+            // The SST matchers are cached in filter
+            HeaderRow header = (HeaderRow) reader.sheet(0).reset().getHeader();
+            RowFilter.SstMatcher matcher = filter.resolve(header, reader.getSharedStrings())[1].sstMatcher;
+            assertNotNull(matcher);
+            assertSame(matcher, filter.resolve(header, reader.getSharedStrings())[1].sstMatcher);
+            assertEquals(expect, reader.sheet(0).reset().filter(filter).dataRows().map(row -> row.getInt("id")).collect(Collectors.toList()));
+            assertFalse(matcher.test(1 << 20));
+
+            // The filtered columns are parsed once and kept in the returned row
+            List<String> rows = reader.sheet(0).reset().dataRows().filter(row -> "PAID".equals(row.getString("status"))
+                && !row.isNull("amount") && row.getDouble("amount") > 500).map(Row::toString).collect(Collectors.toList());
+            assertEquals(rows, reader.sheet(0).reset().filter(filter).dataRows().map(Row::toString).collect(Collectors.toList()));
+            // The filtered column out of the projection is not returned
+            assertEquals(expect.size(), reader.sheet(0).reset().select("id", "ok").filter(filter).dataRows()
+                .filter(row -> row.isNull(1) && row.isNull(2) && row.getInt(0) % 3 == 0 && row.getLastColumnIndex() == 4).count());
+        }
+    }
+
+    @Test public void testSpoolRows() throws IOException {
+        final String fileName = "Spool rows test.xlsx";
+        List<Map<String, Object>> data = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            Map<String, Object> map = new LinkedHashMap<>();
+            map.put("id", i);
+            map.put("name", "name" + i);
+            data.add(map);
+        }
+        new Workbook().addSheet(new ListMapSheet<>(data)).writeTo(defaultTestPath.resolve(fileName));
+
+        try (ExcelReader reader = ExcelReader.read(defaultTestPath.resolve(fileName))) {
+            // Without spool
+            Sheet sheet = reader.sheet(0);
+            assertEquals(Arrays.asList(1000, 1001, 1002), sheet.rows(1002, 1004).map(row -> row.getInt(0)).collect(Collectors.toList()));
+            assertEquals("name99", sheet.getRow(101).getString(1));
+
+            XMLSheet spooled = (XMLSheet) sheet.spool();
+            Path spool = spooled.spool;
+            assertTrue(Files.exists(spool));
+            assertEquals(Arrays.asList(3998, 3999, 4000), sheet.rows(4000, 4002).map(row -> row.getInt(0)).collect(Collectors.toList()));
+            // Backward
+            assertEquals(Arrays.asList("id", "name"), sheet.rows(1, 1).flatMap(row -> Arrays.stream(new String[] { row.getString(0), row.getString(1) })).collect(Collectors.toList()));
+            assertEquals("name4999", sheet.getRow(5001).getString("name"));
+            assertEquals(Integer.valueOf(130), sheet.getRow(132).getInt(0));
+            assertEquals(0, sheet.rows(5002, 6000).count());
+
+            // Re-read from the spooled file
+            assertEquals(5000, sheet.reset().dataRows().count());
+            assertEquals(5000, sheet.reset().dataRows().count());
+            // The copies share the spooled file
+            sheet.asFullSheet().close();
+            assertTrue(Files.exists(spool));
+            assertEquals(5000, sheet.reset().dataRows().count());
+            sheet.close();
+            assertFalse(Files.exists(spool));
+        }
+
+        // The header range is kept when seeking backward
+        try (ExcelReader reader = ExcelReader.read(defaultTestPath.resolve(fileName))) {
+            XMLSheet sheet = (XMLSheet) reader.sheet(0).header(2);
+            assertEquals("name999", sheet.getRow(1001).getString(1));
+            assertEquals("name99", sheet.getRow(101).getString("name0"));
+            assertEquals(2, sheet.hrf);
+            assertEquals(2, sheet.hrl);
+        }
+    }
+
     @Test public void testUpperCaseRead() throws IOException {
         final String fileName = "Upper case Reader test.xlsx";
         Map<String, Object> data1 = new HashMap<>();
@@ -515,6 +1060,38 @@ public class ExcelReader2Test {
         }
     }
 
+    @Test public void testLazyDecimal() {
+        String[] values = {"1.5", "-0.25", "123456.789", "0.000001234", "-0.0", "5.", ".5", "3.141592653589793"
+            , "0.1", "12345678901234.5678", "1234567890123456789.5", "1.5E-7", "-2.5e10", "9007199254740993.1"};
+        Cell cell = new Cell();
+        for (String v : values) {
+            char[] cb = v.toCharArray();
+            XMLRow.toDecimal(cb, 0, cb.length, cell);
+            BigDecimal expect = new BigDecimal(v);
+            assertEquals(Cell.DECIMAL, cell.t);
+            assertEquals(expect.doubleValue(), cell.getDecimalAsDouble(), 0.0D);
+            assertEquals(expect, cell.getDecimal());
+            assertEquals(expect.longValue(), cell.getDecimalAsLong());
+        }
+
+        // The public int and long fields are untouched, the decimal is created on demand
+        cell.clear();
+        char[] cb = "-0.0".toCharArray();
+        XMLRow.toDecimal(cb, 0, cb.length, cell);
+        assertEquals(0, cell.intVal);
+        assertEquals(0L, cell.longVal);
+        assertNull(cell.decimal);
+        assertEquals(0, Double.compare(-0.0D, cell.getDecimalAsDouble()));
+        assertEquals(BigDecimal.ZERO.setScale(1), cell.getDecimal());
+        assertEquals(0, Double.compare(-0.0D, cell.getDecimalAsDouble()));
+        assertEquals(0, Double.compare(-0.0D, new Cell().from(cell).getDecimalAsDouble()));
+        assertEquals(0, cell.decimalSignum());
+        cb = "-0.05".toCharArray();
+        XMLRow.toDecimal(cb, 0, cb.length, cell);
+        assertEquals(-1, cell.decimalSignum());
+        assertEquals(1, new Cell().setDecimal(new BigDecimal("1E-400")).decimalSignum());
+    }
+
     public static <T> boolean listEquals(List<T> list, List<T> expectList) {
         if (list == expectList) return true;
         if (list == null || expectList == null) return false;
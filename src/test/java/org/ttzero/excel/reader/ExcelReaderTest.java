@@ -37,6 +37,7 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
 import java.util.Arrays;
+import java.util.Comparator;
 import java.util.Date;
 import java.util.Iterator;
 import java.util.List;
@@ -249,6 +250,40 @@ public class ExcelReaderTest {
         }
     }
 
+    @Test public void testParallelDataRows() throws IOException {
+        File[] files = testResourceRoot().toFile().listFiles((dir, name) -> name.endsWith(".xlsx"));
+        if (files != null) {
+            for (File file : files) {
+                try (ExcelReader reader = ExcelReader.read(file.toPath())) {
+                    for (Sheet sheet : reader.all()) {
+                        List<String> expectList = sheet.load().dataRows().map(row -> row.getRowNum() + ":" + row).collect(Collectors.toList());
+                        List<String> list = sheet.reset().parallelDataRows().map(row -> row.getRowNum() + ":" + row).collect(Collectors.toList());
+                        assertEquals(expectList, list);
+                        List<Row> rows = sheet.reset().parallelDataRows(false).collect(Collectors.toList());
+                        rows.sort(Comparator.comparingInt(Row::getRowNum));
+                        assertEquals(expectList, rows.stream().map(row -> row.getRowNum() + ":" + row).collect(Collectors.toList()));
+                    }
+                }
+            }
+        }
+    }
+
+    @Test public void testParallelSheets() throws IOException {
+        File[] files = testResourceRoot().toFile().listFiles((dir, name) -> name.endsWith(".xlsx"));
+        if (files != null) {
+            for (File file : files) {
+                Map<Integer, List<String>> expectMap, map;
+                try (ExcelReader reader = ExcelReader.read(file.toPath())) {
+                    expectMap = reader.sheets().collect(Collectors.toMap(Sheet::getIndex, sheet -> sheet.rows().map(Row::toString).collect(Collectors.toList())));
+                }
+                try (ExcelReader reader = ExcelReader.read(file.toPath())) {
+                    map = reader.parallelSheets().collect(Collectors.toMap(Sheet::getIndex, sheet -> sheet.rows().map(Row::toString).collect(Collectors.toList())));
+                }
+                assertEquals(expectMap, map);
+            }
+        }
+    }
+
     @Test public void testReaderByName() throws IOException {
         try (ExcelReader reader = ExcelReader.read(testResourceRoot().resolve("1.xlsx"))) {
             List<String[]> expectList = CSVUtil.read(testResourceRoot().resolve("expect/1$Object测试.txt"));
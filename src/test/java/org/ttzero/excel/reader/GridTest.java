@@ -21,7 +21,10 @@ import org.junit.Test;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Random;
+import java.util.Set;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
@@ -42,6 +45,23 @@ public class GridTest {
         grid = GridFactory.create(Collections.singletonList(Dimension.of("A1:B16384")));
         assertTrue(grid instanceof Grid.FastGrid);
 
+        // One merge far away from the others
+        grid = GridFactory.create(Arrays.asList(Dimension.of("A1:B2"), Dimension.of("XFC1048575:XFD1048576")));
+        assertTrue(grid instanceof Grid.IntervalGrid);
+
+    }
+
+    @Test public void testGridBudget() {
+        List<Dimension> list = Collections.singletonList(Dimension.of("A1:BM10"));
+        assertTrue(GridFactory.create(list, 1 << 16) instanceof Grid.IndexGrid);
+        Grid grid = GridFactory.create(list, 1 << 12);
+        assertTrue(grid instanceof Grid.IntervalGrid);
+        assertTrue(grid.test(10, 65));
+        assertFalse(grid.test(11, 1));
+
+        list = Collections.singletonList(Dimension.of("A1:B16383"));
+        assertTrue(GridFactory.create(list, 1 << 13) instanceof Grid.FastGrid);
+        assertTrue(GridFactory.create(list, 1 << 10) instanceof Grid.IntervalGrid);
     }
 
     @Test public void testGrid1() {
@@ -233,4 +253,41 @@ public class GridTest {
         assertFalse(grid.test(4, 2));
         assertFalse(grid.test(3, 4));
     }
+
+    @Test public void testIntervalGrid() {
+        // Scattered merges, none of them overlap
+        Random random = new Random(24);
+        List<Dimension> list = new ArrayList<>();
+        Set<Long> marked = new HashSet<>();
+        for (int i = 0; i < 20000; i++) {
+            int r = random.nextInt(500) * 2000 + 1, c = random.nextInt(100) * 100 + 1;
+            Dimension dim = new Dimension(r, (short) c, r + random.nextInt(1999), (short) (c + random.nextInt(99)));
+            if (marked.add(((long) r) << 16 | c)) list.add(dim);
+        }
+        // A tall merge spans most rows
+        list.add(Dimension.of("XFD2:XFD1000000"));
+
+        Grid grid = GridFactory.create(list);
+        assertTrue(grid instanceof Grid.IntervalGrid);
+        assertEquals(list.size(), grid.size());
+
+        for (int i = 0; i < 5000; i++) {
+            int r = random.nextInt(1000000) + 1, c = random.nextInt(16384) + 1;
+            boolean expect = false;
+            for (Dimension dim : list) if (expect = dim.checkRange(r, c)) break;
+            assertEquals(expect, grid.test(r, c));
+        }
+        for (Dimension dim : list) {
+            assertTrue(grid.test(dim.firstRow, dim.firstColumn));
+            assertTrue(grid.test(dim.lastRow, dim.lastColumn));
+        }
+
+        // Copy value from the first merged cell
+        Dimension dim = list.get(0);
+        Cell first = new Cell(dim.firstColumn).setString("first"), cell = new Cell(dim.lastColumn);
+        assertEquals(1, grid.merge(dim.firstRow, first));
+        assertEquals(2, grid.merge(dim.lastRow, cell));
+        assertEquals("first", cell.stringVal);
+        assertEquals(0, grid.merge(dim.lastRow + 1, new Cell(dim.lastColumn)));
+    }
 }
@@ -22,12 +22,20 @@ import org.junit.Test;
 import org.ttzero.excel.util.ExtBufferedWriter;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.stream.IntStream;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 import static org.ttzero.excel.entity.WorkbookTest.getOutputTestPath;
 import static org.ttzero.excel.entity.WorkbookTest.getRandomString;
 
@@ -71,6 +79,165 @@ public class SharedStringsTest {
         assertEquals(desc, "<tag>,random&more,with\"signs\",random&more,&abcd;352,<this will be escaped \uD83D\uDE01>,An 😀awesome 😃string with a few 😉emojis!");
     }
 
+    @Test public void testEscapeUtf8() {
+        String expect = "<中文>,An 😀awesome &string ©";
+        byte[] bytes = "&lt;中文&gt;,An &#128512;awesome &amp;string ©".getBytes(StandardCharsets.UTF_8);
+        char[] chars = new String(bytes, StandardCharsets.ISO_8859_1).toCharArray();
+        assertEquals(expect, SharedStrings.escapeUtf8(chars, 0, chars.length));
+        chars = "ASCII &amp; only".toCharArray();
+        assertEquals("ASCII & only", SharedStrings.escapeUtf8(chars, 0, chars.length));
+
+        // Malformed sequences: missing continuation bytes, truncated sequence, stray continuation byte
+        chars = new char[] { 0xC3, 'a', 0xE4, 0xB8, 'b', 0xF0, 0x9F, 0x98, 'c', 0x80, 0xE4, 0xB8 };
+        assertEquals("\uFFFDa\uFFFD\uFFFDb\uFFFD\uFFFD\uFFFDc\uFFFD\uFFFD\uFFFD", SharedStrings.decodeUtf8(chars, 0, chars.length));
+        chars = new char[] { 0xE4, 0xB8, 0xAD, 0xC3, 0xA9 };
+        assertEquals("中é", SharedStrings.decodeUtf8(chars, 0, chars.length));
+    }
+
+    @Test public void testTextBuffer() {
+        TextBuffer text = new TextBuffer(16);
+        char[] chars = "xx&lt;tag&gt; and a long text which grows the buffer &amp;&#x1f601;yy".toCharArray();
+        text.unescape(chars, 2, chars.length - 2);
+        String expect = "<tag> and a long text which grows the buffer &😁";
+        assertTrue(text.contentEquals(expect));
+        assertEquals(expect.hashCode(), text.contentHash());
+        assertEquals(expect, text.toString());
+        assertEquals("tag", text.subSequence(1, 4));
+        assertEquals("a<tag>", text.appendTo(new StringBuilder("a")).toString().substring(0, 6));
+
+        // No entities
+        chars = "plain".toCharArray();
+        assertEquals("plain", text.unescape(chars, 0, chars.length).toString());
+        assertFalse(text.contentEquals(expect));
+        assertEquals(0, text.unescape(chars, 1, 1).length());
+
+        // Decode and unescape in place
+        byte[] bytes = "&lt;中文&gt;&#128512;".getBytes(StandardCharsets.UTF_8);
+        chars = new String(bytes, StandardCharsets.ISO_8859_1).toCharArray();
+        assertEquals("<中文>😀", text.unescapeUtf8(chars, 0, chars.length).toString());
+    }
+
+    @Test public void testEscapeConcurrent() {
+        IntStream.range(0, 10000).parallel().forEach(i -> {
+            String expect = "<" + i + "> & \"" + i + "\"";
+            char[] chars = ("&lt;" + i + "&gt; &amp; &quot;" + i + "&quot;").toCharArray();
+            assertEquals(expect, SharedStrings.escape(chars, 0, chars.length));
+            assertEquals(expect, SharedStrings.escapeUtf8(chars, 0, chars.length));
+        });
+    }
+
+    @Test public void testConcurrent() throws IOException {
+        List<String> list = new ArrayList<>();
+        for (int i = 0; i < 1024; i++) list.add(getRandomString());
+        writeTestData(list);
+        try (SharedStrings sst = new SharedStrings(Files.newInputStream(path), 0, 0).load().concurrent()) {
+            assertTrue(sst.isConcurrent());
+            IntStream.range(0, list.size() << 3).parallel().forEach(i -> {
+                int n = (i * 31) % list.size();
+                assertEquals(list.get(n), sst.get(n));
+            });
+        }
+    }
+
+    @Test public void testMapped() throws IOException {
+        List<String> list = new ArrayList<>();
+        for (int i = 0; i < 50000; i++) list.add(i % 100 == 0 ? "中文" + i : getRandomString());
+        writeTestData(list);
+        try (SharedStrings sst = new SharedStrings(Files.newInputStream(path), 0, 0).load().mapped()) {
+            assertTrue(sst.isMapped());
+            assertEquals(list.size(), sst.size());
+            // Random access
+            IntStream.range(0, list.size()).parallel().map(i -> (int) ((i * 7919L) % list.size()))
+                .forEach(i -> assertEquals(list.get(i), sst.get(i)));
+        }
+    }
+
+    @Test public void testMappedTable() throws IOException {
+        try (MappedSharedStringTable table = new MappedSharedStringTable()) {
+            assertEquals(0, table.push("abc"));
+            assertEquals(1, table.push(""));
+            assertEquals(2, table.push(null));
+            assertEquals(3, table.push("An 😀awesome"));
+            table.seal();
+            assertEquals("abc", table.get(0));
+            assertEquals("", table.get(1));
+            assertNull(table.get(2));
+            assertEquals("An 😀awesome", table.get(3));
+            try {
+                table.get(4);
+                fail();
+            } catch (IndexOutOfBoundsException e) {
+                // Ignore
+            }
+        }
+    }
+
+    @Test public void testPacked() throws IOException {
+        List<String> list = new ArrayList<>();
+        for (int i = 0; i < 50000; i++) list.add(i % 100 == 0 ? "中文" + i : getRandomString());
+        writeTestData(list);
+        try (SharedStrings sst = new SharedStrings(Files.newInputStream(path), 0, 0).load().packed(Integer.MAX_VALUE)) {
+            assertTrue(sst.isPacked());
+            assertTrue(sst.isConcurrent());
+            assertEquals(list.size(), sst.size());
+            // Random access
+            IntStream.range(0, list.size()).parallel().map(i -> (int) ((i * 7919L) % list.size()))
+                .forEach(i -> assertEquals(list.get(i), sst.get(i)));
+        }
+    }
+
+    @Test public void testPackedOverBudget() throws IOException {
+        List<String> list = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) list.add(getRandomString());
+        writeTestData(list);
+        try (SharedStrings sst = new SharedStrings(Files.newInputStream(path), 0, 0).load().packed(16)) {
+            assertFalse(sst.isPacked());
+            checkTrue(sst, list);
+        }
+    }
+
+    @Test public void testPackedTable() {
+        PackedSharedStringTable table = new PackedSharedStringTable(1 << 10, 4);
+        assertTrue(table.push("abc"));
+        assertTrue(table.push(null));
+        assertTrue(table.push(""));
+        assertTrue(table.push(null));
+        assertTrue(table.push("An 😀awesome"));
+        table.trim();
+        assertEquals(5, table.size());
+        assertEquals("abc", table.get(0));
+        assertNull(table.get(1));
+        assertEquals("", table.get(2));
+        assertNull(table.get(3));
+        assertEquals("An 😀awesome", table.get(4));
+        // Canonical instance
+        assertSame(table.get(4), table.get(4));
+        try {
+            table.get(5);
+            fail();
+        } catch (IndexOutOfBoundsException e) {
+            // Ignore
+        }
+        assertFalse(new PackedSharedStringTable(8, 4).push("over budget"));
+    }
+
+    @Test public void testHotCache() throws IOException {
+        List<String> list = new ArrayList<>();
+        for (int i = 0; i < 50000; i++) list.add(getRandomString());
+        writeTestData(list);
+        try (SharedStrings sst = new SharedStrings(Files.newInputStream(path), 0, 0).load()) {
+            assertTrue(sst.getHotCache() instanceof IntClockCache);
+            checkTrue(sst, list);
+            // Read the hot strings repeatedly
+            for (int n = 0; n < 3; n++) for (int i = 0; i < list.size(); i += 997) assertEquals(list.get(i), sst.get(i));
+            assertTrue(((IntClockCache<String>) sst.getHotCache()).getHits() > 0L);
+
+            sst.setHotCache(FixSizeLRUCache.create());
+            for (int n = 0; n < 3; n++) for (int i = 0; i < list.size(); i += 997) assertEquals(list.get(i), sst.get(i));
+            assertTrue(sst.getHotCache().size() > 0);
+        }
+    }
+
     private void checkTrue(SharedStrings sst, List<String> list) {
         for (int i = 0, size = list.size(); i < size; i++) {
             assertEquals(list.get(i), sst.get(i));
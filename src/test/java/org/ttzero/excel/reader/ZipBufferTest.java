@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2017-2026, guanquan.wang@hotmail.com All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ttzero.excel.reader;
+
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipException;
+import java.util.zip.ZipFile;
+import java.util.zip.ZipOutputStream;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.ttzero.excel.reader.ExcelReaderTest.testResourceRoot;
+
+/**
+ * @author guanquan.wang at 2026-10-17 21:30
+ */
+public class ZipBufferTest {
+    @Test public void testEntries() throws IOException {
+        File[] files = testResourceRoot().toFile().listFiles((dir, name) -> name.endsWith(".xlsx"));
+        assertNotNull(files);
+        for (File file : files) {
+            byte[] bytes = Files.readAllBytes(file.toPath());
+            ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length);
+            direct.put(bytes).flip();
+            try (ZipFile zipFile = new ZipFile(file)) {
+                assertSame(zipFile, new ZipBuffer(bytes));
+                assertSame(zipFile, new ZipBuffer(direct));
+                assertSame(zipFile, ZipBuffer.map(file.toPath()));
+            }
+        }
+    }
+
+    @Test public void testGetZipFile() throws IOException {
+        File file = testResourceRoot().resolve("1.xlsx").toFile();
+        try (ZipFile zipFile = new ZipFile(file)) {
+            assertTrue(ZipArchive.of(zipFile).getZipFile() == zipFile);
+            assertNull(new ZipBuffer(Files.readAllBytes(file.toPath())).getZipFile());
+        }
+    }
+
+    @Test public void testStored() throws IOException {
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        byte[] a = "stored entry".getBytes(), b = new byte[100000];
+        for (int i = 0; i < b.length; i++) b[i] = (byte) (i % 61);
+        try (ZipOutputStream zos = new ZipOutputStream(bos)) {
+            ZipEntry e = new ZipEntry("a.txt");
+            e.setMethod(ZipEntry.STORED);
+            e.setSize(a.length);
+            CRC32 crc = new CRC32();
+            crc.update(a);
+            e.setCrc(crc.getValue());
+            zos.putNextEntry(e);
+            zos.write(a);
+            zos.closeEntry();
+            zos.putNextEntry(new ZipEntry("dir/b.bin"));
+            zos.write(b);
+            zos.closeEntry();
+            zos.setComment("comment");
+        }
+        // Leading bytes, the archive starts at the position of buffer
+        byte[] bytes = bos.toByteArray(), padding = new byte[bytes.length + 10];
+        System.arraycopy(bytes, 0, padding, 10, bytes.length);
+        ByteBuffer buffer = ByteBuffer.wrap(padding);
+        buffer.position(10);
+
+        ZipBuffer zip = new ZipBuffer(buffer);
+        assertEquals(10, buffer.position());
+        assertEquals(2, zip.size());
+        assertNull(zip.getEntry("c.txt"));
+        ZipEntry e = zip.getEntry("a.txt");
+        assertEquals(ZipEntry.STORED, e.getMethod());
+        assertArrayEquals(a, readAll(zip.getInputStream(e)));
+        assertArrayEquals(b, readAll(zip.getInputStream(zip.getEntry("dir/b.bin"))));
+        // Single byte reading
+        try (InputStream is = zip.getInputStream(zip.getEntry("dir/b.bin"))) {
+            for (int i = 0; i < 1000; i++) assertEquals(b[i], (byte) is.read());
+        }
+    }
+
+    @Test public void testNotZip() {
+        try {
+            new ZipBuffer(new byte[100]);
+            fail();
+        } catch (ZipException e) {
+            // Ok
+        }
+    }
+
+    private static void assertSame(ZipFile expect, ZipBuffer actual) throws IOException {
+        List<? extends ZipEntry> entries = Collections.list(expect.entries());
+        assertEquals(entries.stream().map(ZipEntry::getName).collect(Collectors.toList())
+            , Collections.list(actual.entries()).stream().map(ZipEntry::getName).collect(Collectors.toList()));
+        for (ZipEntry e : entries) {
+            ZipEntry e1 = actual.getEntry(e.getName());
+            assertEquals(e.getSize(), e1.getSize());
+            assertEquals(e.getCrc(), e1.getCrc());
+            try (InputStream is = expect.getInputStream(e); InputStream is1 = actual.getInputStream(e1)) {
+                assertArrayEquals(e.getName(), readAll(is), readAll(is1));
+            }
+        }
+    }
+
+    private static byte[] readAll(InputStream is) throws IOException {
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        byte[] buf = new byte[1 << 12];
+        for (int n; (n = is.read(buf)) > 0; ) bos.write(buf, 0, n);
+        is.close();
+        return bos.toByteArray();
+    }
+}